@@ -0,0 +1,37 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+import net.ltgt.gradle.errorprone.errorprone
+
+plugins {
+    id("com.atlan.java")
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmhImplementation(project(":sdk"))
+    jmhImplementation(project(":package-toolkit:runtime"))
+    jmhImplementation(libs.kotlin.logging)
+    jmhImplementation(libs.wiremock)
+    jmhRuntimeOnly(libs.bundles.log4j)
+}
+
+// Run with: ./gradlew :benchmarks:jmh
+// - limit to particular benchmarks with: -PjmhIncludes=AssetSerde,StringUtils (regular expressions)
+// - results are written as JSON to build/results/jmh/results.json, for comparison between releases
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.set(it.split(",")) }
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    jvmArgs.addAll("-Xms2g", "-Xmx2g")
+}
+
+tasks {
+    // Code generated by JMH itself does not adhere to our own compiler checks
+    named<JavaCompile>("jmhCompileGeneratedClasses") {
+        options.errorprone.isEnabled.set(false)
+        options.compilerArgs.remove("-Werror")
+    }
+}
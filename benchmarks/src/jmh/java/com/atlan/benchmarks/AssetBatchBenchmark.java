@@ -0,0 +1,77 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.benchmarks;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+import com.atlan.AtlanClient;
+import com.atlan.exception.AtlanException;
+import com.atlan.model.assets.Asset;
+import com.atlan.model.core.AssetMutationResponse;
+import com.atlan.util.AssetBatch;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * End-to-end cost of batching assets for saving: accumulating them, serializing each batch, sending it and
+ * processing the response. The tenant is a local stub that responds immediately, so that the results
+ * reflect the overhead in the SDK itself rather than any network or tenant latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AssetBatchBenchmark {
+
+    @Param({"1000"})
+    public int assetCount;
+
+    @Param({"20", "100"})
+    public int batchSize;
+
+    private WireMockServer server;
+    private AtlanClient client;
+    private List<Asset> assets;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        server = new WireMockServer(options().dynamicPort());
+        server.start();
+        client = new AtlanClient(server.baseUrl(), "benchmark");
+        assets = Fixtures.assets(assetCount);
+        // Every batch receives the same response: the work of matching up the response is
+        // still done, without needing the stub to interpret each request.
+        StringBuilder sb = new StringBuilder("{\"mutatedEntities\":{\"UPDATE\":[");
+        for (int i = 0; i < batchSize; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(client.writeValueAsString(assets.get(i)));
+        }
+        sb.append("]}}");
+        server.stubFor(post(urlPathEqualTo("/api/meta/entity/bulk"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(sb.toString())));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public AssetMutationResponse saveInBatches() throws AtlanException {
+        try (AssetBatch batch = new AssetBatch(client, batchSize)) {
+            for (Asset asset : assets) {
+                batch.add(asset);
+            }
+            return batch.flush();
+        }
+    }
+}
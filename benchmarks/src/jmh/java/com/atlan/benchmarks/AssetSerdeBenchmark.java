@@ -0,0 +1,64 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.benchmarks;
+
+import com.atlan.AtlanClient;
+import com.atlan.model.assets.Asset;
+import com.atlan.model.search.IndexSearchResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of (de)serializing assets: a full page of search results from JSON, and each asset
+ * of such a page to JSON (as is done when saving assets).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AssetSerdeBenchmark {
+
+    @Param({"20", "100", "1000"})
+    public int pageSize;
+
+    private AtlanClient client;
+    private List<Asset> assets;
+    private String page;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        client = Fixtures.offlineClient();
+        assets = Fixtures.assets(pageSize);
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"queryType\":\"INDEX\",\"approximateCount\":")
+                .append(pageSize)
+                .append(",\"entities\":[");
+        for (int i = 0; i < assets.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(client.writeValueAsString(assets.get(i)));
+        }
+        sb.append("]}");
+        page = sb.toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public IndexSearchResponse deserializePage() throws IOException {
+        return client.readValue(page, IndexSearchResponse.class);
+    }
+
+    @Benchmark
+    public void serializeAssets(Blackhole bh) throws IOException {
+        for (Asset asset : assets) {
+            bh.consume(client.writeValueAsString(asset));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.benchmarks;
+
+import com.atlan.AtlanClient;
+import com.atlan.pkg.CustomConfig;
+import com.atlan.pkg.PackageContext;
+import com.atlan.pkg.Utils;
+import com.atlan.pkg.serde.RowDeserialization;
+import com.atlan.pkg.serde.RowDeserializer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import mu.KLogger;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of translating rows of CSV into assets, as done (for every row) when packages load CSV files.
+ * Only columns that can be translated without reaching out to a tenant are included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CsvRowBenchmark {
+
+    private static final List<String> HEADING = List.of(
+            "typeName",
+            "qualifiedName",
+            "name",
+            "connectorName",
+            "connectionQualifiedName",
+            "tableName",
+            "tableQualifiedName",
+            "description",
+            "userDescription",
+            "certificateStatus",
+            "certificateStatusMessage",
+            "dataType",
+            "order",
+            "isNullable");
+
+    @Param({"1000"})
+    public int rows;
+
+    private AtlanClient client;
+    private PackageContext<BenchmarkConfig> ctx;
+    private KLogger logger;
+    private List<List<String>> data;
+
+    /** Configuration for the benchmark, which needs none of its own. */
+    public static class BenchmarkConfig extends CustomConfig<BenchmarkConfig> {}
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = Fixtures.offlineClient();
+        ctx = new PackageContext<>(new BenchmarkConfig(), client, true);
+        logger = Utils.INSTANCE.getLogger(CsvRowBenchmark.class.getName());
+        data = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            String tableQN = Fixtures.SCHEMA_QN + "/TABLE_" + (i / 10);
+            data.add(List.of(
+                    "Column",
+                    tableQN + "/COLUMN_" + i,
+                    "COLUMN_" + i,
+                    "snowflake",
+                    Fixtures.CONNECTION_QN,
+                    "TABLE_" + (i / 10),
+                    tableQN,
+                    "Column " + i + " of the table.",
+                    "",
+                    i % 2 == 0 ? "VERIFIED" : "DRAFT",
+                    i % 2 == 0 ? "Checked by the data team." : "",
+                    i % 2 == 0 ? "VARCHAR" : "NUMBER",
+                    String.valueOf(i % 10),
+                    i % 3 == 0 ? "false" : "true"));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ctx.close();
+        client.close();
+    }
+
+    @Benchmark
+    public void deserializeRows(Blackhole bh) {
+        for (List<String> row : data) {
+            RowDeserialization deserialized =
+                    new RowDeserializer(ctx, HEADING, row, 0, 1, row.get(0), row.get(1), logger, Set.of())
+                            .getAssets();
+            bh.consume(deserialized == null ? null : deserialized.getPrimary().build());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.benchmarks;
+
+import com.atlan.AtlanClient;
+import com.atlan.model.assets.Asset;
+import com.atlan.model.assets.Column;
+import com.atlan.model.assets.Schema;
+import com.atlan.model.assets.Table;
+import com.atlan.model.enums.AtlanStatus;
+import com.atlan.model.enums.CertificateStatus;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Realistic (but synthetic) assets shared across the benchmarks, so that results remain comparable
+ * between releases.
+ */
+final class Fixtures {
+
+    /** Base URL for clients that should never actually send any requests. */
+    static final String OFFLINE_URL = "http://localhost:65535";
+
+    static final String CONNECTION_QN = "default/snowflake/1234567890";
+    static final String SCHEMA_QN = CONNECTION_QN + "/ANALYTICS/REPORTING";
+
+    private Fixtures() {}
+
+    /**
+     * Create a client that will not (need to) send any requests.
+     *
+     * @return a client for benchmarks that do not interact with a tenant
+     */
+    static AtlanClient offlineClient() {
+        return new AtlanClient(OFFLINE_URL, "benchmark");
+    }
+
+    /**
+     * Build a page of assets in the mix typically seen in search results: tables, each followed by their columns.
+     *
+     * @param count total number of assets to build
+     * @return the assets
+     */
+    static List<Asset> assets(int count) {
+        List<Asset> assets = new ArrayList<>(count);
+        int tableIdx = 0;
+        while (assets.size() < count) {
+            String tableQN = SCHEMA_QN + "/TABLE_" + tableIdx;
+            assets.add(table(tableIdx, tableQN));
+            for (int col = 0; col < 9 && assets.size() < count; col++) {
+                assets.add(column(tableIdx, col, tableQN));
+            }
+            tableIdx++;
+        }
+        return assets;
+    }
+
+    static Table table(int idx, String qualifiedName) {
+        return Table._internal()
+                .guid(guid(idx, 0))
+                .qualifiedName(qualifiedName)
+                .name("TABLE_" + idx)
+                .status(AtlanStatus.ACTIVE)
+                .createdBy("service-account-apikey")
+                .updatedBy("jdoe")
+                .createTime(1700000000000L + idx)
+                .updateTime(1700000000000L + idx)
+                .connectionQualifiedName(CONNECTION_QN)
+                .connectorName("snowflake")
+                .databaseName("ANALYTICS")
+                .databaseQualifiedName(CONNECTION_QN + "/ANALYTICS")
+                .schemaName("REPORTING")
+                .schemaQualifiedName(SCHEMA_QN)
+                .schema(Schema.refByQualifiedName(SCHEMA_QN))
+                .description("Daily snapshot of reporting metrics for table " + idx + ".")
+                .certificateStatus(CertificateStatus.VERIFIED)
+                .ownerUser("jdoe")
+                .ownerUser("asmith")
+                .ownerGroup("data-engineering")
+                .columnCount(9L)
+                .rowCount(1234567L * (idx + 1))
+                .sizeBytes(987654321L)
+                .isPartitioned(false)
+                .build();
+    }
+
+    static Column column(int tableIdx, int idx, String tableQN) {
+        return Column._internal()
+                .guid(guid(tableIdx, idx + 1))
+                .qualifiedName(tableQN + "/COLUMN_" + idx)
+                .name("COLUMN_" + idx)
+                .status(AtlanStatus.ACTIVE)
+                .createdBy("service-account-apikey")
+                .updatedBy("service-account-apikey")
+                .createTime(1700000000000L + idx)
+                .updateTime(1700000000000L + idx)
+                .connectionQualifiedName(CONNECTION_QN)
+                .connectorName("snowflake")
+                .databaseName("ANALYTICS")
+                .databaseQualifiedName(CONNECTION_QN + "/ANALYTICS")
+                .schemaName("REPORTING")
+                .schemaQualifiedName(SCHEMA_QN)
+                .tableName("TABLE_" + tableIdx)
+                .tableQualifiedName(tableQN)
+                .table(Table.refByQualifiedName(tableQN))
+                .dataType(idx % 2 == 0 ? "VARCHAR" : "NUMBER")
+                .order(idx + 1)
+                .isNullable(idx % 3 != 0)
+                .userDescription("Column " + idx + " of table " + tableIdx + ".")
+                .build();
+    }
+
+    static String guid(int major, int minor) {
+        return String.format("%08x-0000-4000-8000-%012x", major, minor);
+    }
+}
@@ -0,0 +1,78 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.benchmarks;
+
+import com.atlan.AtlanClient;
+import com.atlan.cache.OffHeapAssetCache;
+import com.atlan.model.assets.Asset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of the off-heap (RocksDB-backed) asset cache operations used throughout packages: point lookups,
+ * writes and full iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OffHeapCacheBenchmark {
+
+    @Param({"1000", "100000"})
+    public int entries;
+
+    private AtlanClient client;
+    private OffHeapAssetCache cache;
+    private List<Asset> assets;
+    private int next = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = Fixtures.offlineClient();
+        cache = new OffHeapAssetCache(client, "benchmark");
+        assets = Fixtures.assets(entries);
+        for (Asset asset : assets) {
+            cache.add(asset);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cache.close();
+        client.close();
+    }
+
+    private Asset nextAsset() {
+        Asset asset = assets.get(next);
+        next = (next + 1) % assets.size();
+        return asset;
+    }
+
+    @Benchmark
+    public Asset get() {
+        return cache.get(nextAsset().getGuid());
+    }
+
+    @Benchmark
+    public void put() {
+        Asset asset = nextAsset();
+        cache.put(asset.getGuid(), asset);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void iterateValues(Blackhole bh) {
+        // Close the stream, to release the native iterator behind it
+        try (Stream<Asset> values = cache.values()) {
+            values.forEach(bh::consume);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long size() {
+        return cache.size();
+    }
+}
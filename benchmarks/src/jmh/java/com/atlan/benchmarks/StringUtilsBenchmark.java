@@ -0,0 +1,38 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.benchmarks;
+
+import com.atlan.util.StringUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Cost of the qualifiedName manipulation that is done for (nearly) every asset loaded by packages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringUtilsBenchmark {
+
+    private static final String COLUMN_QN = Fixtures.SCHEMA_QN + "/TABLE_0/COLUMN_0";
+
+    @Benchmark
+    public String connectionQualifiedName() {
+        return StringUtils.getConnectionQualifiedName(COLUMN_QN);
+    }
+
+    @Benchmark
+    public String parentQualifiedName() {
+        return StringUtils.getParentQualifiedNameFromQualifiedName(COLUMN_QN);
+    }
+
+    @Benchmark
+    public String nameFromQualifiedName() {
+        return StringUtils.getNameFromQualifiedName(COLUMN_QN);
+    }
+
+    @Benchmark
+    public String trimPathDelimiters() {
+        return StringUtils.trimPathDelimiters("/" + COLUMN_QN + "/");
+    }
+}
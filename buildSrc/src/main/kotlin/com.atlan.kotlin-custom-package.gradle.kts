@@ -1,6 +1,8 @@
 /* SPDX-License-Identifier: Apache-2.0 */
 import com.diffplug.gradle.spotless.SpotlessTask
 import org.jetbrains.kotlin.gradle.dsl.JvmTarget
+import org.gradle.process.CommandLineArgumentProvider
+import java.time.Duration
 
 val jarPath = "$rootDir/jars"
 
@@ -96,6 +98,117 @@ tasks {
     }
 }
 
+// Class-data sharing (CDS): train on a representative run of the package against the mock tenant, recording
+// every class it loads. The class list is written alongside the package's jar, so the container image can
+// dump an archive from it with the image's own JVM and classpath (which an archive must match exactly).
+// Each package must set extra["cdsTrainingConfig"] to a configuration that drives its main path: requests
+// from these runs are tagged (x-atlan-agent-id: cds-training) and answered by the cds-training-* mappings
+// of the mock tenant. Any input files the run needs go in src/test/resources/cds, and are copied into the
+// run's output directory (tmp) beforehand.
+val cdsDir = layout.buildDirectory.dir("cds")
+val cdsName = provider { tasks.jar.get().archiveBaseName.get() }
+val cdsMainClass =
+    provider {
+        // Unless overridden (extra["cdsMainClass"]), use the main class from the package's containerCommand
+        project.findProperty("cdsMainClass")?.toString() ?: run {
+            val pkl = file("src/main/resources/package.pkl").readText()
+            val command = Regex("containerCommand\\s*\\{([^}]*)}").find(pkl)?.groupValues?.get(1) ?: ""
+            Regex("\"([^\"]+)\"").findAll(command).lastOrNull()?.groupValues?.get(1)
+                ?: throw GradleException("No main class found in the containerCommand of package.pkl -- set extra[\"cdsMainClass\"].")
+        }
+    }
+val cdsTrainingConfig =
+    provider {
+        project.findProperty("cdsTrainingConfig")?.toString()
+            ?: throw GradleException("No CDS training configuration for the package -- set extra[\"cdsTrainingConfig\"].")
+    }
+val cdsRunDir = cdsDir.map { it.dir("run") }
+val cdsRunTimes = mutableMapOf<String, Long>()
+
+fun JavaExec.runAgainstMockTenant() {
+    group = "cds"
+    dependsOn(":startWireMock")
+    finalizedBy(":stopWireMock")
+    classpath = files(tasks.jar) + configurations.runtimeClasspath.get()
+    mainClass.set(cdsMainClass)
+    javaLauncher.set(javaToolchains.launcherFor { languageVersion.set(JavaLanguageVersion.of(17)) })
+    environment("ATLAN_BASE_URL", "http://localhost:8765")
+    environment("ATLAN_API_KEY", "unused")
+    environment("X_ATLAN_AGENT", "workflow")
+    environment("X_ATLAN_AGENT_ID", "cds-training")
+    // A run that exits early has not loaded the classes of the main path, so must fail the task
+    isIgnoreExitValue = false
+    timeout.set(Duration.ofMinutes(10))
+    workingDir(cdsRunDir)
+    doFirst {
+        environment("NESTED_CONFIG", cdsTrainingConfig.get())
+        val runDir = cdsRunDir.get().asFile
+        runDir.deleteRecursively()
+        val inputs = file("src/test/resources/cds")
+        if (inputs.exists()) {
+            inputs.copyRecursively(runDir.resolve("tmp"))
+        }
+        runDir.resolve("tmp").mkdirs()
+        cdsRunTimes[name] = System.nanoTime()
+    }
+    doLast {
+        cdsRunTimes[name] = (System.nanoTime() - cdsRunTimes.getValue(name)) / 1_000_000
+    }
+}
+
+val trainCdsArchive by tasks.registering(JavaExec::class) {
+    description = "Trains a class-data sharing (CDS) archive from a representative run of the package against the mock tenant."
+    runAgainstMockTenant()
+    jvmArgumentProviders.add(
+        CommandLineArgumentProvider {
+            listOf(
+                "-XX:DumpLoadedClassList=$jarPath/${cdsName.get()}.classlist",
+                "-XX:ArchiveClassesAtExit=${cdsDir.get().file("${cdsName.get()}.jsa").asFile}",
+            )
+        },
+    )
+}
+
+val cdsStartupBaseline by tasks.registering(JavaExec::class) {
+    description = "Runs the package against the mock tenant without its CDS archive, for comparison."
+    runAgainstMockTenant()
+    mustRunAfter(trainCdsArchive)
+    jvmArgumentProviders.add(
+        CommandLineArgumentProvider { listOf("-Xlog:class+load=info:file=${cdsDir.get().file("baseline.log").asFile}") },
+    )
+}
+
+val cdsStartupWithArchive by tasks.registering(JavaExec::class) {
+    description = "Runs the package against the mock tenant with its CDS archive, for comparison."
+    runAgainstMockTenant()
+    dependsOn(trainCdsArchive)
+    mustRunAfter(cdsStartupBaseline)
+    jvmArgumentProviders.add(
+        CommandLineArgumentProvider {
+            listOf(
+                "-XX:SharedArchiveFile=${cdsDir.get().file("${cdsName.get()}.jsa").asFile}",
+                "-Xlog:class+load=info:file=${cdsDir.get().file("archive.log").asFile}",
+            )
+        },
+    )
+}
+
+tasks.register("reportCdsStartup") {
+    group = "cds"
+    description = "Reports the startup of the package against the mock tenant, with and without its CDS archive."
+    dependsOn(cdsStartupBaseline, cdsStartupWithArchive)
+    doLast {
+        val report =
+            listOf("baseline" to cdsStartupBaseline.get(), "archive" to cdsStartupWithArchive.get()).joinToString("\n") { (log, task) ->
+                val loaded = cdsDir.get().file("$log.log").asFile.readLines().filter { it.contains("[class,load]") }
+                val shared = loaded.count { it.contains("source: shared objects file") }
+                "${cdsName.get()} ${task.name}: ${cdsRunTimes[task.name]} ms, ${loaded.size} classes loaded ($shared from CDS archives)"
+            }
+        cdsDir.get().file("startup.txt").asFile.writeText("$report\n")
+        logger.lifecycle("CDS startup report for ${cdsName.get()} (${cdsMainClass.get()}):\n$report")
+    }
+}
+
 kotlin {
     jvmToolchain(17)
     compilerOptions {
@@ -14,6 +14,7 @@ import com.atlan.pkg.cache.GlossaryCache
 import com.atlan.pkg.cache.LinkCache
 import com.atlan.pkg.cache.TermCache
 import com.atlan.pkg.cache.TypeDefCache
+import com.atlan.pkg.serde.RowPlan
 import com.atlan.pkg.serde.csv.ImportResults
 import java.util.concurrent.atomic.AtomicBoolean
 
@@ -39,6 +40,7 @@ class PackageContext<T : CustomConfig<T>>(
     val dataProductCache = DataProductCache(this)
     val linkCache = LinkCache(this)
     val typeDefCache = TypeDefCache(this)
+    val rowPlans = RowPlan.Cache()
     val processedResults =
         ImportResults(
             false,
@@ -15,6 +15,7 @@ import com.atlan.model.enums.AssetCreationHandling
 import com.atlan.model.enums.AtlanTagHandling
 import com.atlan.model.enums.CustomMetadataHandling
 import com.atlan.model.enums.LinkIdempotencyInvariant
+import com.atlan.net.EndpointMetrics
 import com.atlan.pkg.cache.PersistentConnectionCache
 import com.atlan.pkg.model.Credential
 import com.atlan.pkg.objectstore.ADLSCredential
@@ -28,13 +29,18 @@ import com.atlan.pkg.objectstore.S3Sync
 import com.fasterxml.jackson.databind.DeserializationFeature
 import com.fasterxml.jackson.module.kotlin.jacksonObjectMapper
 import com.fasterxml.jackson.module.kotlin.readValue
+import io.opentelemetry.api.common.AttributeKey
 import io.opentelemetry.api.common.Attributes
+import io.opentelemetry.api.metrics.Meter
 import io.opentelemetry.exporter.otlp.logs.OtlpGrpcLogRecordExporter
+import io.opentelemetry.exporter.otlp.metrics.OtlpGrpcMetricExporter
 import io.opentelemetry.instrumentation.log4j.appender.v2_17.OpenTelemetryAppender
 import io.opentelemetry.sdk.OpenTelemetrySdk
 import io.opentelemetry.sdk.autoconfigure.ResourceConfiguration
 import io.opentelemetry.sdk.logs.SdkLoggerProvider
 import io.opentelemetry.sdk.logs.export.BatchLogRecordProcessor
+import io.opentelemetry.sdk.metrics.SdkMeterProvider
+import io.opentelemetry.sdk.metrics.export.PeriodicMetricReader
 import io.opentelemetry.sdk.resources.Resource
 import jakarta.activation.FileDataSource
 import jakarta.mail.Message
@@ -105,6 +111,14 @@ object Utils {
         return sw.toString()
     }
 
+    /** Meter through which to export request metrics, if OpenTelemetry has been set up. */
+    private var requestMeter: Meter? = null
+
+    private val METHOD_KEY: AttributeKey<String> = AttributeKey.stringKey("http.request.method")
+    private val ROUTE_KEY: AttributeKey<String> = AttributeKey.stringKey("http.route")
+    private val LATENCY_KEY: AttributeKey<String> = AttributeKey.stringKey("atlan.latency.type")
+    private val QUANTILE_KEY: AttributeKey<String> = AttributeKey.stringKey("quantile")
+
     init {
         val openTelemetryEndpoint = System.getenv("OTEL_EXPORTER_OTLP_ENDPOINT")
         val openTelemetryResourceAttributes = System.getenv("OTEL_RESOURCE_ATTRIBUTES")
@@ -154,12 +168,101 @@ object Utils {
                 .setResource(resource)
                 .addLogRecordProcessor(BatchLogRecordProcessor.builder(logExporter).build())
                 .build()
+        val metricExporter: OtlpGrpcMetricExporter =
+            OtlpGrpcMetricExporter
+                .builder()
+                .setEndpoint(endpoint)
+                .build()
+        val meterProvider: SdkMeterProvider =
+            SdkMeterProvider
+                .builder()
+                .setResource(resource)
+                .registerMetricReader(PeriodicMetricReader.builder(metricExporter).build())
+                .build()
         val openTelemetry =
-            OpenTelemetrySdk.builder().setLoggerProvider(logEmitterProvider).buildAndRegisterGlobal()
+            OpenTelemetrySdk
+                .builder()
+                .setLoggerProvider(logEmitterProvider)
+                .setMeterProvider(meterProvider)
+                .buildAndRegisterGlobal()
         Runtime.getRuntime().addShutdownHook(Thread { openTelemetry.close() })
         OpenTelemetryAppender.install(openTelemetry)
+        requestMeter = openTelemetry.getMeter("com.atlan.sdk")
     }
 
+    /**
+     * Export the per-endpoint request metrics of the provided client through OpenTelemetry
+     * (only if OpenTelemetry has been set up).
+     *
+     * @param client whose request metrics should be exported
+     */
+    fun exportRequestMetrics(client: AtlanClient) {
+        val meter = requestMeter ?: return
+        val registry = client.requestMetrics
+        fun counter(
+            name: String,
+            description: String,
+            unit: String,
+            value: (EndpointMetrics) -> Long,
+        ) {
+            meter
+                .counterBuilder(name)
+                .setDescription(description)
+                .setUnit(unit)
+                .buildWithCallback { measurement ->
+                    registry.all.forEach { measurement.record(value(it), endpointAttributes(it)) }
+                }
+        }
+        counter("atlan.sdk.requests", "Requests sent (including retries)", "{request}") { it.requests }
+        counter("atlan.sdk.requests.retried", "Retries of requests", "{request}") { it.retries }
+        counter("atlan.sdk.requests.throttled", "Requests rate-limited (429)", "{request}") { it.throttled }
+        counter("atlan.sdk.requests.locked", "Requests that hit a lock (423)", "{request}") { it.locked }
+        counter("atlan.sdk.requests.failed", "Requests that hit a server error (5xx)", "{request}") { it.serverErrors }
+        counter("atlan.sdk.request.body.size", "Bytes sent in request bodies", "By") { it.bytesOut }
+        counter("atlan.sdk.response.body.size", "Bytes received in response bodies", "By") { it.bytesIn }
+        counter("atlan.sdk.request.duration.sum", "Total time spent in requests", "ms") { it.total.sum }
+        meter
+            .gaugeBuilder("atlan.sdk.request.duration")
+            .setDescription("Latency of requests, by percentile")
+            .setUnit("ms")
+            .ofLongs()
+            .buildWithCallback { measurement ->
+                registry.all.forEach { endpoint ->
+                    val latencies =
+                        mapOf(
+                            "total" to endpoint.total,
+                            "upstream" to endpoint.upstream,
+                            "proxy" to endpoint.proxy,
+                        )
+                    latencies.forEach { (type, histogram) ->
+                        if (histogram.count > 0) {
+                            listOf("p50" to 0.5, "p95" to 0.95, "p99" to 0.99).forEach { (quantile, percentile) ->
+                                measurement.record(
+                                    histogram.getPercentile(percentile),
+                                    endpointAttributes(endpoint)
+                                        .toBuilder()
+                                        .put(LATENCY_KEY, type)
+                                        .put(QUANTILE_KEY, quantile)
+                                        .build(),
+                                )
+                            }
+                            measurement.record(
+                                histogram.max,
+                                endpointAttributes(endpoint)
+                                    .toBuilder()
+                                    .put(LATENCY_KEY, type)
+                                    .put(QUANTILE_KEY, "max")
+                                    .build(),
+                            )
+                        }
+                    }
+                }
+            }
+    }
+
+    private fun endpointAttributes(endpoint: EndpointMetrics): Attributes =
+        Attributes.of(METHOD_KEY, endpoint.method.name, ROUTE_KEY, endpoint.pathTemplate)
+
     val logger = getLogger(Utils.javaClass.name)
     val MAPPER = jacksonObjectMapper().apply { configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false) }
 
@@ -249,6 +352,7 @@ object Utils {
         val client = reuseCtx?.client ?: AtlanClient(baseUrl, apiToken, oauthClientId, oauthClientSecret, userId, true)
         if (reuseCtx?.client == null) {
             setWorkflowOpts(client, config.runtime)
+            exportRequestMetrics(client)
         }
         return PackageContext(config, client, reuseCtx?.client != null)
     }
@@ -298,6 +402,33 @@ object Utils {
         }
     }
 
+    /**
+     * Increments the provided counter by the number of things just processed (for example, a whole batch)
+     * and logs the progress of the job.
+     * Note: if batchSize is provided, will only log progress each time another increment of the batchSize is passed.
+     *
+     * @param counter an atomic counter indicating how many things have been processed
+     * @param total total number of things to be done
+     * @param logger through which to report the overall progress
+     * @param batchSize number of things that are done per batch of operations
+     * @param processed number of things that have just been processed
+     */
+    fun logProgress(
+        counter: AtomicLong,
+        total: Long,
+        logger: KLogger,
+        batchSize: Int,
+        processed: Int,
+    ) {
+        val localCount = counter.addAndGet(processed.toLong())
+        val previous = localCount - processed
+        if (batchSize <= 0 || localCount / batchSize != previous / batchSize || localCount == total) {
+            logger.info {
+                " ... processed $localCount/$total (${round((localCount.toDouble() / total) * 100)}%)"
+            }
+        }
+    }
+
     /**
      * Check if the utility is being run through a workflow, and if it is set up the various
      * workflow headers from the relevant environment variables against the default client.
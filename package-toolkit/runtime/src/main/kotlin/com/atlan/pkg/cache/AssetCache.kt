@@ -3,8 +3,10 @@
 package com.atlan.pkg.cache
 
 import com.atlan.cache.AbstractMassCache
+import com.atlan.cache.PersistentIdentityIndex
 import com.atlan.model.assets.Asset
 import com.atlan.model.enums.AtlanStatus
+import com.atlan.model.search.FluentSearch
 import com.atlan.pkg.PackageContext
 import com.atlan.pkg.Utils
 import java.util.concurrent.ConcurrentHashMap
@@ -29,6 +31,17 @@ abstract class AssetCache<T : Asset>(
     private var preloaded = AtomicBoolean(false)
     private val ignore: MutableMap<String, String?> = ConcurrentHashMap()
 
+    /** Persistent index of identities to GUIDs, if enabled (through ATLAN_PERSISTENT_INDEX) and supported by the cache. */
+    private val indexDelegate =
+        lazy {
+            if (Utils.getEnvVar(PERSISTENT_INDEX_ENV, "false").toBoolean() && indexSearch() != null) {
+                PersistentIdentityIndex.open(ctx.client, cacheName)
+            } else {
+                null
+            }
+        }
+    private val index: PersistentIdentityIndex? by indexDelegate
+
     init {
         this.bulkRefresh.set(false)
     }
@@ -41,6 +54,10 @@ abstract class AssetCache<T : Asset>(
      */
     fun getByIdentity(identity: String): T? {
         if (ignore.containsKey(identity)) return null
+        if (!isNameKnown(identity)) {
+            // Resolve through the persistent index first (if any), as looking up by GUID is much cheaper
+            index?.getGuid(identity)?.let { guid -> if (!ignore.containsKey(guid)) lookupById(guid) }
+        }
         if (!isNameKnown(identity)) lookupByName(identity)
         if (!isNameKnown(identity)) return null
         return getByName(identity, false) as T
@@ -136,12 +153,50 @@ abstract class AssetCache<T : Asset>(
      */
     abstract fun getIdentityForAsset(asset: T): String
 
-    /** Preload the cache (will only act once, in case called multiple times on the same cache) */
+    /**
+     * Search for all the assets this cache could hold (including any archived assets), used to keep a persistent
+     * index of their identities up-to-date across runs. Caches that cannot (cheaply) construct the identity of
+     * an asset from a search result should leave this as null, in which case no persistent index is used.
+     *
+     * @return a search for all the assets to index, or null if the cache does not support a persistent index
+     */
+    protected open fun indexSearch(): FluentSearch.FluentSearchBuilder<*, *>? = null
+
+    /**
+     * Preload the cache (will only act once, in case called multiple times on the same cache).
+     * When a persistent index is in use, only the changes since the last run are synced into the index
+     * (rather than every asset being loaded), and assets are then lazily loaded by their indexed GUIDs.
+     */
     @Synchronized
     fun preload() {
         if (!preloaded.get()) {
-            refreshIfNeeded()
+            val persistent = index
+            if (persistent != null) {
+                persistent.refresh(indexSearch()!!) { asset ->
+                    try {
+                        @Suppress("UNCHECKED_CAST")
+                        getIdentityForAsset(asset as T).ifBlank { null }
+                    } catch (e: RuntimeException) {
+                        logger.debug(e) { "Unable to identify asset for persistent index -- skipping it: ${asset.guid}" }
+                        null
+                    }
+                }
+            } else {
+                refreshIfNeeded()
+            }
             preloaded.set(true)
         }
     }
+
+    /** {@inheritDoc} */
+    override fun close() {
+        // Only close the index if it was ever opened (to avoid opening it just to close it)
+        if (indexDelegate.isInitialized()) index?.close()
+        super.close()
+    }
+
+    companion object {
+        /** Environment variable through which to enable persistent indexes of asset identities, across runs. */
+        const val PERSISTENT_INDEX_ENV = "ATLAN_PERSISTENT_INDEX"
+    }
 }
@@ -5,6 +5,7 @@ package com.atlan.pkg.cache
 import com.atlan.exception.AtlanException
 import com.atlan.model.assets.Glossary
 import com.atlan.model.fields.AtlanField
+import com.atlan.model.search.FluentSearch
 import com.atlan.net.HttpClient
 import com.atlan.pkg.PackageContext
 import com.atlan.pkg.Utils
@@ -76,6 +77,12 @@ class GlossaryCache(
     /** {@inheritDoc}  */
     override fun getIdentityForAsset(asset: Glossary): String = asset.name
 
+    /** {@inheritDoc} */
+    override fun indexSearch(): FluentSearch.FluentSearchBuilder<*, *> =
+        Glossary
+            .select(client, true)
+            .includesOnResults(includesOnResults)
+
     /** {@inheritDoc} */
     override fun refreshCache() {
         val count = Glossary.select(client).count()
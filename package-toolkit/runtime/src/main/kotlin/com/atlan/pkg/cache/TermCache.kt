@@ -6,6 +6,7 @@ import com.atlan.exception.AtlanException
 import com.atlan.model.assets.Glossary
 import com.atlan.model.assets.GlossaryTerm
 import com.atlan.model.fields.AtlanField
+import com.atlan.model.search.FluentSearch
 import com.atlan.net.HttpClient
 import com.atlan.pkg.PackageContext
 import com.atlan.pkg.Utils
@@ -111,6 +112,13 @@ class TermCache(
             "${asset.name}${GlossaryXformer.GLOSSARY_DELIMITER}$glossaryName"
         } ?: throw IllegalStateException("Term found with no anchor: ${asset.toJson(client)})")
 
+    /** {@inheritDoc} */
+    override fun indexSearch(): FluentSearch.FluentSearchBuilder<*, *> =
+        GlossaryTerm
+            .select(client, true)
+            .includesOnResults(includesOnResults)
+            .includesOnRelations(includesOnRelations)
+
     /**
      * Safe variant of [getIdentityForAsset] for tenant-wide scans. Catches the "term has no
      * anchor" inconsistency that can result from soft-deleted anchor edges left behind by
@@ -0,0 +1,147 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.pkg.serde
+
+import com.atlan.cache.ReflectionCache
+import com.atlan.model.assets.Asset
+import com.atlan.model.fields.AtlanField
+import com.atlan.model.fields.CustomMetadataField
+import com.atlan.pkg.PackageContext
+import mu.KLogger
+import java.util.concurrent.ConcurrentHashMap
+import java.util.function.Function
+
+/**
+ * Plan for serializing assets into rows of tabular data, for a fixed list of fields.
+ * For each class of asset, the plan is compiled once into an accessor for each field (calling the field's
+ * getter directly, rather than through reflection) and whether the field holds dates -- so serializing an
+ * asset is only a loop over the compiled columns.
+ * Note: like [RowSerializer], this will always serialize the qualifiedName and type of the asset as the first two columns.
+ *
+ * @param ctx context in which the package is running
+ * @param fields the full list of fields to be serialized from each asset, in the order they should be serialized
+ * @param logger through which to record any problems
+ * @param include whether to serialize a given field for a given class of asset (if not, the column will be left empty)
+ */
+class ExportPlan(
+    private val ctx: PackageContext<*>,
+    fields: List<AtlanField>,
+    private val logger: KLogger,
+    private val include: (Class<*>, AtlanField) -> Boolean = { _, _ -> true },
+) {
+    private val fields: List<AtlanField> =
+        listOf(Asset.QUALIFIED_NAME, Asset.TYPE_NAME) + fields.filter { it != Asset.QUALIFIED_NAME && it != Asset.TYPE_NAME }
+    private val compiled = ConcurrentHashMap<Class<*>, Array<Column>>()
+    private val buffers = ThreadLocal.withInitial { arrayOfNulls<String>(this.fields.size) }
+
+    /** Number of columns in each row. */
+    val width: Int
+        get() = fields.size
+
+    /**
+     * Serialize an asset into a new row of values.
+     *
+     * @param asset to serialize
+     * @return the row of values giving a tabular representation of the asset
+     */
+    fun getRow(asset: Asset): List<String> {
+        val row = arrayOfNulls<String>(width)
+        write(asset, row)
+        @Suppress("UNCHECKED_CAST")
+        return (row as Array<String>).asList()
+    }
+
+    /**
+     * Serialize an asset into a row of values that is reused for every asset serialized on the same thread.
+     * The values are therefore only valid until the next asset is serialized on the same thread, so must be
+     * consumed (for example, written out) immediately.
+     *
+     * @param asset to serialize
+     * @return the row of values giving a tabular representation of the asset
+     */
+    fun getReusableRow(asset: Asset): List<String> {
+        val row = buffers.get()
+        write(asset, row)
+        @Suppress("UNCHECKED_CAST")
+        return (row as Array<String>).asList()
+    }
+
+    /**
+     * Serialize an asset into the provided row of values.
+     *
+     * @param asset to serialize
+     * @param row into which to serialize the values, which must have (at least) as many elements as the plan has columns
+     */
+    fun write(
+        asset: Asset,
+        row: Array<String?>,
+    ) {
+        val columns = compiled.computeIfAbsent(asset.javaClass) { compile(it) }
+        for (i in columns.indices) {
+            row[i] = columns[i].encode(ctx, asset, logger)
+        }
+    }
+
+    private fun compile(assetClass: Class<*>): Array<Column> =
+        fields
+            .map { field ->
+                if (!include(assetClass, field)) {
+                    EmptyColumn
+                } else if (field is CustomMetadataField) {
+                    val attrId = ctx.client.customMetadataCache.getAttrIdForName(field.setName, field.attributeName)
+                    val attrDef = ctx.client.customMetadataCache.getAttributeDef(attrId)
+                    CustomMetadataColumn(field, attrDef.typeName.lowercase() == "date")
+                } else {
+                    val deserializedName = ReflectionCache.getDeserializedName(assetClass, field.atlanFieldName)
+                    FieldColumn(
+                        field,
+                        ReflectionCache.getAccessor(assetClass, deserializedName),
+                        ReflectionCache.isDate(assetClass, field.atlanFieldName),
+                    )
+                }
+            }.toTypedArray()
+
+    /** A single column of the plan, with everything needed to serialize its value already resolved. */
+    private sealed interface Column {
+        fun encode(
+            ctx: PackageContext<*>,
+            asset: Asset,
+            logger: KLogger,
+        ): String
+    }
+
+    /** Column that is never serialized for a given class of asset. */
+    private object EmptyColumn : Column {
+        override fun encode(
+            ctx: PackageContext<*>,
+            asset: Asset,
+            logger: KLogger,
+        ): String = ""
+    }
+
+    private class CustomMetadataColumn(
+        private val field: CustomMetadataField,
+        private val dates: Boolean,
+    ) : Column {
+        override fun encode(
+            ctx: PackageContext<*>,
+            asset: Asset,
+            logger: KLogger,
+        ): String {
+            val value = asset.getCustomMetadata(field.setName, field.attributeName)
+            return FieldSerde.encodeValue(ctx, asset, field, value, dates, logger)
+        }
+    }
+
+    private class FieldColumn(
+        private val field: AtlanField,
+        private val accessor: Function<Any, Any?>?,
+        private val dates: Boolean,
+    ) : Column {
+        override fun encode(
+            ctx: PackageContext<*>,
+            asset: Asset,
+            logger: KLogger,
+        ): String = FieldSerde.encodeValue(ctx, asset, field, accessor?.apply(asset), dates, logger)
+    }
+}
@@ -50,7 +50,29 @@ object FieldSerde {
             // TODO: confirm whether we should use this field name or the deserializedName
             dates = ReflectionCache.isDate(asset.javaClass, field.atlanFieldName)
         }
-        return try {
+        return encodeValue(ctx, asset, field, value, dates, logger)
+    }
+
+    /**
+     * Serialize a single field's value, once it has already been retrieved from an asset object.
+     *
+     * @param ctx context in which the custom package is running
+     * @param asset from which the value was retrieved
+     * @param field attribute within the asset from which the value was retrieved
+     * @param value of the field, on that asset
+     * @param dates whether the value is a date (or dates)
+     * @param logger through which to record any errors
+     * @return the serialized form of that field's value, from that asset
+     */
+    fun encodeValue(
+        ctx: PackageContext<*>,
+        asset: Asset,
+        field: AtlanField,
+        value: Any?,
+        dates: Boolean,
+        logger: KLogger,
+    ): String =
+        try {
             CellXformer.encode(ctx, value, field, asset.guid, dates)
         } catch (e: Exception) {
             if (FAIL_ON_ERRORS.get()) {
@@ -61,7 +83,6 @@ object FieldSerde {
             }
             ""
         }
-    }
 
     /**
      * Deserialize a single field's value from a row of tabular data.
@@ -77,28 +98,66 @@ object FieldSerde {
         value: String,
         setter: Method,
         logger: KLogger,
-    ): Any? {
-        val paramClass = ReflectionCache.getParameterOfMethod(setter)
-        var innerClass: Class<*>? = null
-        val fieldName = setter.name
-        if (Collection::class.java.isAssignableFrom(paramClass) || Map::class.java.isAssignableFrom(paramClass)) {
-            val paramType = ReflectionCache.getParameterizedTypeOfMethod(setter)
-            innerClass = ReflectionCache.getClassOfParameterizedType(paramType)
-        }
-        return try {
-            val assetClass = setter.declaringClass.enclosingClass
-            CellXformer.decode(ctx, assetClass, value, paramClass, innerClass, fieldName, logger)
+    ): Any? = getValueFromCell(ctx, value, getCellType(setter), logger)
+
+    /**
+     * Deserialize a single field's value from a row of tabular data.
+     *
+     * @param ctx context in which the custom package is running
+     * @param value the single field's value
+     * @param type of the value, as resolved from the setter that will be used to set the value onto the object
+     * @param logger through which to record any errors
+     * @return the deserialized form of that field's value
+     */
+    fun getValueFromCell(
+        ctx: PackageContext<*>,
+        value: String,
+        type: CellType,
+        logger: KLogger,
+    ): Any? =
+        try {
+            CellXformer.decode(ctx, type.assetClass, value, type.paramClass, type.innerClass, type.fieldName, logger)
         } catch (e: Exception) {
             if (FAIL_ON_ERRORS.get()) {
                 throw e
             } else {
-                logger.warn { "Unable to decode value from field -- skipping ${setter.name}: $value" }
+                logger.warn { "Unable to decode value from field -- skipping ${type.fieldName}: $value" }
                 logger.debug(e) { "Full stack trace:" }
             }
             null
         }
+
+    /**
+     * Resolve the type of value a setter expects, so it can be reused to deserialize many values for that setter.
+     *
+     * @param setter the method on the asset that will be used to set values onto the object
+     * @return the type of value the setter expects
+     */
+    fun getCellType(setter: Method): CellType {
+        val paramClass = ReflectionCache.getParameterOfMethod(setter)
+        var innerClass: Class<*>? = null
+        if (Collection::class.java.isAssignableFrom(paramClass) || Map::class.java.isAssignableFrom(paramClass)) {
+            val paramType = ReflectionCache.getParameterizedTypeOfMethod(setter)
+            innerClass = ReflectionCache.getClassOfParameterizedType(paramType)
+        }
+        return CellType(setter.declaringClass.enclosingClass, paramClass, innerClass, setter.name)
     }
 
+    /**
+     * Type of value expected by a setter, as needed to deserialize a value from a cell.
+     *
+     * @param assetClass class of the asset on which the setter exists
+     * @param paramClass class of the setter's parameter
+     * @param innerClass class within the setter's parameter, if it is a collection or map
+     * @param fieldName name of the field the setter sets
+     */
+    data class CellType(
+        val assetClass: Class<*>?,
+        val paramClass: Class<*>,
+        val innerClass: Class<*>?,
+        val fieldName: String,
+    )
+
     /**
      * Deserialize a single field's value from a row of tabular data, when that field
      * is stored as custom metadata.
@@ -42,6 +42,14 @@ class RowDeserializer(
     private val logger: KLogger,
     private val skipColumns: Set<String>,
 ) {
+    private val typeBuilderClass: Class<*>? by lazy {
+        try {
+            Serde.getBuilderClassForType(typeName)
+        } catch (e: ClassNotFoundException) {
+            null
+        }
+    }
+
     /**
      * Actually deserialize the provided inputs into a builder for an asset object.
      *
@@ -77,41 +85,35 @@ class RowDeserializer(
         } else {
             val deserialization = RowDeserialization(AssetBatch.AssetIdentity(partial.typeName, partial.qualifiedName), builder)
             val customMetadataMap = mutableMapOf<String, CustomMetadataAttributes.CustomMetadataAttributesBuilder<*, *>>()
-            for (i in heading.indices) {
-                val fieldName = heading[i]
-                if (!skipColumns.contains(fieldName)) {
-                    if (fieldName.isNotEmpty()) {
-                        val value = getValue(fieldName)
-                        if (fieldName.contains(CM_HEADING_DELIMITER) && value != null) {
-                            // Custom metadata field...
-                            val tokens = fieldName.split(CM_HEADING_DELIMITER)
-                            val setName = tokens[0]
-                            val attrName = tokens[1]
-                            if (!customMetadataMap.containsKey(setName)) {
-                                customMetadataMap[setName] = CustomMetadataAttributes.builder()
-                            }
-                            customMetadataMap[setName]!!.attribute(attrName, value)
-                        } else if (value != null) {
-                            // "Normal" field...
-                            val setter = ReflectionCache.getSetter(builder.javaClass, fieldName)
+            for (column in getPlan(builder.javaClass).columns) {
+                val value = column.decode(ctx, CSVXformer.trimWhitespace(row[column.index]), logger)
+                if (value != null) {
+                    when (column) {
+                        is RowPlan.CustomMetadataColumn -> {
+                            customMetadataMap
+                                .getOrPut(column.setName) { CustomMetadataAttributes.builder() }
+                                .attribute(column.attrName, value)
+                        }
+                        is RowPlan.FieldColumn -> {
+                            val setter = column.setter
                             if (setter != null) {
-                                if (AssetRefXformer.requiresHandling(fieldName, value)) {
+                                if (AssetRefXformer.requiresHandling(column.fieldName, value)) {
                                     if (value is Collection<*>) {
-                                        deserialization.related[fieldName] = value as Collection<Asset>
+                                        deserialization.related[column.fieldName] = value as Collection<Asset>
                                     } else {
-                                        deserialization.related[fieldName] = listOf(value as Asset)
+                                        deserialization.related[column.fieldName] = listOf(value as Asset)
                                     }
                                 } else {
                                     // Only set the value on the asset directly if it does not require
                                     // special handling, otherwise leave it to the special handling
                                     // to set the value (later)
-                                    if (fieldName == Asset.DOMAIN_GUIDS.atlanFieldName) {
+                                    if (column.isDomain) {
                                         if (value is ArrayList<*> && value.isNotEmpty() && value[0] is String) {
-                                            val dataDomain = DataDomainXformer.decode(ctx, value[0] as String, fieldName)
-                                            ReflectionCache.setValue(builder, fieldName, listOf(dataDomain.guid))
+                                            val dataDomain = DataDomainXformer.decode(ctx, value[0] as String, column.fieldName)
+                                            ReflectionCache.setValue(builder, setter, column.fieldName, listOf(dataDomain.guid))
                                         }
                                     } else {
-                                        ReflectionCache.setValue(builder, fieldName, value)
+                                        ReflectionCache.setValue(builder, setter, column.fieldName, value)
                                     }
                                 }
                             }
@@ -136,6 +138,10 @@ class RowDeserializer(
      * @return the decoded value for that cell
      */
     fun getValue(fieldName: String): Any? {
+        val column = typeBuilderClass?.let { getPlan(it).getColumn(fieldName) }
+        if (column != null) {
+            return column.decode(ctx, CSVXformer.trimWhitespace(row[column.index]), logger)
+        }
         val rValue = getRawValue(fieldName)
         return if (fieldName.contains(CM_HEADING_DELIMITER)) {
             // Custom metadata field...
@@ -174,6 +180,14 @@ class RowDeserializer(
         }
     }
 
+    /**
+     * Retrieve the (compiled) plan for decoding rows with this header, onto builders of the provided class.
+     *
+     * @param builderClass class of the builder onto which decoded values will be set
+     * @return the plan for decoding this row
+     */
+    private fun getPlan(builderClass: Class<*>): RowPlan = ctx.rowPlans.get(ctx, RowPlan.Key(typeName, builderClass, heading, skipColumns), logger)
+
     /**
      * Retrieve the raw cell value for the specified field -- without ANY decoding applied to it.
      *
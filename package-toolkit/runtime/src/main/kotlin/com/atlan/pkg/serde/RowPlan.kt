@@ -0,0 +1,214 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.pkg.serde
+
+import com.atlan.cache.ReflectionCache
+import com.atlan.model.assets.Asset
+import com.atlan.model.typedefs.AttributeDef
+import com.atlan.pkg.PackageContext
+import com.atlan.pkg.serde.FieldSerde.FAIL_ON_ERRORS
+import com.atlan.pkg.serde.RowSerde.CM_HEADING_DELIMITER
+import com.atlan.serde.Serde
+import mu.KLogger
+import java.lang.reflect.Method
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Plan for decoding rows of tabular data into assets of a single type, compiled once per header.
+ * Everything that does not vary between rows -- the position of each column, the setter for each field,
+ * the type of value each setter expects, and the definition of each custom metadata attribute -- is
+ * resolved when the plan is compiled, so that decoding a row is only a loop over the plan's columns.
+ *
+ * @param columns the columns of the header to decode, in the order they appear in the header
+ */
+class RowPlan private constructor(
+    val columns: List<Column>,
+) {
+    private val byName = columns.associateBy { it.fieldName }
+
+    /**
+     * Retrieve the compiled column for the specified field.
+     *
+     * @param fieldName of the column to retrieve
+     * @return the compiled column, or null if the field is not in the plan
+     */
+    fun getColumn(fieldName: String): Column? = byName[fieldName]
+
+    /**
+     * A single column of the header, with everything needed to decode its value already resolved.
+     *
+     * @param index position of the column in the header (and each row)
+     * @param fieldName name of the field in the column's heading
+     */
+    sealed class Column(
+        val index: Int,
+        val fieldName: String,
+    ) {
+        /**
+         * Decode the value of this column from a row.
+         *
+         * @param ctx context in which the package is running
+         * @param raw value of the cell in this column, with whitespace already trimmed
+         * @param logger through which to record any problems
+         * @return the decoded value of the cell
+         */
+        abstract fun decode(
+            ctx: PackageContext<*>,
+            raw: String,
+            logger: KLogger,
+        ): Any?
+    }
+
+    /**
+     * Column for a custom metadata attribute.
+     *
+     * @param setName name of the custom metadata set
+     * @param attrName name of the attribute within the custom metadata set
+     * @param attrDef definition of the attribute, or null if it could not be found (in which case no value is decoded)
+     */
+    class CustomMetadataColumn(
+        index: Int,
+        fieldName: String,
+        val setName: String,
+        val attrName: String,
+        private val attrDef: AttributeDef?,
+    ) : Column(index, fieldName) {
+        /** {@inheritDoc} */
+        override fun decode(
+            ctx: PackageContext<*>,
+            raw: String,
+            logger: KLogger,
+        ): Any? = attrDef?.let { FieldSerde.getCustomMetadataValueFromString(ctx, setName, it, raw, logger) }
+    }
+
+    /**
+     * Column for a field of the asset itself.
+     *
+     * @param type of value expected by the field, or null if this is not a "real" field (so its value is only a string)
+     * @param setter method through which to set the value onto the asset's builder, or null if the builder has no such field
+     */
+    class FieldColumn(
+        index: Int,
+        fieldName: String,
+        private val type: FieldSerde.CellType?,
+        val setter: Method?,
+    ) : Column(index, fieldName) {
+        /** Whether this column holds the domains of the asset (which must first be resolved). */
+        val isDomain = fieldName == Asset.DOMAIN_GUIDS.atlanFieldName
+
+        /** {@inheritDoc} */
+        override fun decode(
+            ctx: PackageContext<*>,
+            raw: String,
+            logger: KLogger,
+        ): Any? =
+            if (type != null) {
+                FieldSerde.getValueFromCell(ctx, raw, type, logger)
+            } else {
+                raw
+            }
+    }
+
+    /**
+     * Key identifying a compiled plan.
+     *
+     * @param typeName of the assets the rows represent
+     * @param builderClass class of the builder onto which the decoded values will be set
+     * @param heading the list of field names, in the order they appear as columns in the tabular data
+     * @param skipColumns columns to skip, i.e. that need to be processed in a later pass
+     */
+    data class Key(
+        val typeName: String,
+        val builderClass: Class<*>,
+        val heading: List<String>,
+        val skipColumns: Set<String>,
+    )
+
+    /** Plans already compiled within a single package context. */
+    class Cache {
+        private val plans = ConcurrentHashMap<Key, RowPlan>()
+
+        /**
+         * Retrieve the plan for decoding rows with the provided header, compiling it if it has not been compiled already.
+         *
+         * @param ctx context in which the package is running
+         * @param key identifying the plan
+         * @param logger through which to record any problems
+         * @return the compiled plan
+         */
+        fun get(
+            ctx: PackageContext<*>,
+            key: Key,
+            logger: KLogger,
+        ): RowPlan {
+            val existing = plans[key]
+            if (existing != null) return existing
+            // Note: compile outside of the map, as it may need to look up custom metadata definitions on the tenant
+            return plans.putIfAbsent(key, compile(ctx, key, logger)) ?: plans[key]!!
+        }
+
+        /** Remove every compiled plan, for example after custom metadata definitions have changed. */
+        fun clear() {
+            plans.clear()
+        }
+    }
+
+    companion object {
+        /**
+         * Compile a plan for decoding rows with the provided header.
+         *
+         * @param ctx context in which the package is running
+         * @param key identifying the plan to compile
+         * @param logger through which to record any problems
+         * @return the compiled plan
+         */
+        fun compile(
+            ctx: PackageContext<*>,
+            key: Key,
+            logger: KLogger,
+        ): RowPlan {
+            val typeBuilderClass = Serde.getBuilderClassForType(key.typeName)
+            val columns = mutableListOf<Column>()
+            val seen = mutableSetOf<String>()
+            for ((i, fieldName) in key.heading.withIndex()) {
+                // Only the first column for any given field is ever decoded
+                if (fieldName.isEmpty() || key.skipColumns.contains(fieldName) || !seen.add(fieldName)) continue
+                if (fieldName.contains(CM_HEADING_DELIMITER)) {
+                    val tokens = fieldName.split(CM_HEADING_DELIMITER)
+                    val setName = tokens[0]
+                    val attrName = tokens[1]
+                    columns.add(CustomMetadataColumn(i, fieldName, setName, attrName, getAttributeDef(ctx, setName, attrName, fieldName, logger)))
+                } else {
+                    // Values are decoded based on the type's own builder, but set through the provided builder
+                    val decoder = ReflectionCache.getSetter(typeBuilderClass, fieldName)
+                    val setter = ReflectionCache.getSetter(key.builderClass, fieldName)
+                    columns.add(FieldColumn(i, fieldName, decoder?.let { FieldSerde.getCellType(it) }, setter))
+                }
+            }
+            return RowPlan(columns)
+        }
+
+        private fun getAttributeDef(
+            ctx: PackageContext<*>,
+            setName: String,
+            attrName: String,
+            fieldName: String,
+            logger: KLogger,
+        ): AttributeDef? {
+            val cache = ctx.client.customMetadataCache
+            val attrId =
+                try {
+                    cache.getAttrIdForName(setName, attrName)
+                } catch (e: Exception) {
+                    if (FAIL_ON_ERRORS.get()) {
+                        throw e
+                    } else {
+                        logger.warn { "Unable to find specified attribute, will skip its value: $fieldName" }
+                        logger.debug(e) { "Full stack trace:" }
+                    }
+                    null
+                }
+            return attrId?.let { cache.getAttributeDef(it) }
+        }
+    }
+}
@@ -10,6 +10,7 @@ import mu.KLogger
 /**
  * Class to generally serialize an asset object into a row of tabular data.
  * Note: this will always serialize the qualifiedName and type of the asset as the first two columns.
+ * When serializing many assets with the same fields, use an [ExportPlan] instead.
  *
  * @param ctx context in which the package is running
  * @param asset the asset to be serialized
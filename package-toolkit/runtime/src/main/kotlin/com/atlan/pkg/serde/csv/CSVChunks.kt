@@ -0,0 +1,211 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.pkg.serde.csv
+
+import java.io.IOException
+import java.io.InputStream
+import java.io.InputStreamReader
+import java.io.Reader
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+
+/**
+ * Byte ranges of a CSV file that each hold only complete records, so that every range can be
+ * parsed independently (and in parallel) directly from the original file -- without first having
+ * to re-write the records into separate files.
+ *
+ * @param path location of the CSV file
+ * @param ranges portions of the file, each of which starts and ends on a record boundary
+ */
+class CSVChunks private constructor(
+    val path: Path,
+    val ranges: List<Range>,
+) {
+    /**
+     * A portion of a CSV file that starts and ends on a record boundary.
+     *
+     * @param offset byte position in the file at which the range starts
+     * @param length number of bytes in the range
+     */
+    data class Range(
+        val offset: Long,
+        val length: Long,
+    )
+
+    /**
+     * Open a reader over the characters in a range of the file, memory-mapped from the file itself.
+     * Ranges larger than a single mapping (such as the single range left when quoting is ambiguous)
+     * are read through successive mappings.
+     *
+     * @param range of the file to read
+     * @return a reader over the characters in only that range of the file
+     */
+    @Throws(IOException::class)
+    fun open(range: Range): Reader = InputStreamReader(MappedRangeInputStream(path, range, mappingLimit), Charsets.UTF_8)
+
+    /**
+     * Bytes of a range of a file, mapped one window at a time as they are read.
+     *
+     * @param path location of the file
+     * @param range of the file to read
+     * @param windowSize largest number of bytes to map at once
+     */
+    private class MappedRangeInputStream(
+        private val path: Path,
+        range: Range,
+        private val windowSize: Long,
+    ) : InputStream() {
+        private val end = range.offset + range.length
+        private var position = range.offset
+        private var buffer: ByteBuffer = ByteBuffer.allocate(0)
+
+        private fun fill(): Boolean {
+            if (buffer.hasRemaining()) return true
+            if (position >= end) return false
+            val length = minOf(windowSize, end - position)
+            buffer =
+                FileChannel.open(path, StandardOpenOption.READ).use { channel ->
+                    // Note: the mapping remains valid even once the channel is closed
+                    channel.map(FileChannel.MapMode.READ_ONLY, position, length)
+                }
+            position += length
+            return true
+        }
+
+        override fun read(): Int = if (fill()) buffer.get().toInt() and 0xFF else -1
+
+        override fun read(
+            b: ByteArray,
+            off: Int,
+            len: Int,
+        ): Int {
+            if (len == 0) return 0
+            if (!fill()) return -1
+            val n = minOf(len, buffer.remaining())
+            buffer.get(b, off, n)
+            return n
+        }
+
+        override fun available(): Int = buffer.remaining()
+    }
+
+    companion object {
+        /** Largest range to map at once (mappings are limited to 2GB). */
+        private const val MAX_RANGE = Int.MAX_VALUE.toLong()
+
+        /** Largest number of bytes to map at once (only ever lowered for testing). */
+        internal var mappingLimit = MAX_RANGE
+
+        /**
+         * Split a CSV file into ranges of (roughly) equal size, in a single scan over its bytes.
+         * Record boundaries are newlines that fall outside any quoted value, so values that themselves
+         * contain newlines are never split across ranges. A quote only opens a quoted value at the start of
+         * a field (as for the parser, a quote anywhere else in an unquoted value is just part of the value).
+         * If the quoting cannot be followed unambiguously, the records are left in a single range.
+         * The header row is excluded from all ranges.
+         * Note: this relies on the file being UTF-8 (or ASCII), where quote, separator and newline bytes can
+         * never be part of a multibyte character.
+         *
+         * @param path location of the CSV file to split
+         * @param chunks number of ranges into which to (try to) split the file
+         * @param fieldSeparator character used to separate fields in the file
+         * @param quoteCharacter character used to quote values in the file
+         * @return the ranges of the file, each holding only complete records
+         */
+        @Throws(IOException::class)
+        fun split(
+            path: Path,
+            chunks: Int,
+            fieldSeparator: Char = ',',
+            quoteCharacter: Char = '"',
+        ): CSVChunks {
+            val quote = quoteCharacter.code.toByte()
+            val separator = fieldSeparator.code.toByte()
+            val newline = '\n'.code.toByte()
+            val carriageReturn = '\r'.code.toByte()
+            val ranges = mutableListOf<Range>()
+            FileChannel.open(path, StandardOpenOption.READ).use { channel ->
+                val size = channel.size()
+                val target = maxOf(1L, minOf(size / maxOf(1, chunks), mappingLimit / 2))
+                var headerEnd = -1L
+                var start = -1L // not yet past the header
+                var fieldStart = true
+                var inQuotes = false
+                var quotePending = false // in a quoted value, just after a quote (either closing it or escaping another)
+                var ambiguous = false
+                var position = 0L
+                scan@ while (position < size) {
+                    val window = channel.map(FileChannel.MapMode.READ_ONLY, position, minOf(mappingLimit, size - position))
+                    while (window.hasRemaining()) {
+                        val b = window.get()
+                        if (inQuotes) {
+                            if (b == quote) {
+                                // An escaped quote ("") leaves the value open
+                                quotePending = !quotePending
+                                continue
+                            } else if (!quotePending) {
+                                continue
+                            }
+                            // The previous quote closed the value, which must then end the field
+                            inQuotes = false
+                            quotePending = false
+                            if (b != separator && b != newline && b != carriageReturn) {
+                                ambiguous = true
+                                break@scan
+                            }
+                        }
+                        if (b == quote && fieldStart) {
+                            inQuotes = true
+                            fieldStart = false
+                        } else if (b == separator) {
+                            fieldStart = true
+                        } else if (b == newline) {
+                            fieldStart = true
+                            val end = position + window.position()
+                            if (start < 0) {
+                                headerEnd = end
+                                start = end
+                            } else if (end - start >= target) {
+                                ranges.add(Range(start, end - start))
+                                start = end
+                            }
+                        } else if (b != carriageReturn) {
+                            fieldStart = false
+                        }
+                    }
+                    position += window.limit()
+                }
+                if (inQuotes && !quotePending) {
+                    // An unterminated quoted value
+                    ambiguous = true
+                }
+                if (ambiguous) {
+                    ranges.clear()
+                    start = if (headerEnd >= 0) headerEnd else firstNewline(channel)
+                }
+                if (start in 0 until size) {
+                    ranges.add(Range(start, size - start))
+                }
+            }
+            return CSVChunks(path, ranges)
+        }
+
+        /** Find the position just after the first newline in the file (or -1 if there is none). */
+        private fun firstNewline(channel: FileChannel): Long {
+            val size = channel.size()
+            var position = 0L
+            while (position < size) {
+                val window = channel.map(FileChannel.MapMode.READ_ONLY, position, minOf(mappingLimit, size - position))
+                while (window.hasRemaining()) {
+                    if (window.get() == '\n'.code.toByte()) {
+                        return position + window.position()
+                    }
+                }
+                position += window.limit()
+            }
+            return -1L
+        }
+    }
+}
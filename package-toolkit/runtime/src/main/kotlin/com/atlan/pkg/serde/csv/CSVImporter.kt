@@ -95,13 +95,21 @@ abstract class CSVImporter(
             linkIdempotency,
         ).use { csv ->
             val start = System.currentTimeMillis()
-            val results = csv.streamRows(ctx, this, batchSize, logger, columnsToSkip)
+            val results = csv.streamRows(ctx, this, batchSize, logger, columnsToSkip, getPartition())
             logger.info { "Total time taken: ${System.currentTimeMillis() - start} ms" }
             cacheCreated(results.primary.created?.values() ?: Stream.empty())
             return results
         }
     }
 
+    /**
+     * Rows of the file that have already been split out for the current import, if any.
+     * When provided, these are loaded instead of re-reading (and re-chunking) the whole file.
+     *
+     * @return the pre-split rows to load, or null to read the rows directly from the file
+     */
+    open fun getPartition(): CSVPartitions.Partition? = null
+
     /** {@inheritDoc} */
     override fun buildFromRow(
         row: List<String>,
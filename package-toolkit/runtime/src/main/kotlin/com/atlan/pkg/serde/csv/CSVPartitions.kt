@@ -0,0 +1,266 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.pkg.serde.csv
+
+import com.atlan.model.assets.Asset
+import de.siegmar.fastcsv.reader.CsvReader
+import de.siegmar.fastcsv.reader.CsvRecord
+import de.siegmar.fastcsv.reader.FieldMismatchStrategy
+import mu.KLogger
+import java.io.BufferedInputStream
+import java.io.BufferedOutputStream
+import java.io.Closeable
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.IOException
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.util.concurrent.ForkJoinPool
+
+/**
+ * Rows of a CSV file that have been split up front (in a single pass over the file) by some key,
+ * typically the typeName of the asset on each row. Each partition is further split into several
+ * segments, so that it can be loaded in parallel without re-reading (or re-chunking) the CSV file.
+ * Segments hold their rows in a compact binary form, so they are also much cheaper to read back
+ * than the CSV itself.
+ *
+ * Closing the partitions removes all the segments that were written for them.
+ *
+ * @param directory in which the segments of every partition are held
+ * @param partitions details of each partition, keyed by the value on which the rows were split
+ */
+class CSVPartitions private constructor(
+    private val directory: Path,
+    private val partitions: Map<String, Partition>,
+) : Closeable {
+    /** Values on which the rows were split (for example, the typeNames in the file). */
+    val keys: Set<String>
+        get() = partitions.keys
+
+    /**
+     * Retrieve the partition of rows for the provided key.
+     *
+     * @param key value on which the rows were split (for example, a typeName)
+     * @return the partition of rows for that key, or null if there were no rows for it
+     */
+    operator fun get(key: String): Partition? = partitions[key]
+
+    /** {@inheritDoc} */
+    @Throws(IOException::class)
+    override fun close() {
+        directory.toFile().deleteRecursively()
+    }
+
+    /**
+     * All the rows that share the same key.
+     *
+     * @param key value on which the rows were split (for example, a typeName)
+     * @param segments into which the rows were split, each of which can be read independently
+     */
+    class Partition(
+        val key: String,
+        val segments: List<Segment>,
+    ) {
+        /** Total number of rows across all segments of the partition. */
+        val rowCount: Long
+            get() = segments.sumOf { it.rowCount }
+    }
+
+    /**
+     * A portion of the rows of a partition, held in a compact binary form.
+     *
+     * @param path location of the segment's file
+     * @param rowCount number of rows in the segment
+     */
+    class Segment(
+        val path: Path,
+        val rowCount: Long,
+    ) {
+        /**
+         * Read back each row in the segment, in the order in which the rows were written.
+         *
+         * @param action to take on the values of each row
+         */
+        @Throws(IOException::class)
+        fun forEachRow(action: (List<String>) -> Unit) {
+            DataInputStream(BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE)).use { input ->
+                var buffer = ByteArray(256)
+                for (i in 0 until rowCount) {
+                    val fieldCount = readVarInt(input)
+                    val row = ArrayList<String>(fieldCount)
+                    for (j in 0 until fieldCount) {
+                        val length = readVarInt(input)
+                        if (length == 0) {
+                            row.add("")
+                        } else {
+                            if (length > buffer.size) buffer = ByteArray(maxOf(length, buffer.size * 2))
+                            input.readFully(buffer, 0, length)
+                            row.add(String(buffer, 0, length, Charsets.UTF_8))
+                        }
+                    }
+                    action(row)
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes rows into partitions (and segments) as they are provided, for example while the CSV file
+     * is being read for some other purpose (like preprocessing). Rows within a partition are distributed
+     * across its segments round-robin, so that the segments are evenly sized.
+     * Note: this is not thread-safe, rows should be provided from a single thread.
+     *
+     * @param segmentsPerPartition maximum number of segments into which to split each partition (by default, one per worker thread)
+     */
+    class Splitter(
+        private val segmentsPerPartition: Int = ForkJoinPool.getCommonPoolParallelism(),
+    ) : Closeable {
+        private val directory: Path = Files.createTempDirectory("csv_partitions_")
+        private val writers = mutableMapOf<String, MutableList<SegmentWriter>>()
+        private val nextSegment = mutableMapOf<String, Int>()
+        private var finished = false
+
+        /**
+         * Add a row into the partition for the provided key.
+         *
+         * @param key value on which to partition the row (for example, its typeName)
+         * @param row values of the row
+         */
+        @Throws(IOException::class)
+        fun add(
+            key: String,
+            row: List<String>,
+        ) {
+            val segments = writers.getOrPut(key) { mutableListOf() }
+            val idx = nextSegment.getOrDefault(key, 0)
+            if (idx >= segments.size) {
+                segments.add(SegmentWriter(Files.createTempFile(directory, "part_${writers.size}_${segments.size}_", ".bin")))
+            }
+            segments[idx].write(row)
+            nextSegment[key] = (idx + 1) % maxOf(1, segmentsPerPartition)
+        }
+
+        /**
+         * Complete the splitting of rows, so that the partitions can be read.
+         *
+         * @return the partitions of all rows that were added
+         */
+        @Throws(IOException::class)
+        fun finish(): CSVPartitions {
+            finished = true
+            val partitions =
+                writers.mapValues { (key, segments) ->
+                    Partition(key, segments.map { it.close() })
+                }
+            return CSVPartitions(directory, partitions)
+        }
+
+        /** {@inheritDoc} */
+        @Throws(IOException::class)
+        override fun close() {
+            if (!finished) {
+                // Abandoned before finishing, so nothing will ever read the segments
+                writers.values.flatten().forEach { it.close() }
+                directory.toFile().deleteRecursively()
+            }
+        }
+    }
+
+    private class SegmentWriter(
+        private val path: Path,
+    ) {
+        private val output = DataOutputStream(BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE))
+        private var rowCount = 0L
+        private var closed = false
+
+        fun write(row: List<String>) {
+            writeVarInt(output, row.size)
+            for (value in row) {
+                if (value.isEmpty()) {
+                    writeVarInt(output, 0)
+                } else {
+                    val bytes = value.toByteArray(Charsets.UTF_8)
+                    writeVarInt(output, bytes.size)
+                    output.write(bytes)
+                }
+            }
+            rowCount++
+        }
+
+        fun close(): Segment {
+            if (!closed) {
+                closed = true
+                output.close()
+            }
+            return Segment(path, rowCount)
+        }
+    }
+
+    companion object {
+        private const val BUFFER_SIZE = 64 * 1024
+
+        /**
+         * Split the rows of a CSV file into partitions by their typeName, in a single pass over the file.
+         *
+         * @param path location and filename of the CSV file to split
+         * @param fieldSeparator character used to separate fields (for example ',' or ';')
+         * @param logger through which to report progress
+         * @param segmentsPerPartition maximum number of segments into which to split each partition
+         * @return the partitions of the file's rows, by typeName
+         */
+        @Throws(IOException::class)
+        fun byTypeName(
+            path: String,
+            fieldSeparator: Char,
+            logger: KLogger,
+            segmentsPerPartition: Int = ForkJoinPool.getCommonPoolParallelism(),
+        ): CSVPartitions {
+            val header = CSVXformer.getHeader(path, fieldSeparator)
+            val typeIdx = header.indexOf(Asset.TYPE_NAME.atlanFieldName)
+            logger.info { "Splitting input CSV file by typeName..." }
+            Splitter(segmentsPerPartition).use { splitter ->
+                CsvReader
+                    .builder()
+                    .fieldSeparator(fieldSeparator)
+                    .quoteCharacter('"')
+                    .skipEmptyLines(true)
+                    .extraFieldStrategy(FieldMismatchStrategy.STRICT)
+                    .missingFieldStrategy(FieldMismatchStrategy.STRICT)
+                    .ofCsvRecord(Paths.get(path))
+                    .use { reader ->
+                        reader.stream().skip(1).forEach { r: CsvRecord ->
+                            val typeName = CSVXformer.trimWhitespace(r.fields.getOrElse(typeIdx) { "" })
+                            if (typeName.isNotBlank()) {
+                                splitter.add(typeName, r.fields)
+                            }
+                        }
+                    }
+                return splitter.finish()
+            }
+        }
+
+        private fun writeVarInt(
+            output: DataOutputStream,
+            value: Int,
+        ) {
+            var v = value
+            while (v and 0x7F.inv() != 0) {
+                output.writeByte((v and 0x7F) or 0x80)
+                v = v ushr 7
+            }
+            output.writeByte(v)
+        }
+
+        private fun readVarInt(input: DataInputStream): Int {
+            var result = 0
+            var shift = 0
+            while (true) {
+                val b = input.readUnsignedByte()
+                result = result or ((b and 0x7F) shl shift)
+                if (b and 0x80 == 0) return result
+                shift += 7
+            }
+        }
+    }
+}
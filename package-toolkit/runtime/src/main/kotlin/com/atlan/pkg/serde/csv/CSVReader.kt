@@ -12,6 +12,7 @@ import com.atlan.model.enums.AtlanTagHandling
 import com.atlan.model.enums.CustomMetadataHandling
 import com.atlan.model.enums.LinkIdempotencyInvariant
 import com.atlan.model.fields.AtlanField
+import com.atlan.model.search.IndexSearchDSL
 import com.atlan.pkg.PackageContext
 import com.atlan.pkg.Utils
 import com.atlan.pkg.serde.cell.AssetRefXformer
@@ -24,7 +25,6 @@ import de.siegmar.fastcsv.reader.FieldMismatchStrategy
 import mu.KLogger
 import java.io.Closeable
 import java.io.IOException
-import java.nio.file.Files
 import java.nio.file.Path
 import java.nio.file.Paths
 import java.util.concurrent.CompletableFuture
@@ -62,7 +62,7 @@ class CSVReader
         private val fieldSeparator: Char = ',',
         private val linkIdempotency: LinkIdempotencyInvariant = LinkIdempotencyInvariant.URL,
     ) : Closeable {
-        private val reader: CsvReader<CsvRecord>
+        private val inputFile: Path = Paths.get(path)
         private val counter: CsvReader<CsvRecord>
         private val preproc: CsvReader<CsvRecord>
         private val header: List<String> = CSVXformer.getHeader(path, fieldSeparator)
@@ -71,7 +71,6 @@ class CSVReader
         private val includesTags: Boolean = header.indexOf("atlanTags") != -1
 
         init {
-            val inputFile = Paths.get(path)
             val builder =
                 CsvReader
                     .builder()
@@ -80,7 +79,6 @@ class CSVReader
                     .skipEmptyLines(true)
                     .extraFieldStrategy(FieldMismatchStrategy.STRICT)
                     .missingFieldStrategy(FieldMismatchStrategy.STRICT)
-            reader = builder.ofCsvRecord(inputFile)
             counter = builder.ofCsvRecord(inputFile)
             preproc = builder.ofCsvRecord(inputFile)
         }
@@ -136,6 +134,7 @@ class CSVReader
          * @param batchSize maximum number of Assets to bulk-save in Atlan per API request
          * @param logger through which to report the overall progress
          * @param skipColumns columns to skip during the processing (i.e. where they need to be processed in a later pass)
+         * @param partition (optional) rows of the file already split out for this import, to load instead of re-reading the whole file
          * @return details of the results of the import
          */
         fun streamRows(
@@ -144,19 +143,35 @@ class CSVReader
             batchSize: Int,
             logger: KLogger,
             skipColumns: Set<String> = setOf(),
+            partition: CSVPartitions.Partition? = null,
         ): ImportResults {
             val deferDeletes: MutableMap<String, Set<AtlanField>> = ConcurrentHashMap()
             var someFailure = false
 
             val parallelism = ForkJoinPool.getCommonPoolParallelism()
-            val filteredRowCount = AtomicLong(0)
-            counter.stream().skip(1).forEach { row ->
-                if (rowToAsset.includeRow(row.fields, header, typeIdx, qualifiedNameIdx)) {
-                    filteredRowCount.incrementAndGet()
+            val totalRowCount =
+                if (partition != null) {
+                    // Rows were already split out up-front, so only their (compact) segments need to be scanned to
+                    // count those that will actually be loaded, rather than re-parsing the whole file
+                    val filteredRowCount = AtomicLong(0)
+                    partition.segments.parallelStream().forEach { segment ->
+                        segment.forEachRow { fields ->
+                            if (rowToAsset.includeRow(fields, header, typeIdx, qualifiedNameIdx)) {
+                                filteredRowCount.incrementAndGet()
+                            }
+                        }
+                    }
+                    filteredRowCount.get()
+                } else {
+                    val filteredRowCount = AtomicLong(0)
+                    counter.stream().skip(1).forEach { row ->
+                        if (rowToAsset.includeRow(row.fields, header, typeIdx, qualifiedNameIdx)) {
+                            filteredRowCount.incrementAndGet()
+                        }
+                    }
+                    counter.close()
+                    filteredRowCount.get()
                 }
-            }
-            counter.close()
-            val totalRowCount = filteredRowCount.get()
             ParallelBatch(
                 ctx.client,
                 batchSize,
@@ -182,38 +197,42 @@ class CSVReader
                     false,
                 ).use { relatedBatch ->
                     OffHeapDeferredCache(ctx.client, "related-holds").use { relatedHolds ->
-                        // Step 0: split the single file into one file per thread
-                        val csvChunkFiles = mutableListOf<Path>()
-                        val chunkSize = totalRowCount / parallelism
-                        val currentRecordCount = AtomicLong(0)
-                        var chunkPath = Files.createTempFile("chunk_0_", ".csv")
-                        var writer = CSVWriter(chunkPath.toString(), fieldSeparator)
-                        reader.stream().skip(1).forEach { row: CsvRecord ->
-                            // Split the original file up into multiple smaller files for parallel-processing
-                            if (rowToAsset.includeRow(row.fields, header, typeIdx, qualifiedNameIdx)) {
-                                // open initial file
-                                val current = currentRecordCount.incrementAndGet()
-                                writer.writeRecord(row.fields)
-                                if (current > chunkSize) {
-                                    writer.close()
-                                    csvChunkFiles.add(chunkPath)
-                                    currentRecordCount.set(0)
-                                    chunkPath = Files.createTempFile("chunk_${csvChunkFiles.size}_", ".csv")
-                                    writer = CSVWriter(chunkPath.toString(), fieldSeparator)
+                        val count = AtomicLong(0)
+
+                        fun loadRow(fields: List<String>) {
+                            val assets = rowToAsset.buildFromRow(fields, header, typeIdx, qualifiedNameIdx, skipColumns)
+                            if (assets != null) {
+                                try {
+                                    val asset = assets.primary.build()
+                                    primaryBatch.add(asset)
+                                    Utils.logProgress(count, totalRowCount, logger, batchSize)
+                                    if (assets.related.isNotEmpty()) {
+                                        relatedHolds.put(asset.guid, AssetBatch.RelatedAssetHold(asset, assets.related))
+                                    }
+                                    if (assets.delete.isNotEmpty()) {
+                                        deferDeletes[asset.guid] = assets.delete
+                                    }
+                                } catch (e: AtlanException) {
+                                    logger.error("Unable to load batch.", e)
                                 }
                             }
                         }
-                        reader.close()
-                        writer.close()
-                        if (currentRecordCount.get() > 0) {
-                            // If there are any remaining records, close the writer and add it
-                            csvChunkFiles.add(chunkPath)
-                        }
-                        // Step 1: load the main assets
-                        logger.info { "Loading a total of $totalRowCount assets..." }
-                        val count = AtomicLong(0)
-                        csvChunkFiles.parallelStream().forEach { f ->
-                            val reader =
+                        if (partition != null) {
+                            // Step 1: load the main assets, directly from the segments already split out for them
+                            logger.info { "Loading a total of $totalRowCount assets..." }
+                            partition.segments.parallelStream().forEach { segment ->
+                                segment.forEachRow { fields ->
+                                    if (rowToAsset.includeRow(fields, header, typeIdx, qualifiedNameIdx)) {
+                                        loadRow(fields)
+                                    }
+                                }
+                            }
+                        } else {
+                            // Step 0: split the single file into byte ranges of complete records, one (or more) per thread
+                            val chunks = CSVChunks.split(inputFile, parallelism, fieldSeparator)
+                            // Step 1: load the main assets, each range parsed directly from the (memory-mapped) file
+                            logger.info { "Loading a total of $totalRowCount assets..." }
+                            chunks.ranges.parallelStream().forEach { range ->
                                 CsvReader
                                     .builder()
                                     .fieldSeparator(fieldSeparator)
@@ -221,28 +240,16 @@ class CSVReader
                                     .skipEmptyLines(true)
                                     .extraFieldStrategy(FieldMismatchStrategy.STRICT)
                                     .missingFieldStrategy(FieldMismatchStrategy.STRICT)
-                                    .build(CsvRecordHandler.of(), f)
-                            reader.stream().forEach { r: CsvRecord ->
-                                val assets = rowToAsset.buildFromRow(r.fields, header, typeIdx, qualifiedNameIdx, skipColumns)
-                                if (assets != null) {
-                                    try {
-                                        val asset = assets.primary.build()
-                                        primaryBatch.add(asset)
-                                        Utils.logProgress(count, totalRowCount, logger, batchSize)
-                                        if (assets.related.isNotEmpty()) {
-                                            relatedHolds.put(asset.guid, AssetBatch.RelatedAssetHold(asset, assets.related))
-                                        }
-                                        if (assets.delete.isNotEmpty()) {
-                                            deferDeletes[asset.guid] = assets.delete
+                                    .build(CsvRecordHandler.of(), chunks.open(range))
+                                    .use { reader ->
+                                        reader.stream().forEach { r: CsvRecord ->
+                                            if (rowToAsset.includeRow(r.fields, header, typeIdx, qualifiedNameIdx)) {
+                                                loadRow(r.fields)
+                                            }
                                         }
-                                    } catch (e: AtlanException) {
-                                        logger.error("Unable to load batch.", e)
                                     }
-                                }
                             }
                         }
-                        // Delete temp files
-                        csvChunkFiles.forEach { it.toFile().delete() }
                         primaryBatch.flush()
                         val totalCreates = primaryBatch.numCreated
                         val totalUpdates = primaryBatch.numUpdated
@@ -310,43 +317,7 @@ class CSVReader
                         if (totalFailuresR.get() > 0) logger.warn { "Total related assets failed : $totalFailuresR" } else logger.info { "Total related assets failed : $totalFailuresR" }
 
                         // Step 4: bulk-delete any related assets marked for removal
-                        val totalToScan = searchAndDelete.size.toLong()
-                        val totalScanned = AtomicLong(0)
-                        val totalDeleted = AtomicLong(0)
-                        logger.info { "Scanning $totalToScan total assets in a final pass for orphaned asset removal." }
-                        searchAndDelete.entries.parallelStream().forEach { entry ->
-                            val guid = entry.key
-                            val fields = entry.value
-                            ctx.client.assets
-                                .select()
-                                .where(Asset.GUID.eq(guid))
-                                .includesOnResults(fields)
-                                .stream()
-                                .forEach { result ->
-                                    val guids = mutableListOf<String>()
-                                    for (field in fields) {
-                                        val getter = ReflectionCache.getGetter(result.javaClass, field.atlanFieldName)
-                                        if (getter != null) {
-                                            // Only proceed if this relationship actually exists for the asset being processed
-                                            val reference = getter.invoke(result)
-                                            if (reference is Asset) {
-                                                guids.add(reference.guid)
-                                            } else if (reference != null && Collection::class.java.isAssignableFrom(reference.javaClass)) {
-                                                for (element in reference as Collection<*>) {
-                                                    if (element is Asset) {
-                                                        guids.add(element.guid)
-                                                    }
-                                                }
-                                            }
-                                        }
-                                    }
-                                    if (guids.isNotEmpty()) {
-                                        val response = ctx.client.assets.delete(guids, AtlanDeleteType.SOFT)
-                                        totalDeleted.getAndAdd(response.deletedAssets.size.toLong())
-                                    }
-                                }
-                            Utils.logProgress(totalScanned, totalToScan, logger, batchSize)
-                        }
+                        val totalDeleted = deleteOrphans(ctx, searchAndDelete, batchSize, logger)
                         logger.info { "Total READMEs deleted: $totalDeleted" }
                         // Note: it looks weird that we combineAll here, but this is necessary to COPY contents of
                         // the details, as the originals will be auto-closed prior to returning
@@ -394,6 +365,77 @@ class CSVReader
             }
         }
 
+        /**
+         * Delete any related assets that have been orphaned by the load. Rather than searching for each
+         * asset individually, the assets are searched in pages (of GUIDs) and their related assets are
+         * then deleted in bulk.
+         *
+         * @param ctx context in which the custom package is running
+         * @param searchAndDelete relationships whose related assets should be removed, keyed by the GUID of the asset that holds them
+         * @param batchSize maximum number of related assets to delete through a single request
+         * @param logger through which to report progress
+         * @return the number of related assets that were deleted
+         */
+        internal fun deleteOrphans(
+            ctx: PackageContext<*>,
+            searchAndDelete: Map<String, Set<AtlanField>>,
+            batchSize: Int,
+            logger: KLogger,
+        ): Long {
+            val totalToScan = searchAndDelete.size.toLong()
+            val totalScanned = AtomicLong(0)
+            logger.info { "Scanning $totalToScan total assets in a final pass for orphaned asset removal." }
+            val toDelete: MutableSet<String> = ConcurrentHashMap.newKeySet()
+            // Only the same relationships can be retrieved through a single search, so group by them first
+            searchAndDelete.entries
+                .groupBy({ it.value }, { it.key })
+                .flatMap { (fields, guids) -> guids.chunked(IndexSearchDSL.DEFAULT_PAGE_SIZE).map { fields to it } }
+                .parallelStream()
+                .forEach { (fields, guids) ->
+                    ctx.client.assets
+                        .select()
+                        .where(Asset.GUID.`in`(guids))
+                        .pageSize(guids.size)
+                        .includesOnResults(fields)
+                        .stream()
+                        .forEach { result ->
+                            for (field in fields) {
+                                val getter = ReflectionCache.getGetter(result.javaClass, field.atlanFieldName)
+                                if (getter != null) {
+                                    // Only proceed if this relationship actually exists for the asset being processed
+                                    val reference = getter.invoke(result)
+                                    if (reference is Asset) {
+                                        reference.guid?.let { toDelete.add(it) }
+                                    } else if (reference is Collection<*>) {
+                                        for (element in reference) {
+                                            if (element is Asset) {
+                                                element.guid?.let { toDelete.add(it) }
+                                            }
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    Utils.logProgress(totalScanned, totalToScan, logger, IndexSearchDSL.DEFAULT_PAGE_SIZE, guids.size)
+                }
+            val totalDeleted = AtomicLong(0)
+            if (toDelete.isNotEmpty()) {
+                val totalToDelete = toDelete.size.toLong()
+                val processed = AtomicLong(0)
+                logger.info { "Deleting $totalToDelete orphaned assets." }
+                toDelete
+                    .toList()
+                    .chunked(maxOf(1, batchSize))
+                    .parallelStream()
+                    .forEach { guids ->
+                        val response = ctx.client.assets.delete(guids, AtlanDeleteType.SOFT)
+                        totalDeleted.getAndAdd(response.deletedAssets.size.toLong())
+                        Utils.logProgress(processed, totalToDelete, logger, batchSize, guids.size)
+                    }
+            }
+            return totalDeleted.get()
+        }
+
         private fun logFailures(
             b: ParallelBatch,
             logger: KLogger,
@@ -465,6 +507,5 @@ class CSVReader
         override fun close() {
             preproc.close()
             counter.close()
-            reader.close()
         }
     }
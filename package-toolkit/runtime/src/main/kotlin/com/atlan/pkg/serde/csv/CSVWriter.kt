@@ -112,8 +112,8 @@ class CSVWriter
             if (duplicate != null) {
                 logger.warn { "Hit a duplicate asset entry — there could be page skew: $duplicate" }
             }
-            val values = assetToRow.buildFromAsset(a)
-            writeRecord(values)
+            val values = assetToRow.buildReusableRow(a)
+            synchronized(writer) { writer.writeRecord(values) }
             Utils.logProgress(count, totalAssetCount, logger, pageSize)
         }
 
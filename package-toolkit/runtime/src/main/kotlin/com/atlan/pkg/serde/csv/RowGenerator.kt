@@ -15,4 +15,14 @@ interface RowGenerator {
      * @return the values, as an iterable set of strings
      */
     fun buildFromAsset(asset: Asset): Iterable<String>
+
+    /**
+     * Generate an iterable set of values for a tabular row of data from an asset object, where the values only need to
+     * remain valid until the next row is generated on the same thread (so that a generator can reuse the same buffer
+     * for every row, rather than allocating a new one). By default, this is the same as {@code buildFromAsset}.
+     *
+     * @param asset the asset from which to generate the values
+     * @return the values, as an iterable set of strings that must be consumed immediately
+     */
+    fun buildReusableRow(asset: Asset): Iterable<String> = buildFromAsset(asset)
 }
@@ -211,12 +211,12 @@ class FileBasedDelta(
         // purge them, if desired)
         val currentCount = AtomicLong(0)
         if (totalToTranslate < QUERY_BATCH) {
-            translate(client, assetsToDelete.entrySet().map { it.key.qualifiedName }.toList())
+            translate(client, assetsToDelete.keys().map { it.qualifiedName }.toList())
         } else {
             // Translate from qualifiedName to GUID in parallel
             assetsToDelete
-                .entrySet()
-                .map { it.key.qualifiedName }
+                .keys()
+                .map { it.qualifiedName }
                 .asSequence()
                 .chunked(QUERY_BATCH)
                 .toList()
@@ -283,7 +283,7 @@ class FileBasedDelta(
     private fun deleteAssetsByGuid(client: AtlanClient) {
         if (guidsToDeleteToDetails?.isNotEmpty == true) {
             val deletionType = if (purge) AtlanDeleteType.PURGE else AtlanDeleteType.SOFT
-            val guidList = guidsToDeleteToDetails!!.entrySet()
+            val guidList = guidsToDeleteToDetails!!.keys()
             val totalToDelete = guidsToDeleteToDetails!!.size
             if (removeTypes.isNotEmpty()) {
                 logger.info { " --- Deleting ($deletionType) $totalToDelete assets (limited to types: $removeTypes)... ---" }
@@ -293,7 +293,7 @@ class FileBasedDelta(
             val currentCount = AtomicLong(0)
             if (totalToDelete < DELETION_BATCH) {
                 if (totalToDelete > 0) {
-                    client.assets.delete(guidList.map { it.key }.toList(), deletionType)
+                    client.assets.delete(guidList.toList(), deletionType)
                 }
             } else {
                 // Delete in parallel
@@ -306,7 +306,7 @@ class FileBasedDelta(
                         val i = currentCount.getAndAdd(DELETION_BATCH.toLong())
                         logger.info { " ... next batch of $DELETION_BATCH (${round((i.toDouble() / totalToDelete) * 100)}%)" }
                         if (batch.isNotEmpty()) {
-                            client.assets.delete(batch.map { it.key }, deletionType)
+                            client.assets.delete(batch, deletionType)
                         }
                     }
             }
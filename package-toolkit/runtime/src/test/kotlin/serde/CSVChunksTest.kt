@@ -0,0 +1,106 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package serde
+
+import com.atlan.pkg.serde.csv.CSVChunks
+import com.atlan.pkg.serde.csv.CSVWriter
+import de.siegmar.fastcsv.reader.CsvReader
+import de.siegmar.fastcsv.reader.FieldMismatchStrategy
+import java.nio.file.Files
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+/**
+ * Test splitting a CSV file into byte ranges of complete records, and parsing each range directly.
+ */
+class CSVChunksTest {
+    companion object {
+        private val HEADER = listOf("qualifiedName", "name", "typeName", "description")
+    }
+
+    @Test
+    fun rangesHoldOnlyCompleteRecords() {
+        val path = Files.createTempFile("csv_chunks_test_", ".csv")
+        val rows =
+            (1..50).map {
+                val description = if (it % 3 == 0) "Multi-line\ndescription, with \"quotes\"\nfor $it" else "Ünïcödé $it"
+                listOf("default/snowflake/1234/db/sch/t$it", "t$it", "Table", description)
+            }
+        CSVWriter(path.toString()).use { csv ->
+            csv.writeHeader(HEADER)
+            rows.forEach { csv.writeRecord(it) }
+        }
+        val chunks = CSVChunks.split(path, 4)
+        assertTrue(chunks.ranges.size > 1)
+        val read = mutableListOf<List<String>>()
+        chunks.ranges.forEach { range ->
+            CsvReader.builder().ofCsvRecord(chunks.open(range)).use { reader ->
+                reader.stream().forEach { read.add(it.fields) }
+            }
+        }
+        assertEquals(rows, read)
+        Files.deleteIfExists(path)
+    }
+
+    @Test
+    fun strayQuotesInUnquotedValues() {
+        val path = Files.createTempFile("csv_chunks_test_", ".csv")
+        val lines =
+            (1..40).map {
+                // A stray quote in an unquoted value must not be mistaken for the start of a quoted value
+                if (it % 2 == 0) "t$it;Table;\"Multi-line\n\"\"description\"\"\nfor $it\"" else "t$it;Table;12\" screen $it"
+            }
+        Files.writeString(path, "name;typeName;description\n" + lines.joinToString("\n") + "\n")
+        val chunks = CSVChunks.split(path, 4, ';')
+        assertTrue(chunks.ranges.size > 1)
+        val read = mutableListOf<List<String>>()
+        chunks.ranges.forEach { range ->
+            CsvReader
+                .builder()
+                .fieldSeparator(';')
+                .extraFieldStrategy(FieldMismatchStrategy.STRICT)
+                .missingFieldStrategy(FieldMismatchStrategy.STRICT)
+                .ofCsvRecord(chunks.open(range))
+                .use { reader -> reader.stream().forEach { read.add(it.fields) } }
+        }
+        assertEquals(40, read.size)
+        assertEquals(listOf("t1", "Table", "12\" screen 1"), read[0])
+        assertEquals(listOf("t2", "Table", "Multi-line\n\"description\"\nfor 2"), read[1])
+        Files.deleteIfExists(path)
+    }
+
+    @Test
+    fun ambiguousQuotingLeavesSingleRange() {
+        val path = Files.createTempFile("csv_chunks_test_", ".csv")
+        val lines = (1..40).map { if (it == 5) "t$it,\"quoted\"trailing" else "t$it,Table" }
+        Files.writeString(path, "name,typeName\n" + lines.joinToString("\n") + "\n")
+        val chunks = CSVChunks.split(path, 4)
+        assertEquals(1, chunks.ranges.size)
+        assertEquals("name,typeName\n".length.toLong(), chunks.ranges[0].offset)
+        Files.deleteIfExists(path)
+    }
+
+    @Test
+    fun fallbackRangeLargerThanMapping() {
+        val path = Files.createTempFile("csv_chunks_test_", ".csv")
+        val lines = (1..40).map { if (it == 5) "t$it,\"quoted\"trailing" else "t$it,Ünïcödé $it" }
+        Files.writeString(path, "name,description\n" + lines.joinToString("\n") + "\n")
+        CSVChunks.mappingLimit = 16
+        try {
+            val chunks = CSVChunks.split(path, 4)
+            assertEquals(1, chunks.ranges.size)
+            assertTrue(chunks.ranges[0].length > CSVChunks.mappingLimit)
+            val read = mutableListOf<List<String>>()
+            CsvReader.builder().ofCsvRecord(chunks.open(chunks.ranges[0])).use { reader ->
+                reader.stream().forEach { read.add(it.fields) }
+            }
+            assertEquals(40, read.size)
+            assertEquals(listOf("t1", "Ünïcödé 1"), read[0])
+            assertEquals(listOf("t40", "Ünïcödé 40"), read[39])
+        } finally {
+            CSVChunks.mappingLimit = Int.MAX_VALUE.toLong()
+            Files.deleteIfExists(path)
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package serde
+
+import com.atlan.mock.MockAtlanTenant
+import com.atlan.mock.MockConfig
+import com.atlan.model.assets.Asset
+import com.atlan.pkg.PackageContext
+import com.atlan.pkg.Utils
+import com.atlan.pkg.Utils.getLogger
+import com.atlan.pkg.serde.csv.CSVReader
+import com.atlan.pkg.serde.csv.CSVWriter
+import java.nio.file.Files
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+/**
+ * Test the final pass of a load that removes related assets orphaned by it.
+ */
+class CSVOrphanDeletionTest {
+    private val logger = getLogger(this.javaClass.name)
+
+    companion object {
+        init {
+            MockAtlanTenant.initializeClient()
+        }
+
+        private val config = Utils.parseConfig<MockConfig>("{}", "{}")
+        private val ctx = PackageContext(config, MockAtlanTenant.client, true)
+    }
+
+    @Test
+    fun onlyExistingRelatedAssetsAreDeleted() {
+        val path = Files.createTempFile("csv_orphans_test_", ".csv")
+        CSVWriter(path.toString()).use { csv ->
+            csv.writeHeader(listOf("qualifiedName", "typeName", "name"))
+        }
+        try {
+            CSVReader(path.toString(), updateOnly = false).use { reader ->
+                val searchAndDelete =
+                    mapOf(
+                        "orphan-test-asset-1" to setOf(Asset.README),
+                        "orphan-test-asset-2" to setOf(Asset.README),
+                    )
+                assertEquals(1L, reader.deleteOrphans(ctx, searchAndDelete, 20, logger))
+            }
+        } finally {
+            Files.deleteIfExists(path)
+        }
+    }
+
+    @Test
+    fun nothingToScanDeletesNothing() {
+        val path = Files.createTempFile("csv_orphans_test_", ".csv")
+        CSVWriter(path.toString()).use { csv ->
+            csv.writeHeader(listOf("qualifiedName", "typeName", "name"))
+        }
+        try {
+            CSVReader(path.toString(), updateOnly = false).use { reader ->
+                assertEquals(0L, reader.deleteOrphans(ctx, emptyMap(), 20, logger))
+            }
+        } finally {
+            Files.deleteIfExists(path)
+        }
+    }
+}
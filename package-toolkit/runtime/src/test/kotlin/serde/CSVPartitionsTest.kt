@@ -0,0 +1,58 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package serde
+
+import com.atlan.pkg.Utils.getLogger
+import com.atlan.pkg.serde.csv.CSVPartitions
+import com.atlan.pkg.serde.csv.CSVWriter
+import java.nio.file.Files
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+/**
+ * Test splitting the rows of a CSV file by typeName, in a single pass, and reading them back from their segments.
+ */
+class CSVPartitionsTest {
+    private val logger = getLogger(this.javaClass.name)
+
+    companion object {
+        private val HEADER = listOf("qualifiedName", "name", "typeName", "description")
+    }
+
+    @Test
+    fun rowsAreSplitByTypeAndReadBackIntact() {
+        val path = Files.createTempFile("csv_partitions_test_", ".csv")
+        val tables = (1..5).map { listOf("default/snowflake/1234/db/sch/t$it", "t$it", "Table", "Table, with \"quotes\"") }
+        val columns = (1..7).map { listOf("default/snowflake/1234/db/sch/t1/c$it", "c$it", " Column ", if (it % 2 == 0) "" else "Ünïcödé $it") }
+        CSVWriter(path.toString()).use { csv ->
+            csv.writeHeader(HEADER)
+            tables.forEach { csv.writeRecord(it) }
+            columns.forEach { csv.writeRecord(it) }
+            csv.writeRecord(listOf("", "", "", ""))
+        }
+        val partitions = CSVPartitions.byTypeName(path.toString(), ',', logger, 3)
+        val directory = partitions["Table"]!!.segments[0].path.parent
+        partitions.use { split ->
+            assertEquals(setOf("Table", "Column"), split.keys)
+            assertNull(split[""])
+            val tablePartition = split["Table"]!!
+            assertEquals(5, tablePartition.rowCount)
+            assertEquals(3, tablePartition.segments.size)
+            val columnPartition = split["Column"]!!
+            assertEquals(7, columnPartition.rowCount)
+            assertEquals(listOf(3L, 2L, 2L), columnPartition.segments.map { it.rowCount })
+            val readTables = mutableListOf<List<String>>()
+            tablePartition.segments.forEach { segment -> segment.forEachRow { readTables.add(it) } }
+            assertEquals(tables.toSet(), readTables.toSet())
+            val readColumns = mutableListOf<List<String>>()
+            columnPartition.segments.forEach { segment -> segment.forEachRow { readColumns.add(it) } }
+            assertEquals(columns.toSet(), readColumns.toSet())
+            assertTrue(Files.exists(directory))
+        }
+        assertFalse(Files.exists(directory))
+        Files.deleteIfExists(path)
+    }
+}
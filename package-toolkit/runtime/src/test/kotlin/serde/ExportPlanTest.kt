@@ -0,0 +1,82 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package serde
+
+import com.atlan.mock.MockAtlanTenant
+import com.atlan.mock.MockConfig
+import com.atlan.model.assets.Asset
+import com.atlan.model.assets.Column
+import com.atlan.model.assets.Table
+import com.atlan.model.enums.CertificateStatus
+import com.atlan.pkg.PackageContext
+import com.atlan.pkg.Utils
+import com.atlan.pkg.Utils.getLogger
+import com.atlan.pkg.serde.ExportPlan
+import com.atlan.pkg.serde.RowSerializer
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+/**
+ * Test serializing assets through plans compiled once per class of asset.
+ */
+class ExportPlanTest {
+    private val logger = getLogger(this.javaClass.name)
+
+    companion object {
+        init {
+            MockAtlanTenant.initializeClient()
+        }
+
+        private val config = Utils.parseConfig<MockConfig>("{}", "{}")
+        private val ctx = PackageContext(config, MockAtlanTenant.client, true)
+        private val FIELDS = listOf(Asset.NAME, Asset.DESCRIPTION, Asset.CERTIFICATE_STATUS, Table.COLUMN_COUNT, Asset.UPDATE_TIME, Column.ORDER)
+
+        private val TABLE =
+            Table
+                ._internal()
+                .guid("guid-table")
+                .qualifiedName("default/snowflake/1234/db/sch/t1")
+                .name("t1")
+                .description("Some table.")
+                .certificateStatus(CertificateStatus.VERIFIED)
+                .columnCount(12L)
+                .updateTime(1700000000000L)
+                .build()
+
+        private val COLUMN =
+            Column
+                ._internal()
+                .guid("guid-column")
+                .qualifiedName("default/snowflake/1234/db/sch/t1/c1")
+                .name("c1")
+                .order(3)
+                .build()
+    }
+
+    @Test
+    fun sameRowsAsRowSerializer() {
+        val plan = ExportPlan(ctx, FIELDS, logger)
+        for (asset in listOf(TABLE, COLUMN, TABLE)) {
+            assertEquals(RowSerializer(ctx, asset, FIELDS, logger).getRow().toList(), plan.getRow(asset))
+        }
+    }
+
+    @Test
+    fun excludedFieldsAreEmpty() {
+        val plan = ExportPlan(ctx, FIELDS, logger) { assetClass, field -> field != Asset.DESCRIPTION || assetClass != Table::class.java }
+        val row = plan.getRow(TABLE)
+        assertEquals(2 + FIELDS.size, plan.width)
+        assertEquals(listOf("default/snowflake/1234/db/sch/t1", "Table", "t1", ""), row.subList(0, 4))
+    }
+
+    @Test
+    fun reusableRowsShareBuffer() {
+        val plan = ExportPlan(ctx, FIELDS, logger)
+        val first = plan.getReusableRow(TABLE)
+        assertEquals("t1", first[2])
+        val second = plan.getReusableRow(COLUMN)
+        assertEquals("c1", second[2])
+        // The same buffer is reused on the same thread
+        assertEquals("c1", first[2])
+    }
+}
@@ -0,0 +1,76 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package serde
+
+import com.atlan.mock.MockAtlanTenant
+import com.atlan.mock.MockConfig
+import com.atlan.model.assets.Table
+import com.atlan.pkg.PackageContext
+import com.atlan.pkg.Utils
+import com.atlan.pkg.Utils.getLogger
+import com.atlan.pkg.serde.RowDeserializer
+import com.atlan.pkg.serde.RowPlan
+import com.atlan.serde.Serde
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNull
+import kotlin.test.assertSame
+import kotlin.test.assertTrue
+
+/**
+ * Test decoding rows through plans compiled once per header.
+ */
+class RowPlanTest {
+    private val logger = getLogger(this.javaClass.name)
+
+    companion object {
+        init {
+            MockAtlanTenant.initializeClient()
+        }
+
+        private val config = Utils.parseConfig<MockConfig>("{}", "{}")
+        private val ctx = PackageContext(config, MockAtlanTenant.client, true)
+        private val HEADING = listOf("typeName", "qualifiedName", "name", "", "description", "columnCount", "notAField", "name")
+        private val SKIP = setOf("description")
+    }
+
+    private fun deserialize(row: List<String>): RowDeserializer =
+        RowDeserializer(
+            ctx = ctx,
+            heading = HEADING,
+            row = row,
+            typeIdx = 0,
+            qnIdx = 1,
+            logger = logger,
+            skipColumns = SKIP,
+        )
+
+    @Test
+    fun rowsAreDecodedThroughPlan() {
+        val row = listOf("Table", "default/snowflake/1234/db/sch/t1", " t1 ", "ignored", "skipped", "12", "extra", "duplicate")
+        val asset = deserialize(row).getAssets()!!.primary.build() as Table
+        assertEquals("default/snowflake/1234/db/sch/t1", asset.qualifiedName)
+        assertEquals("t1", asset.name)
+        assertEquals(12L, asset.columnCount)
+        assertNull(asset.description)
+    }
+
+    @Test
+    fun valuesOutsidePlanStillDecoded() {
+        val row = listOf("Table", "default/snowflake/1234/db/sch/t2", "t2", "", "A table.", "3", "extra", "")
+        val deserializer = deserialize(row)
+        assertEquals(3L, deserializer.getValue("columnCount"))
+        assertEquals("extra", deserializer.getValue("notAField"))
+        assertEquals("A table.", deserializer.getValue("description"))
+    }
+
+    @Test
+    fun planCompiledOncePerHeader() {
+        val key = RowPlan.Key("Table", Serde.getBuilderClassForType("Table"), HEADING, SKIP)
+        val plan = ctx.rowPlans.get(ctx, key, logger)
+        assertSame(plan, ctx.rowPlans.get(ctx, key.copy(heading = HEADING.toList()), logger))
+        val fields = plan.columns.map { it.fieldName }
+        assertEquals(listOf("typeName", "qualifiedName", "name", "columnCount", "notAField"), fields)
+        assertTrue(plan.getColumn("description") == null)
+    }
+}
@@ -2,3 +2,5 @@
 plugins {
     id("com.atlan.kotlin-custom-package")
 }
+
+extra["cdsTrainingConfig"] = """{"objects_to_include":["users","groups","personas","purposes","policies"],"include_native_policies":true,"file_format":"XLSX"}"""
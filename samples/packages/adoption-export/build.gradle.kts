@@ -2,3 +2,5 @@
 plugins {
     id("com.atlan.kotlin-custom-package")
 }
+
+extra["cdsTrainingConfig"] = """{"include_views":"BY_VIEWS","include_changes":"YES","include_searches":"YES","file_format":"XLSX"}"""
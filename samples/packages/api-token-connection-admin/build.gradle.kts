@@ -2,3 +2,5 @@
 plugins {
     id("com.atlan.kotlin-custom-package")
 }
+
+extra["cdsTrainingConfig"] = """{"connection_qualified_name":["default/snowflake/1700000000"],"api_token_guid":"cds-token"}"""
@@ -8,6 +8,8 @@ plugins {
     signing
 }
 
+extra["cdsTrainingConfig"] = """{"export_scope":"ALL","qn_prefix":"default/snowflake/1700000000","include_glossaries":true,"include_products":true}"""
+
 java {
     withSourcesJar()
     withJavadocJar()
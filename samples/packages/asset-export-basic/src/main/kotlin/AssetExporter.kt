@@ -15,8 +15,8 @@ import com.atlan.model.fields.SearchableField
 import com.atlan.model.search.FluentSearch
 import com.atlan.pkg.PackageContext
 import com.atlan.pkg.Utils
+import com.atlan.pkg.serde.ExportPlan
 import com.atlan.pkg.serde.RowSerde
-import com.atlan.pkg.serde.RowSerializer
 import com.atlan.pkg.serde.csv.CSVWriter
 import com.atlan.pkg.serde.csv.RowGenerator
 import com.atlan.serde.Serde
@@ -41,9 +41,10 @@ class AssetExporter(
     private val cmFields: List<CustomMetadataField>,
 ) : RowGenerator {
     private val logger = Utils.getLogger(this.javaClass.name)
+    private val fieldsToExtract by lazy { getFieldsToExtract() }
+    private val plan by lazy { ExportPlan(ctx, fieldsToExtract, logger) }
 
     fun export() {
-        val fieldsToExtract = getFieldsToExtract()
         val assets =
             getAssetsToExtract()
                 .pageSize(batchSize)
@@ -195,5 +196,8 @@ class AssetExporter(
      * @param asset the asset from which to generate the values
      * @return the values, as an iterable set of strings
      */
-    override fun buildFromAsset(asset: Asset): Iterable<String> = RowSerializer(ctx, asset, getFieldsToExtract(), logger).getRow()
+    override fun buildFromAsset(asset: Asset): Iterable<String> = plan.getRow(asset)
+
+    /** {@inheritDoc} */
+    override fun buildReusableRow(asset: Asset): Iterable<String> = plan.getReusableRow(asset)
 }
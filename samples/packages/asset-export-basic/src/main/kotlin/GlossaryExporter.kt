@@ -9,11 +9,10 @@ import com.atlan.model.fields.AtlanField
 import com.atlan.model.fields.CustomMetadataField
 import com.atlan.pkg.PackageContext
 import com.atlan.pkg.Utils
-import com.atlan.pkg.serde.FieldSerde
+import com.atlan.pkg.serde.ExportPlan
 import com.atlan.pkg.serde.RowSerde
 import com.atlan.pkg.serde.csv.CSVWriter
 import com.atlan.pkg.serde.csv.RowGenerator
-import mu.KLogger
 import java.util.stream.Collectors
 import java.util.stream.Stream
 
@@ -33,6 +32,13 @@ class GlossaryExporter(
 ) : RowGenerator {
     private val logger = Utils.getLogger(this.javaClass.name)
 
+    // Only serialize the categories attribute for terms, no other glossary object types
+    private val plan by lazy {
+        ExportPlan(ctx, getAttributesToExtract(), logger) { assetClass, field ->
+            field != GlossaryTerm.CATEGORIES || GlossaryTerm::class.java.isAssignableFrom(assetClass)
+        }
+    }
+
     fun export() {
         CSVWriter(filename).use { csv ->
             // TODO: qualifiedName is not a good way to do this for glossary objects...
@@ -148,44 +154,8 @@ class GlossaryExporter(
      * @param asset the asset from which to generate the values
      * @return the values, as an iterable set of strings
      */
-    override fun buildFromAsset(asset: Asset): Iterable<String> = GlossaryRowSerializer(ctx, asset, getAttributesToExtract(), logger).getRow()
+    override fun buildFromAsset(asset: Asset): Iterable<String> = plan.getRow(asset)
 
-    /**
-     * Class to serialize glossary assets into a row of tabular data.
-     * Note: this replaces the general asset row serializer to handle nuances of glossary objects.
-     *
-     * @param ctx context in which the custom package is running
-     * @param asset the asset to be serialized
-     * @param fields the full list of fields to be serialized from the asset, in the order they should be serialized
-     * @param logger through which to record any problems
-     */
-    class GlossaryRowSerializer(
-        private val ctx: PackageContext<AssetExportBasicCfg>,
-        private val asset: Asset,
-        private val fields: List<AtlanField>,
-        private val logger: KLogger,
-    ) {
-        /**
-         * Actually serialize the provided inputs into a list of string values.
-         *
-         * @return the list of string values giving a row-based tabular representation of the asset
-         */
-        fun getRow(): Iterable<String> {
-            val row = mutableListOf<String>()
-            row.add(FieldSerde.getValueForField(ctx, asset, Asset.QUALIFIED_NAME, logger))
-            row.add(FieldSerde.getValueForField(ctx, asset, Asset.TYPE_NAME, logger))
-            for (field in fields) {
-                if (field != Asset.QUALIFIED_NAME && field != Asset.TYPE_NAME) {
-                    if (asset !is GlossaryTerm && field == GlossaryTerm.CATEGORIES) {
-                        // Only serialize the categories attribute for terms, no other
-                        // glossary object types
-                        row.add("")
-                    } else {
-                        row.add(FieldSerde.getValueForField(ctx, asset, field, logger))
-                    }
-                }
-            }
-            return row
-        }
-    }
+    /** {@inheritDoc} */
+    override fun buildReusableRow(asset: Asset): Iterable<String> = plan.getReusableRow(asset)
 }
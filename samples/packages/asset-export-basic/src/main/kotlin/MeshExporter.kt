@@ -8,8 +8,8 @@ import com.atlan.model.fields.AtlanField
 import com.atlan.model.fields.CustomMetadataField
 import com.atlan.pkg.PackageContext
 import com.atlan.pkg.Utils
+import com.atlan.pkg.serde.ExportPlan
 import com.atlan.pkg.serde.RowSerde
-import com.atlan.pkg.serde.RowSerializer
 import com.atlan.pkg.serde.csv.CSVWriter
 import com.atlan.pkg.serde.csv.RowGenerator
 import java.util.stream.Collectors
@@ -30,6 +30,7 @@ class MeshExporter(
     private val cmFields: List<CustomMetadataField>,
 ) : RowGenerator {
     private val logger = Utils.getLogger(this.javaClass.name)
+    private val plan by lazy { ExportPlan(ctx, getAttributesToExtract(), logger) }
 
     fun export() {
         CSVWriter(filename).use { csv ->
@@ -137,5 +138,8 @@ class MeshExporter(
      * @param asset the asset from which to generate the values
      * @return the values, as an iterable set of strings
      */
-    override fun buildFromAsset(asset: Asset): Iterable<String> = RowSerializer(ctx, asset, getAttributesToExtract(), logger).getRow()
+    override fun buildFromAsset(asset: Asset): Iterable<String> = plan.getRow(asset)
+
+    /** {@inheritDoc} */
+    override fun buildReusableRow(asset: Asset): Iterable<String> = plan.getReusableRow(asset)
 }
@@ -8,6 +8,8 @@ plugins {
     signing
 }
 
+extra["cdsTrainingConfig"] = """{"import_type":"DIRECT","assets_file":"tmp/assets.csv","assets_upsert_semantic":"upsert","assets_delta_semantic":"full","assets_fail_on_errors":false,"glossaries_file":"tmp/glossary.csv","glossaries_fail_on_errors":false}"""
+
 java {
     withSourcesJar()
     withJavadocJar()
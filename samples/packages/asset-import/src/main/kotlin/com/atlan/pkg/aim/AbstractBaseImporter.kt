@@ -64,7 +64,7 @@ abstract class AbstractBaseImporter(
     ) {
     protected var header = emptyList<String>()
     protected var levelToProcess = 0
-    private val hasCachedPrereqs = AtomicBoolean(false)
+    protected val hasCachedPrereqs = AtomicBoolean(false)
 
     /**
      * Import the assets, handling multiple passes if any cyclical relationships are present
@@ -145,7 +145,7 @@ abstract class AbstractBaseImporter(
         return ImportResults.combineAll(ctx.client, true, *processedResults.toTypedArray())
     }
 
-    private fun cacheAnyPrereqs(
+    protected fun cacheAnyPrereqs(
         preproc: Results,
         cache: AssetCache<*>? = null,
     ) {
@@ -3,6 +3,7 @@
 package com.atlan.pkg.aim
 
 import AssetImportCfg
+import com.atlan.cache.ReflectionCache
 import com.atlan.model.assets.ADLSAccount
 import com.atlan.model.assets.ADLSContainer
 import com.atlan.model.assets.ADLSObject
@@ -221,17 +222,23 @@ import com.atlan.pkg.PackageContext
 import com.atlan.pkg.Utils
 import com.atlan.pkg.serde.FieldSerde
 import com.atlan.pkg.serde.RowDeserializer
+import com.atlan.pkg.serde.RowSerde
 import com.atlan.pkg.serde.cell.AssetRefXformer.getDeferredIdentity
 import com.atlan.pkg.serde.cell.AssetRefXformer.resolveDeferredQN
+import com.atlan.pkg.serde.csv.CSVPartitions
 import com.atlan.pkg.serde.csv.CSVXformer
 import com.atlan.pkg.serde.csv.ImportResults
 import com.atlan.pkg.util.AssetResolver
 import com.atlan.pkg.util.AssetResolver.QualifiedNameDetails
 import com.atlan.pkg.util.DeltaProcessor
+import com.atlan.serde.Serde
 import com.atlan.util.AssetBatch.AssetIdentity
 import com.atlan.util.StringUtils
+import com.atlan.util.ThreadPools
 import mu.KLogger
 import java.io.IOException
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
 
 /**
  * Import assets into Atlan from a provided CSV file.
@@ -314,7 +321,10 @@ class AssetImporter(
                 LinkIdempotencyInvariant.URL,
             ),
     ) {
+    private val importCtx = ctx
     private var typeToProcess = ""
+    private var preprocessed: Results? = null
+    private var partitions: CSVPartitions? = null
     private val secondPassRemain =
         setOf(
             Asset.QUALIFIED_NAME.atlanFieldName,
@@ -335,23 +345,71 @@ class AssetImporter(
         // Irrespective of update-only or not, multi-pass load (at multiple levels):
         //  - Import assets in tiered order, top-to-bottom
         //  - Stop when we have processed all the types in the file
-        val includes = preprocess()
-        if (includes.hasLinks) {
-            ctx.linkCache.preload()
-        }
-        if (includes.hasTermAssignments) {
-            ctx.termCache.preload()
-        }
-        val typeLoadingOrder = getLoadOrder(includes.typesInFile)
-        logger.info { "Asset loading order: $typeLoadingOrder" }
-        typeLoadingOrder.forEach {
-            typeToProcess = it
-            val results = super.import(typeToProcess, colsToSkip, secondPassRemain, null)
-            if (results != null) ctx.processedResults.extendWith(results, true)
+        //  - Read the file only once, splitting its rows by type while preprocessing, so that each
+        //    level only needs to read back its own rows
+        //  - Load types that do not depend on each other (e.g. different connectors) concurrently
+        CSVPartitions.Splitter().use { splitter ->
+            val preprocessor = Preprocessor(ctx, filename, fieldSeparator, logger, splitter)
+            val includes = preprocessor.preprocess<Results>()
+            preprocessed = includes
+            cacheAnyPrereqs(includes)
+            splitter.finish().use { split ->
+                partitions = split
+                val typeLoadingOrder = getLoadOrder(includes.typesInFile)
+                logger.info { "Asset loading order: $typeLoadingOrder" }
+                val dependencies = getLoadDependencies(typeLoadingOrder, preprocessor.header)
+                // Note: every type's batches are processed through the common fork-join pool, so the
+                // concurrent types all share the same (bounded) budget of concurrent requests to Atlan
+                val pool = ThreadPools.fixed("asset-import-types", MAX_CONCURRENT_TYPES)
+                try {
+                    val loaded = mutableMapOf<String, CompletableFuture<Void>>()
+                    typeLoadingOrder.forEach { type ->
+                        // Only wait on the types that must exist first (e.g. parents whose GUIDs are needed)
+                        val prerequisites = dependencies[type].orEmpty().mapNotNull { loaded[it] }
+                        loaded[type] =
+                            CompletableFuture
+                                .allOf(*prerequisites.toTypedArray())
+                                .thenRunAsync({ importType(type, colsToSkip) }, pool)
+                    }
+                    CompletableFuture.allOf(*loaded.values.toTypedArray()).join()
+                } catch (e: CompletionException) {
+                    throw e.cause ?: e
+                } finally {
+                    pool.shutdown()
+                    partitions = null
+                }
+            }
         }
         return ctx.processedResults
     }
 
+    /**
+     * Import all the assets of a single type, through a separate importer, so that
+     * several types can be imported concurrently without interfering with each other.
+     *
+     * @param type name of the asset type to import
+     * @param columnsToSkip names of any columns to skip processing
+     */
+    private fun importType(
+        type: String,
+        columnsToSkip: Set<String>,
+    ) {
+        val importer = AssetImporter(importCtx, delta, filename, logger)
+        importer.typeToProcess = type
+        importer.preprocessed = preprocessed
+        importer.partitions = partitions
+        importer.hasCachedPrereqs.set(true)
+        val results = importer.import(type, columnsToSkip, secondPassRemain, null)
+        if (results != null) {
+            synchronized(ctx.processedResults) {
+                ctx.processedResults.extendWith(results, true)
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    override fun getPartition(): CSVPartitions.Partition? = partitions?.get(typeToProcess)
+
     /** {@inheritDoc} */
     override fun getBuilder(deserializer: RowDeserializer): Asset.AssetBuilder<*, *> {
         val typeName = deserializer.typeName
@@ -828,6 +886,117 @@ class AssetImporter(
                 ),
             )
 
+        /** Maximum number of independent types to load at the same time. */
+        const val MAX_CONCURRENT_TYPES = 4
+
+        /** Groupings whose types can be related to assets of (nearly) any type in earlier groupings. */
+        private val BARRIER_GROUPS = setOf("Multi-parent", "Lineage")
+
+        /**
+         * Determine, for each of the provided types, which of the other provided types must be loaded
+         * before it. Within a grouping every type depends on those before it, every grouping depends on the
+         * root grouping, and "barrier" groupings (like columns and lineage) depend on every grouping before
+         * them and are in turn depended on by every grouping after them. Types not in any grouping depend
+         * on every type before them. In addition, any type with a relationship column in the header (for
+         * example applicationField, or the inputs and outputs of a process) depends on every type before
+         * it that the relationship can refer to.
+         *
+         * @param loadOrder types to load, in their top-down loading order (see [getLoadOrder])
+         * @param header column names of the file being loaded
+         * @return a map from each type to the set of types that must be loaded before it
+         */
+        fun getLoadDependencies(
+            loadOrder: List<String>,
+            header: List<String> = emptyList(),
+        ): Map<String, Set<String>> {
+            val direct = mutableMapOf<String, Set<String>>()
+            var barrier = emptySet<String>()
+            ordering.forEachIndexed { idx, group ->
+                val isBarrier = idx == 0 || group.prefix in BARRIER_GROUPS
+                val groupDeps =
+                    if (isBarrier) {
+                        ordering.take(idx).flatMap { it.types }.toSet()
+                    } else {
+                        barrier
+                    }
+                var previous: String? = null
+                group.types.forEach { type ->
+                    direct[type] = previous?.let { setOf(it) } ?: groupDeps
+                    previous = type
+                }
+                if (isBarrier) barrier = group.types.toSet()
+            }
+            val present = loadOrder.toSet()
+            val all = mutableMapOf<String, Set<String>>()
+
+            fun closure(type: String): Set<String> =
+                all.getOrPut(type) {
+                    direct[type].orEmpty().flatMap { closure(it) + it }.toSet()
+                }
+            val result = mutableMapOf<String, Set<String>>()
+            loadOrder.forEachIndexed { idx, type ->
+                val earlier = loadOrder.take(idx)
+                val deps =
+                    if (direct.containsKey(type)) {
+                        closure(type).intersect(present).toMutableSet()
+                    } else {
+                        earlier.toMutableSet()
+                    }
+                val targets = getRelationshipTargets(type, header)
+                earlier.filter { it !in deps && refersTo(targets, it) }.forEach { referenced ->
+                    deps.add(referenced)
+                    deps.addAll(result[referenced].orEmpty())
+                }
+                result[type] = deps
+            }
+            return result
+        }
+
+        /**
+         * Determine the types of assets that the relationship columns in the header can refer to,
+         * for assets of the provided type.
+         *
+         * @param typeName of the asset whose relationships to determine
+         * @param header column names of the file being loaded
+         * @return the classes (or interfaces) of the assets that can be referred to
+         */
+        private fun getRelationshipTargets(
+            typeName: String,
+            header: List<String>,
+        ): List<Class<*>> {
+            val builderClass =
+                try {
+                    Serde.getBuilderClassForType(typeName)
+                } catch (e: ClassNotFoundException) {
+                    return emptyList()
+                }
+            return header
+                .filter { it.isNotEmpty() && !it.contains(RowSerde.CM_HEADING_DELIMITER) }
+                .distinct()
+                .mapNotNull { fieldName ->
+                    ReflectionCache.getSetter(builderClass, fieldName)?.let { setter ->
+                        val cellType = FieldSerde.getCellType(setter)
+                        cellType.innerClass ?: cellType.paramClass
+                    }
+                }
+                // Only relationships refer to other assets (rather than to enums, structs or plain values)
+                .filter { it.packageName == Asset::class.java.packageName }
+        }
+
+        private fun refersTo(
+            targets: List<Class<*>>,
+            typeName: String,
+        ): Boolean {
+            if (targets.isEmpty()) return false
+            val assetClass =
+                try {
+                    Serde.getAssetClassForType(typeName)
+                } catch (e: ClassNotFoundException) {
+                    return false
+                }
+            return targets.any { it.isAssignableFrom(assetClass) }
+        }
+
         /**
          * Sort the provided set of type names into an appropriate top-down loading order.
          *
@@ -875,13 +1044,14 @@ class AssetImporter(
         ): QualifiedNameDetails = throw IllegalStateException("This method should never be called. Please raise an issue if you discover this in any log file.")
     }
 
-    override fun preprocess(): Results = Preprocessor(ctx, filename, fieldSeparator, logger).preprocess<Results>()
+    override fun preprocess(): Results = preprocessed ?: Preprocessor(ctx, filename, fieldSeparator, logger).preprocess<Results>()
 
     class Preprocessor(
         override val ctx: PackageContext<*>,
         originalFile: String,
         fieldSeparator: Char,
         logger: KLogger,
+        private val splitter: CSVPartitions.Splitter? = null,
     ) : AbstractBaseImporter.Preprocessor(
             ctx = ctx,
             originalFile = originalFile,
@@ -939,6 +1109,7 @@ class AssetImporter(
                         connectionQNs.add(ctx.connectionCache.getByIdentity(deferredId)?.qualifiedName ?: NO_CONNECTION_QN)
                     }
                 }
+                splitter?.add(typeName, row)
             }
             return updated
         }
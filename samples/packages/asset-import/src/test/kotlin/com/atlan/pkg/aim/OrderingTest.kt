@@ -2,12 +2,20 @@
    Copyright 2023 Atlan Pte. Ltd. */
 package com.atlan.pkg.aim
 
+import com.atlan.model.assets.APIPath
+import com.atlan.model.assets.APISpec
+import com.atlan.model.assets.AirflowDag
+import com.atlan.model.assets.AirflowTask
+import com.atlan.model.assets.Application
+import com.atlan.model.assets.ApplicationField
 import com.atlan.model.assets.AtlanCollection
 import com.atlan.model.assets.Column
 import com.atlan.model.assets.Connection
 import com.atlan.model.assets.Table
 import kotlin.test.Test
 import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
 
 /**
  * Test import of a very simple file containing categories with the same name at a given level,
@@ -20,4 +28,51 @@ class OrderingTest {
         val order = AssetImporter.getLoadOrder(types)
         assertEquals(listOf(AtlanCollection.TYPE_NAME, Table.TYPE_NAME, Column.TYPE_NAME, "xyz"), order)
     }
+
+    @Test
+    fun dependencies() {
+        val types = setOf("xyz", Column.TYPE_NAME, AtlanCollection.TYPE_NAME, Table.TYPE_NAME, APIPath.TYPE_NAME, APISpec.TYPE_NAME)
+        val order = AssetImporter.getLoadOrder(types)
+        val dependencies = AssetImporter.getLoadDependencies(order)
+        assertEquals(emptySet(), dependencies[AtlanCollection.TYPE_NAME])
+        // Independent hierarchies only depend on the root types, not on each other
+        assertEquals(setOf(AtlanCollection.TYPE_NAME), dependencies[Table.TYPE_NAME])
+        assertEquals(setOf(AtlanCollection.TYPE_NAME), dependencies[APISpec.TYPE_NAME])
+        assertEquals(setOf(AtlanCollection.TYPE_NAME, APISpec.TYPE_NAME), dependencies[APIPath.TYPE_NAME])
+        // Columns can have parents in many hierarchies, so must wait for all of them
+        assertEquals(
+            setOf(AtlanCollection.TYPE_NAME, Table.TYPE_NAME, APISpec.TYPE_NAME, APIPath.TYPE_NAME),
+            dependencies[Column.TYPE_NAME],
+        )
+        // Unknown types wait for everything
+        assertEquals(types - "xyz", dependencies["xyz"])
+    }
+
+    @Test
+    fun crossGroupReferences() {
+        val types =
+            setOf(
+                Application.TYPE_NAME,
+                ApplicationField.TYPE_NAME,
+                Table.TYPE_NAME,
+                APISpec.TYPE_NAME,
+                AirflowDag.TYPE_NAME,
+                AirflowTask.TYPE_NAME,
+            )
+        val order = AssetImporter.getLoadOrder(types)
+        val header = listOf("qualifiedName", "typeName", "name", "applicationField", "inputs", "outputs")
+        val dependencies = AssetImporter.getLoadDependencies(order, header)
+        // Any asset can be linked to an application field, so must wait for applications to be loaded
+        assertTrue(dependencies[Table.TYPE_NAME]!!.containsAll(setOf(Application.TYPE_NAME, ApplicationField.TYPE_NAME)))
+        assertTrue(dependencies[APISpec.TYPE_NAME]!!.contains(ApplicationField.TYPE_NAME))
+        // Tasks refer to their inputs and outputs, which must therefore be loaded first
+        assertTrue(dependencies[AirflowTask.TYPE_NAME]!!.containsAll(setOf(AirflowDag.TYPE_NAME, Table.TYPE_NAME, APISpec.TYPE_NAME)))
+        // ... but assets that are not referred to remain independent
+        assertFalse(dependencies[APISpec.TYPE_NAME]!!.contains(Table.TYPE_NAME))
+        assertFalse(dependencies[Table.TYPE_NAME]!!.contains(APISpec.TYPE_NAME))
+        // Without those columns, applications do not hold up the other hierarchies
+        val structural = AssetImporter.getLoadDependencies(order, listOf("qualifiedName", "typeName", "name"))
+        assertFalse(structural[Table.TYPE_NAME]!!.contains(ApplicationField.TYPE_NAME))
+        assertFalse(structural[AirflowTask.TYPE_NAME]!!.contains(Table.TYPE_NAME))
+    }
 }
@@ -8,6 +8,8 @@ plugins {
     signing
 }
 
+extra["cdsTrainingConfig"] = """{"assets_import_type":"DIRECT","assets_file":"tmp/assets.csv","assets_fail_on_errors":false}"""
+
 java {
     withSourcesJar()
     withJavadocJar()
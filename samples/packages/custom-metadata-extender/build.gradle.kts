@@ -1,3 +1,5 @@
 plugins {
     id("com.atlan.kotlin-custom-package")
 }
+
+extra["cdsTrainingConfig"] = """{"custom_metadata":"String1","connection_qualified_name":["default/snowflake/1700000000"],"domains":"ALL"}"""
@@ -1,3 +1,5 @@
 plugins {
     id("com.atlan.kotlin-custom-package")
 }
+
+extra["cdsTrainingConfig"] = """{"glossary_name":"Duplicate assets","qn_prefix":"default/snowflake/1700000000","control_config_strategy":"default","asset_types":["Table","View","MaterialisedView"]}"""
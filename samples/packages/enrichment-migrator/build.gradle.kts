@@ -6,6 +6,8 @@ plugins {
     alias(libs.plugins.shadow)
 }
 
+extra["cdsTrainingConfig"] = """{"source_connection":["default/snowflake/1700000000"],"target_connection":["default/snowflake/1700000000"],"fail_on_errors":false,"cm_limit_type":"INCLUDE","custom_metadata":"String1::String1"}"""
+
 dependencies {
     implementation(project(":samples:packages:asset-export-basic"))
     implementation(project(":samples:packages:asset-import"))
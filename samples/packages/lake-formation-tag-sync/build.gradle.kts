@@ -6,6 +6,8 @@ plugins {
     alias(libs.plugins.shadow)
 }
 
+extra["cdsTrainingConfig"] = """{"import_type":"DIRECT","fail_on_errors":false}"""
+
 dependencies {
     implementation(project(":samples:packages:asset-import"))
 }
@@ -9,6 +9,8 @@ plugins {
     signing
 }
 
+extra["cdsTrainingConfig"] = """{"lineage_import_type":"DIRECT","lineage_file":"tmp/lineage.csv","lineage_upsert_semantic":"partial","lineage_fail_on_errors":false}"""
+
 dependencies {
     implementation(project(":samples:packages:asset-import"))
 }
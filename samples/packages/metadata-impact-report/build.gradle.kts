@@ -1,3 +1,5 @@
 plugins {
     id("com.atlan.kotlin-custom-package")
 }
+
+extra["cdsTrainingConfig"] = """{"include_data_products":"TRUE","data_domain":"Metadata metrics","include_details":true,"file_format":"XLSX"}"""
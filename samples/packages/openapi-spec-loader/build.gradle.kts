@@ -6,6 +6,8 @@ plugins {
     alias(libs.plugins.shadow)
 }
 
+extra["cdsTrainingConfig"] = """{"import_type":"DIRECT","spec_file":"openapi.json","connection_usage":"REUSE","connection_qualified_name":["default/snowflake/1700000000"]}"""
+
 dependencies {
     implementation(libs.swagger.parser)
 }
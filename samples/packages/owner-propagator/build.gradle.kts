@@ -1,3 +1,5 @@
 plugins {
     id("com.atlan.kotlin-custom-package")
 }
+
+extra["cdsTrainingConfig"] = """{"qn_prefix":"default/snowflake/1700000000"}"""
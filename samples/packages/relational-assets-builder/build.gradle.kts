@@ -10,6 +10,8 @@ plugins {
     signing
 }
 
+extra["cdsTrainingConfig"] = """{"import_type":"DIRECT","assets_file":"tmp/assets.csv","delta_semantic":"full","assets_fail_on_errors":false}"""
+
 dependencies {
     implementation(project(":samples:packages:asset-import"))
 }
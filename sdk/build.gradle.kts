@@ -95,6 +95,22 @@ tasks.compileJava {
     dependsOn(tasks.getByName("generateJava"))
 }
 
+// Index of the classes for every asset (and relationship) type, so they need not be scanned for at runtime
+val typeIndexDir = layout.buildDirectory.dir("generated/resources/type-index")
+val generateTypeIndex by tasks.registering(JavaExec::class) {
+    val output = typeIndexDir.map { it.file("META-INF/atlan/types.index") }
+    inputs.files(sourceSets["main"].output.classesDirs)
+    outputs.file(output)
+    classpath = sourceSets["main"].output.classesDirs + configurations.runtimeClasspath.get()
+    mainClass.set("com.atlan.serde.TypeIndex")
+    argumentProviders.add(
+        CommandLineArgumentProvider {
+            listOf(output.get().asFile.absolutePath, "com.atlan.model.assets", "com.atlan.model.relations")
+        },
+    )
+}
+sourceSets["main"].output.dir(mapOf("builtBy" to generateTypeIndex), typeIndexDir)
+
 tasks.register<Zip>("buildZip") {
     into("java/lib") {
         from(tasks.shadowJar)
@@ -14,6 +14,7 @@ public abstract class Atlan {
     public static final int DEFAULT_CONNECT_TIMEOUT = 30 * 1000;
     public static final int DEFAULT_READ_TIMEOUT = 120 * 1000;
     public static final int DEFAULT_NETWORK_RETRIES = 5;
+    public static final int DEFAULT_REQUEST_COMPRESSION_THRESHOLD = -1;
 
     public static final String VERSION = BuildInfo.VERSION;
 
@@ -24,6 +25,13 @@ public abstract class Atlan {
 
     public static volatile boolean enableTelemetry = true;
 
+    /**
+     * Whether to adapt the number of requests allowed in-flight at the same time (across all threads) to the
+     * latency and throttling observed from the tenant (true), or leave it unbounded (false).
+     * See {@link com.atlan.net.AdaptiveConcurrencyLimiter}.
+     */
+    public static volatile boolean enableAdaptiveConcurrency = false;
+
     static final String INVALID_CLIENT_MSG =
             ErrorCode.NO_BASE_URL.getMessageDefinition().getErrorId() + " "
                     + ErrorCode.NO_BASE_URL.getMessageDefinition().getErrorMessage() + " "
@@ -17,11 +17,15 @@ import com.atlan.exception.AtlanException;
 import com.atlan.model.core.AtlanCloseable;
 import com.atlan.model.enums.AtlanTypeCategory;
 import com.atlan.model.typedefs.TypeDefResponse;
+import com.atlan.net.HttpClient;
+import com.atlan.net.RequestMetricsRegistry;
 import com.atlan.serde.*;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.PasswordAuthentication;
 import java.net.Proxy;
 import java.util.HashMap;
@@ -60,6 +64,23 @@ public class AtlanClient implements AtlanCloseable {
     @Setter
     private volatile int maxNetworkRetries = Atlan.DEFAULT_NETWORK_RETRIES;
 
+    /**
+     * Whether to ask Atlan to compress (gzip or deflate) response bodies. Compressed responses are
+     * decompressed as they are streamed, so this trades a little CPU for significantly less bandwidth
+     * on large responses (like search results).
+     */
+    @Getter
+    @Setter
+    private volatile boolean acceptCompression = true;
+
+    /**
+     * Size (in bytes) above which request bodies (like bulk saves) are gzip-compressed before being sent,
+     * or -1 to never compress request bodies.
+     */
+    @Getter
+    @Setter
+    private volatile int requestCompressionThreshold = Atlan.DEFAULT_REQUEST_COMPRESSION_THRESHOLD;
+
     /** Extra headers to include on any requests made by this client. */
     @Getter
     @Setter
@@ -82,6 +103,19 @@ public class AtlanClient implements AtlanCloseable {
     @Setter
     private volatile PasswordAuthentication proxyCredential = null;
 
+    /**
+     * HTTP transport through which to send all requests made by this client, for example a
+     * {@link com.atlan.net.PooledHttpClient} for pooled HTTP/2 connections. When null, the SDK's
+     * default transport (a new {@link com.atlan.net.HttpURLConnectionClient} connection per request) is used.
+     */
+    @Getter
+    @Setter
+    private volatile HttpClient httpClient = null;
+
+    /** Metrics aggregated across every request sent by this client, by endpoint. */
+    @Getter
+    private final RequestMetricsRegistry requestMetrics = new RequestMetricsRegistry();
+
     /** Information about your application. */
     @Getter
     private volatile Map<String, String> appInfo = null;
@@ -402,6 +436,17 @@ public class AtlanClient implements AtlanCloseable {
         return mapper.readValue(value, typeRef);
     }
 
+    /**
+     * Create a parser for incrementally deserializing objects from a stream of JSON.
+     * Any objects read through the parser are deserialized in the same way as through {@link #readValue(String, Class)}.
+     * @param value the stream of JSON to parse
+     * @return a parser over the stream of JSON
+     * @throws IOException on any errors creating the parser
+     */
+    public JsonParser createParser(InputStream value) throws IOException {
+        return mapper.createParser(value);
+    }
+
     /**
      * Converts from a JSON representation into an object.
      * @param value the JSON representation
@@ -573,5 +618,7 @@ public class AtlanClient implements AtlanCloseable {
         AtlanCloseable.close(userCache);
         AtlanCloseable.close(groupCache);
         AtlanCloseable.close(roleCache);
+        AtlanCloseable.close(connectionCache);
+        AtlanCloseable.close(sourceTagCache);
     }
 }
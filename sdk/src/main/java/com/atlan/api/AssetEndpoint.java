@@ -19,12 +19,14 @@ import com.atlan.model.lineage.LineageListRequest;
 import com.atlan.model.lineage.LineageListResponse;
 import com.atlan.model.search.*;
 import com.atlan.net.ApiResource;
+import com.atlan.net.AtlanResponseStream;
 import com.atlan.net.RequestOptions;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
@@ -1024,6 +1026,72 @@ public class AssetEndpoint extends AtlasEndpoint {
      */
     public IndexSearchResponse search(IndexSearchRequest request, RequestOptions options) throws AtlanException {
         String url = String.format("%s%s", getBaseUrl(), search_endpoint);
+        IndexSearchResponse response = ApiResource.request(
+                client,
+                ApiResource.RequestMethod.POST,
+                url,
+                withGuidTieBreaker(request),
+                IndexSearchResponse.class,
+                options);
+        response.setClient(client);
+        return response;
+    }
+
+    /**
+     * Run the requested search, incrementally deserializing each page of results as it is streamed.
+     * Unlike {@link #search(IndexSearchRequest)}, no page of results is ever held in memory in its entirety: each
+     * asset is decoded from the response only as the stream is consumed, and subsequent pages are retrieved
+     * (using search_after paging, so there is no limit on the number of results) once each page is exhausted.
+     * Note: the returned stream holds an open connection until it is fully consumed or closed.
+     *
+     * @param request detailing the search query, parameters, and so on to run
+     * @param options to override default client settings
+     * @return a lazily-fetched, incrementally-deserialized stream of the results of the search
+     * @throws AtlanException on any API interaction problems retrieving the first page of results
+     */
+    public Stream<Asset> searchIncrementally(IndexSearchRequest request, RequestOptions options)
+            throws AtlanException {
+        return new IndexSearchStream(client, withGuidTieBreaker(request), options).stream();
+    }
+
+    /**
+     * Run the requested search, incrementally reading each result into a compact view that holds only the
+     * attributes requested on the results -- rather than the full asset model, with all of its (mostly empty) fields.
+     * Results are otherwise streamed exactly as for {@link #searchIncrementally(IndexSearchRequest, RequestOptions)}.
+     * Note: the returned stream holds an open connection until it is fully consumed or closed.
+     *
+     * @param request detailing the search query, parameters, and so on to run
+     * @param options to override default client settings
+     * @return a lazily-fetched, incrementally-read stream of compact views of the results of the search
+     * @throws AtlanException on any API interaction problems retrieving the first page of results
+     */
+    public Stream<ProjectedAsset> searchProjected(IndexSearchRequest request, RequestOptions options)
+            throws AtlanException {
+        return new ProjectedSearchStream(client, withGuidTieBreaker(request), options).stream();
+    }
+
+    /**
+     * Run the requested search, without deserializing the response.
+     * This is a low-level method: you most likely want {@link #searchIncrementally(IndexSearchRequest, RequestOptions)}.
+     *
+     * @param request detailing the search query, parameters, and so on to run
+     * @param options to override default client settings
+     * @return the streamed (raw) response, whose body must be closed once consumed
+     * @throws AtlanException on any API interaction problems
+     */
+    public AtlanResponseStream searchRaw(IndexSearchRequest request, RequestOptions options) throws AtlanException {
+        String url = String.format("%s%s", getBaseUrl(), search_endpoint);
+        return ApiResource.requestStreaming(
+                client, ApiResource.RequestMethod.POST, url, withGuidTieBreaker(request), options);
+    }
+
+    /**
+     * Ensure the search is sorted by GUID as a final (tie-breaker) criteria, to ensure there is consistent paging.
+     *
+     * @param request detailing the search query, parameters, and so on to run
+     * @return the request, with a sort by GUID added (if it did not already have one)
+     */
+    private static IndexSearchRequest withGuidTieBreaker(IndexSearchRequest request) {
         boolean missingSort =
                 request.getDsl().getSort() == null || request.getDsl().getSort().isEmpty();
         boolean missingGuidSort = true;
@@ -1049,10 +1117,7 @@ public class AssetEndpoint extends AtlasEndpoint {
                             .build())
                     .build();
         }
-        IndexSearchResponse response = ApiResource.request(
-                client, ApiResource.RequestMethod.POST, url, request, IndexSearchResponse.class, options);
-        response.setClient(client);
-        return response;
+        return request;
     }
 
     /**
@@ -8,25 +8,45 @@ import com.atlan.exception.ErrorCode;
 import com.atlan.exception.InvalidRequestException;
 import com.atlan.exception.NotFoundException;
 import com.atlan.model.assets.Asset;
+import com.atlan.model.core.AtlanCloseable;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Base class for reusable components that are common to all caches, where
  * a cache is populated entry-by-entry.
+ * The identities of assets are always held in-heap, but only a bounded number of the assets themselves:
+ * any beyond that bound (the least frequently used) are spilled to an off-heap cache.
  */
 @Slf4j
-public abstract class AbstractAssetCache {
+public abstract class AbstractAssetCache implements AtlanCloseable {
+
+    /** Default maximum number of assets to hold in-heap, per cache. */
+    public static final int DEFAULT_MAX_IN_HEAP = 10_000;
 
     private final Map<String, String> qualifiedName2Guid = new ConcurrentHashMap<>();
     private final Map<ObjectName, String> name2Guid = new ConcurrentHashMap<>();
-    private final Map<String, Asset> guid2Asset = new ConcurrentHashMap<>();
+    private final TinyLfuCache<String, Asset> guid2Asset;
+    private final Overflow overflow;
 
     protected final AtlanClient client;
 
     protected AbstractAssetCache(AtlanClient client) {
+        this(client, DEFAULT_MAX_IN_HEAP);
+    }
+
+    /**
+     * Construct a cache that holds at most the provided number of assets in-heap.
+     *
+     * @param client connectivity to the Atlan tenant
+     * @param maxInHeap maximum number of assets to hold in-heap, beyond which assets are spilled off-heap
+     */
+    protected AbstractAssetCache(AtlanClient client, int maxInHeap) {
         this.client = client;
+        this.overflow = new Overflow(client, getClass().getSimpleName() + "_spilled");
+        this.guid2Asset = new TinyLfuCache<>(maxInHeap, overflow);
     }
 
     /**
@@ -82,6 +102,107 @@ public abstract class AbstractAssetCache {
         return null;
     }
 
+    /**
+     * Retrieve the number of lookups (by GUID) that found the asset held in-heap.
+     *
+     * @return the number of in-heap cache hits
+     */
+    public long getInHeapHits() {
+        return guid2Asset.getHits();
+    }
+
+    /**
+     * Retrieve the number of lookups (by GUID) that did not find the asset held in-heap.
+     *
+     * @return the number of in-heap cache misses
+     */
+    public long getInHeapMisses() {
+        return guid2Asset.getMisses();
+    }
+
+    /**
+     * Retrieve the number of assets that have been evicted from the heap (and spilled off-heap).
+     *
+     * @return the number of in-heap cache evictions
+     */
+    public long getInHeapEvictions() {
+        return guid2Asset.getEvictions();
+    }
+
+    /**
+     * Retrieve the number of assets currently held in-heap.
+     *
+     * @return the number of assets held in-heap
+     */
+    public int getInHeapSize() {
+        return guid2Asset.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        overflow.close();
+    }
+
+    /**
+     * Find an asset by its GUID, either in-heap or spilled off-heap (in which case it is brought back in-heap).
+     *
+     * @param guid of the asset
+     * @return the asset, or null if it is not cached
+     */
+    private Asset find(String guid) {
+        Asset found = guid2Asset.get(guid);
+        if (found == null) {
+            found = overflow.get(guid);
+            if (found != null) {
+                guid2Asset.put(guid, found);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Off-heap cache to which assets evicted from the heap are spilled, only created once
+     * the first asset is actually spilled.
+     */
+    private static final class Overflow implements BiConsumer<String, Asset>, AtlanCloseable {
+        private final AtlanClient client;
+        private final String name;
+        private volatile OffHeapAssetCache spilled = null;
+
+        Overflow(AtlanClient client, String name) {
+            this.client = client;
+            this.name = name;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized void accept(String guid, Asset asset) {
+            if (spilled == null) {
+                spilled = new OffHeapAssetCache(client, name);
+            }
+            spilled.put(guid, asset);
+        }
+
+        boolean containsKey(String guid) {
+            OffHeapAssetCache cache = spilled;
+            return cache != null && cache.containsKey(guid);
+        }
+
+        Asset get(String guid) {
+            // Check the key exists first, to avoid the off-heap cache warning about missing values
+            OffHeapAssetCache cache = spilled;
+            return cache != null && cache.containsKey(guid) ? cache.get(guid) : null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized void close() {
+            AtlanCloseable.close(spilled);
+            spilled = null;
+        }
+    }
+
     /**
      * Checks whether the provided Atlan-internal UUID is known.
      * (Note: will not refresh the cache itself to determine this.)
@@ -90,7 +211,7 @@ public abstract class AbstractAssetCache {
      * @return true if the object is known, false otherwise
      */
     public boolean isGuidKnown(String guid) {
-        return guid2Asset.containsKey(guid);
+        return guid2Asset.containsKey(guid) || overflow.containsKey(guid);
     }
 
     /**
@@ -141,11 +262,11 @@ public abstract class AbstractAssetCache {
      */
     public Asset getByGuid(String guid, boolean allowRefresh) throws AtlanException {
         if (guid != null && !guid.isEmpty()) {
-            Asset found = guid2Asset.get(guid);
+            Asset found = find(guid);
             if (found == null && allowRefresh) {
                 // If not found, refresh the cache and look again (could be stale)
                 lookupByGuid(guid);
-                found = guid2Asset.get(guid);
+                found = find(guid);
             }
             if (found == null) {
                 throw new NotFoundException(ErrorCode.ASSET_NOT_FOUND_BY_GUID, guid);
@@ -5,22 +5,32 @@ package com.atlan.cache;
 import com.atlan.model.core.AtlanCloseable;
 import java.io.File;
 import java.io.IOException;
+import java.math.BigInteger;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
-import java.util.AbstractMap;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
 import java.util.Spliterator;
-import java.util.Spliterators;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.CompressionType;
+import org.rocksdb.LRUCache;
+import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
@@ -34,10 +44,30 @@ import org.rocksdb.WriteOptions;
 @Slf4j
 public abstract class AbstractOffHeapCache<K, V> implements AtlanCloseable {
 
+    private static final int STRIPES = 64;
+
+    /** Block cache shared across all off-heap caches, so that their total memory use is bounded. */
+    private static volatile LRUCache sharedBlockCache = null;
+
     private final Path backingStore;
+    private final boolean persistent;
+    private final BloomFilter bloomFilter;
+    private final Options options;
+    private final WriteOptions writeOptions;
     private volatile RocksDB internal;
+
+    /**
+     * Only guards opening and closing the cache. RocksDB itself is thread-safe, so reads and writes all
+     * share the read lock (never blocking each other), purely so that none can run while the cache is closing.
+     */
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
+    /** Number of entries in the cache, maintained as entries are added and removed. */
+    private final AtomicLong count = new AtomicLong(0);
+
+    /** Locks striped by key, so that checking whether a key exists and writing it are atomic (per key). */
+    private final Object[] stripes = newStripes();
+
     @Getter
     private final String name;
 
@@ -47,12 +77,26 @@ public abstract class AbstractOffHeapCache<K, V> implements AtlanCloseable {
      * @param name to distinguish which cache is which
      */
     public AbstractOffHeapCache(String name) {
+        this(name, OffHeapCacheOptions.getDefault());
+    }
+
+    /**
+     * Construct new object cache, with specific tuning options.
+     *
+     * @param name to distinguish which cache is which
+     * @param tuning options with which to tune the storage behind the cache
+     */
+    public AbstractOffHeapCache(String name, OffHeapCacheOptions tuning) {
         this.name = name;
+        this.persistent = false;
+        this.bloomFilter = newBloomFilter(tuning);
+        this.options = toOptions(tuning, bloomFilter);
+        this.writeOptions = new WriteOptions().setDisableWAL(!tuning.isWriteAheadLog());
         lock.writeLock().lock();
         try {
             backingStore = Files.createTempDirectory("rdb_" + name + "_");
             log.debug("Opening off-heap cache ({}): {}", this.name, this.backingStore);
-            internal = RocksDB.open(backingStore.toString());
+            internal = RocksDB.open(options, backingStore.toString());
         } catch (IOException | RocksDBException e) {
             throw new RuntimeException("Unable to create off-heap cache for tracking.", e);
         } finally {
@@ -60,6 +104,102 @@ public abstract class AbstractOffHeapCache<K, V> implements AtlanCloseable {
         }
     }
 
+    /**
+     * Construct new persistent object cache, backed by the provided directory. Unlike other caches,
+     * the contents of a persistent cache are retained when it is closed, and reloaded the next time
+     * a cache is constructed against the same directory. (Persistent caches always use a write-ahead log.)
+     *
+     * @param name to distinguish which cache is which
+     * @param directory in which to persist the cache (will be created if it does not exist)
+     */
+    protected AbstractOffHeapCache(String name, Path directory) {
+        this.name = name;
+        this.persistent = true;
+        this.bloomFilter = newBloomFilter(OffHeapCacheOptions.getDefault());
+        this.options = toOptions(OffHeapCacheOptions.getDefault(), bloomFilter);
+        this.writeOptions = new WriteOptions();
+        lock.writeLock().lock();
+        try {
+            backingStore = Files.createDirectories(directory);
+            log.debug("Opening persistent off-heap cache ({}): {}", this.name, this.backingStore);
+            internal = RocksDB.open(options, backingStore.toString());
+            // Count any entries persisted previously, once, by their keys alone
+            try (RocksIterator iterator = internal.newIterator()) {
+                for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+                    count.incrementAndGet();
+                }
+            }
+        } catch (IOException | RocksDBException e) {
+            throw new RuntimeException("Unable to open persistent off-heap cache: " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Object[] newStripes() {
+        Object[] stripes = new Object[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+        return stripes;
+    }
+
+    private Object stripeFor(byte[] key) {
+        return stripes[Math.floorMod(Arrays.hashCode(key), STRIPES)];
+    }
+
+    /**
+     * Create the bloom filter requested by the tuning options (if any), which must be closed along with the cache.
+     *
+     * @param tuning options with which to tune the storage
+     * @return the bloom filter, or null if bloom filters are disabled
+     */
+    private static BloomFilter newBloomFilter(OffHeapCacheOptions tuning) {
+        if (tuning.getBloomFilterBitsPerKey() <= 0) {
+            return null;
+        }
+        RocksDB.loadLibrary();
+        return new BloomFilter(tuning.getBloomFilterBitsPerKey());
+    }
+
+    /**
+     * Translate the tuning options into the options used to open the underlying store.
+     *
+     * @param tuning options with which to tune the storage
+     * @param bloomFilter to use for key lookups, or null for none
+     * @return options for opening the underlying store
+     */
+    private static Options toOptions(OffHeapCacheOptions tuning, BloomFilter bloomFilter) {
+        BlockBasedTableConfig table = new BlockBasedTableConfig().setBlockCache(getSharedBlockCache(tuning));
+        if (bloomFilter != null) {
+            table.setFilterPolicy(bloomFilter);
+        }
+        return new Options()
+                .setCreateIfMissing(true)
+                .setWriteBufferSize(tuning.getWriteBufferSize())
+                .setCompressionType(
+                        switch (tuning.getCompression()) {
+                            case NONE -> CompressionType.NO_COMPRESSION;
+                            case LZ4 -> CompressionType.LZ4_COMPRESSION;
+                            case ZSTD -> CompressionType.ZSTD_COMPRESSION;
+                        })
+                .setTableFormatConfig(table);
+    }
+
+    private static LRUCache getSharedBlockCache(OffHeapCacheOptions tuning) {
+        LRUCache cache = sharedBlockCache;
+        if (cache == null) {
+            synchronized (AbstractOffHeapCache.class) {
+                if (sharedBlockCache == null) {
+                    RocksDB.loadLibrary();
+                    sharedBlockCache = new LRUCache(tuning.getSharedBlockCacheSize());
+                }
+                cache = sharedBlockCache;
+            }
+        }
+        return cache;
+    }
+
     protected abstract byte[] serializeKey(K key);
 
     protected abstract K deserializeKey(byte[] bytes) throws IOException;
@@ -110,13 +250,43 @@ public abstract class AbstractOffHeapCache<K, V> implements AtlanCloseable {
         byte[] vb = serializeValue(value);
         if (vb == null || vb.length == 0)
             log.warn(" ... zero-length serialized object being added ({}): {}", key, value);
-        lock.writeLock().lock();
+        lock.readLock().lock();
         try {
-            internal.put(kb, vb);
+            synchronized (stripeFor(kb)) {
+                // Note: for a new key this is (almost always) answered by the bloom filter alone, without
+                // reading any data -- only overwrites (or caches without bloom filters) pay for a real read
+                boolean exists = internal.keyExists(kb);
+                internal.put(writeOptions, kb, vb);
+                if (!exists) count.incrementAndGet();
+            }
         } catch (RocksDBException e) {
             throw new IllegalStateException("Unable to put value for key: " + key, e);
         } finally {
-            lock.writeLock().unlock();
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a value from the cache by its key.
+     *
+     * @param key of the value to remove from the cache
+     */
+    public void remove(K key) {
+        if (internal.isClosed())
+            throw new IllegalStateException("Off-heap cache is closed -- cannot remove a key from it: " + key);
+        byte[] kb = serializeKey(key);
+        lock.readLock().lock();
+        try {
+            synchronized (stripeFor(kb)) {
+                if (internal.keyExists(kb)) {
+                    internal.delete(writeOptions, kb);
+                    count.decrementAndGet();
+                }
+            }
+        } catch (RocksDBException e) {
+            throw new IllegalStateException("Unable to remove value for key: " + key, e);
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
@@ -129,18 +299,22 @@ public abstract class AbstractOffHeapCache<K, V> implements AtlanCloseable {
         if (other != null) {
             if (internal.isClosed())
                 throw new IllegalStateException("Off-heap cache is closed -- cannot bulk-add keys and values to it.");
-            try (WriteBatch batch = new WriteBatch();
-                    WriteOptions options = new WriteOptions()) {
-                try (RocksIterator iterator = other.internal.newIterator()) {
-                    for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
-                        batch.put(iterator.key(), iterator.value());
-                    }
-                }
-                lock.writeLock().lock();
+            try (WriteBatch batch = new WriteBatch()) {
+                long added = 0;
+                lock.readLock().lock();
                 try {
-                    internal.write(options, batch);
+                    try (RocksIterator iterator = other.internal.newIterator()) {
+                        for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+                            byte[] kb = iterator.key();
+                            if (!internal.keyExists(kb)) added++;
+                            batch.put(kb, iterator.value());
+                        }
+                    }
+                    // Note: the count is only exact if no other thread writes the same keys during the bulk-add
+                    internal.write(writeOptions, batch);
+                    count.addAndGet(added);
                 } finally {
-                    lock.writeLock().unlock();
+                    lock.readLock().unlock();
                 }
             } catch (RocksDBException e) {
                 throw new IllegalStateException("Error putting all values into cache.", e);
@@ -171,7 +345,26 @@ public abstract class AbstractOffHeapCache<K, V> implements AtlanCloseable {
      * @return the number of entries currently in the cache
      */
     public long size() {
-        return entrySet().count();
+        return count.get();
+    }
+
+    /**
+     * Estimate the number of entries currently held in the cache, directly from the underlying store.
+     * This is cheap, but only approximate (for example, overwritten or removed entries may still be counted
+     * until they are compacted away) -- generally, prefer {@link #size()}.
+     *
+     * @return the estimated number of entries in the cache
+     */
+    public long estimateSize() {
+        if (internal.isClosed()) return 0;
+        lock.readLock().lock();
+        try {
+            return internal.getLongProperty("rocksdb.estimate-num-keys");
+        } catch (RocksDBException e) {
+            throw new IllegalStateException("Unable to estimate size of cache: " + name, e);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /**
@@ -207,18 +400,62 @@ public abstract class AbstractOffHeapCache<K, V> implements AtlanCloseable {
      * @return a stream of all values held in the cache
      */
     public Stream<V> values() {
-        if (internal.isClosed()) return Stream.empty();
-        return new EntryIterator<>(this, internal.newIterator()).stream().map(Map.Entry::getValue);
+        return entrySet().map(Map.Entry::getValue);
     }
 
     /**
-     * Retrieve all entries held in the cache.
+     * Retrieve all the keys held in the cache, without deserializing any of the values.
+     *
+     * @return a stream of all keys held in the cache
+     */
+    public Stream<K> keys() {
+        return keys(false);
+    }
+
+    /**
+     * Retrieve all the keys held in the cache, without deserializing any of the values.
+     *
+     * @param parallel if true, the stream will be split into ranges of keys that can be processed in parallel
+     * @return a stream of all keys held in the cache
+     */
+    public Stream<K> keys(boolean parallel) {
+        return stream(parallel, false, (kb, vb) -> deserializeKeyOrFail(kb));
+    }
+
+    /**
+     * Retrieve all entries held in the cache. The value of each entry is only deserialized
+     * if (and when) it is retrieved from the entry.
      *
      * @return an entry set of all keys (and their values) held in the cache
      */
     public Stream<Map.Entry<K, V>> entrySet() {
+        return entrySet(false);
+    }
+
+    /**
+     * Retrieve all entries held in the cache. The value of each entry is only deserialized
+     * if (and when) it is retrieved from the entry.
+     *
+     * @param parallel if true, the stream will be split into ranges of keys that can be processed in parallel
+     * @return an entry set of all keys (and their values) held in the cache
+     */
+    public Stream<Map.Entry<K, V>> entrySet(boolean parallel) {
+        return stream(parallel, true, (kb, vb) -> new LazyEntry<>(this, deserializeKeyOrFail(kb), vb));
+    }
+
+    private <T> Stream<T> stream(boolean parallel, boolean withValues, BiFunction<byte[], byte[], T> mapper) {
         if (internal.isClosed()) return Stream.empty();
-        return new EntryIterator<>(this, internal.newIterator()).stream();
+        KeyRangeSpliterator<T> spliterator = new KeyRangeSpliterator<>(
+                this, null, null, size(), new ConcurrentLinkedQueue<>(), withValues, mapper);
+        return StreamSupport.stream(spliterator, parallel).onClose(spliterator::closeAll);
+    }
+
+    private K deserializeKeyOrFail(byte[] bytes) {
+        try {
+            return deserializeKey(bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to deserialize key.", e);
+        }
     }
 
     /**
@@ -230,13 +467,30 @@ public abstract class AbstractOffHeapCache<K, V> implements AtlanCloseable {
         return !internal.isClosed();
     }
 
-    /** Clean up the cache, once it is no longer needed. */
+    /**
+     * Retrieve the directory in which the cache is held.
+     *
+     * @return the directory backing the cache
+     */
+    protected Path getBackingStore() {
+        return backingStore;
+    }
+
+    /** Clean up the cache, once it is no longer needed. (A persistent cache is closed, but left in place.) */
     @Override
     public void close() {
         log.debug("Closing off-heap cache ({}): {}", getName(), backingStore);
         lock.writeLock().lock();
         try {
             internal.close();
+            writeOptions.close();
+            options.close();
+            if (bloomFilter != null) {
+                bloomFilter.close();
+            }
+            if (persistent) {
+                return;
+            }
             File file = backingStore.toFile();
             if (file.exists() && file.isDirectory()) {
                 deleteDirectory(backingStore);
@@ -266,56 +520,213 @@ public abstract class AbstractOffHeapCache<K, V> implements AtlanCloseable {
     }
 
     /**
-     * Iterator and streaming over entries in the cache, since it could be too large to fit into memory.
+     * Entry in the cache whose value is only deserialized when it is first retrieved.
      *
      * @param <K> type of the keys in the cache
      * @param <V> type of the values in the cache
      */
-    private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>>, AtlanCloseable {
+    private static final class LazyEntry<K, V> implements Map.Entry<K, V> {
         private final AbstractOffHeapCache<K, V> cache;
-        private final RocksIterator iterator;
+        private final K key;
+        private byte[] bytes;
+        private V value;
 
-        public EntryIterator(AbstractOffHeapCache<K, V> cache, RocksIterator iterator) {
+        LazyEntry(AbstractOffHeapCache<K, V> cache, K key, byte[] bytes) {
             this.cache = cache;
-            this.iterator = iterator;
-            this.iterator.seekToFirst(); // Start from the first entry
+            this.key = key;
+            this.bytes = bytes;
         }
 
         /** {@inheritDoc} */
         @Override
-        public boolean hasNext() {
-            return iterator.isValid();
+        public K getKey() {
+            return key;
         }
 
         /** {@inheritDoc} */
         @Override
-        public Map.Entry<K, V> next() {
-            if (!hasNext()) {
-                throw new IllegalStateException("No more elements in the cache.");
-            }
-            byte[] key = iterator.key();
-            byte[] value = iterator.value();
-            try {
-                Map.Entry<K, V> entry =
-                        new AbstractMap.SimpleEntry<>(cache.deserializeKey(key), cache.deserializeValue(value));
-                iterator.next(); // Move to the next entry
-                return entry;
-            } catch (IOException e) {
-                throw new IllegalStateException("Unable to deserialize value.", e);
+        public V getValue() {
+            if (bytes != null) {
+                try {
+                    value = cache.deserializeValue(bytes);
+                    bytes = null;
+                } catch (IOException e) {
+                    throw new IllegalStateException("Unable to deserialize value.", e);
+                }
             }
+            return value;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public V setValue(V value) {
+            throw new UnsupportedOperationException("Entries in an off-heap cache cannot be modified directly.");
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> e
+                    && Objects.equals(key, e.getKey())
+                    && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+    /**
+     * Streaming over a range of the keys in the cache (since it could be too large to fit into memory),
+     * which can be split into smaller ranges of keys to process in parallel. Keys are ordered (byte-wise)
+     * in the cache, so each range is split at the (byte-wise) midpoint between its first and last keys.
+     *
+     * @param <T> type of object produced from each key and value in the cache
+     */
+    private static final class KeyRangeSpliterator<T> implements Spliterator<T> {
+        private final AbstractOffHeapCache<?, ?> cache;
+        private byte[] lower;
+        private final byte[] upper;
+        private final Queue<RocksIterator> opened;
+        private final boolean withValues;
+        private final BiFunction<byte[], byte[], T> mapper;
+        private long estimate;
+        private RocksIterator iterator = null;
+        private boolean done = false;
+
+        /**
+         * Stream over a range of keys in the cache.
+         *
+         * @param cache over which to stream
+         * @param lower inclusive lower bound of the keys, or null to start from the first key
+         * @param upper exclusive upper bound of the keys, or null to continue to the last key
+         * @param estimate of the number of entries in the range
+         * @param opened every iterator opened over the cache, so they can all be closed when the stream is closed
+         * @param withValues whether the mapper needs the (serialized) value of each entry, or only its key
+         * @param mapper to produce an object from each key and value
+         */
+        KeyRangeSpliterator(
+                AbstractOffHeapCache<?, ?> cache,
+                byte[] lower,
+                byte[] upper,
+                long estimate,
+                Queue<RocksIterator> opened,
+                boolean withValues,
+                BiFunction<byte[], byte[], T> mapper) {
+            this.cache = cache;
+            this.lower = lower;
+            this.upper = upper;
+            this.estimate = estimate;
+            this.opened = opened;
+            this.withValues = withValues;
+            this.mapper = mapper;
         }
 
         /** {@inheritDoc} */
         @Override
-        public void close() {
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (done) return false;
+            if (iterator == null) {
+                iterator = open();
+                seekToLower(iterator);
+            }
+            if (iterator.isValid() && inRange(iterator.key())) {
+                T next = mapper.apply(iterator.key(), withValues ? iterator.value() : null);
+                iterator.next();
+                action.accept(next);
+                return true;
+            }
+            done = true;
             iterator.close();
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Spliterator<T> trySplit() {
+            if (iterator != null || done || estimate < 2) return null;
+            byte[] first;
+            byte[] last;
+            try (RocksIterator probe = open()) {
+                seekToLower(probe);
+                if (!probe.isValid() || !inRange(probe.key())) return null;
+                first = probe.key();
+                if (upper == null) {
+                    probe.seekToLast();
+                } else {
+                    probe.seekForPrev(upper);
+                    if (probe.isValid() && Arrays.compareUnsigned(probe.key(), upper) >= 0) probe.prev();
+                }
+                if (!probe.isValid()) return null;
+                last = probe.key();
+            }
+            if (Arrays.compareUnsigned(first, last) >= 0) return null;
+            byte[] mid = midpoint(first, last);
+            if (Arrays.compareUnsigned(mid, first) <= 0 || Arrays.compareUnsigned(mid, last) > 0) return null;
+            estimate = estimate / 2;
+            KeyRangeSpliterator<T> prefix =
+                    new KeyRangeSpliterator<>(cache, lower, mid, estimate, opened, withValues, mapper);
+            // This spliterator keeps the suffix of the range
+            lower = mid;
+            return prefix;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT;
+        }
+
+        /** Close every iterator opened for the stream, including any left open by a short-circuited stream. */
+        void closeAll() {
+            RocksIterator it;
+            while ((it = opened.poll()) != null) {
+                it.close();
+            }
+        }
+
+        private RocksIterator open() {
+            RocksIterator it = cache.internal.newIterator();
+            opened.add(it);
+            return it;
+        }
+
+        private void seekToLower(RocksIterator it) {
+            if (lower == null) {
+                it.seekToFirst();
+            } else {
+                it.seek(lower);
+            }
+        }
+
+        private boolean inRange(byte[] key) {
+            return upper == null || Arrays.compareUnsigned(key, upper) < 0;
         }
 
-        /** Convert this iterator into a stream of cache entries. */
-        public Stream<Map.Entry<K, V>> stream() {
-            return StreamSupport.stream(
-                            Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
-                    .onClose(this::close);
+        /**
+         * Calculate the (byte-wise) midpoint between two keys, treating each as an unsigned big-endian number
+         * (right-padded with zeros to the same length, plus one extra byte for precision).
+         */
+        private static byte[] midpoint(byte[] a, byte[] b) {
+            int length = Math.max(a.length, b.length) + 1;
+            BigInteger sum =
+                    new BigInteger(1, Arrays.copyOf(a, length)).add(new BigInteger(1, Arrays.copyOf(b, length)));
+            byte[] raw = sum.shiftRight(1).toByteArray();
+            byte[] mid = new byte[length];
+            int copy = Math.min(raw.length, length);
+            System.arraycopy(raw, raw.length - copy, mid, length - copy, copy);
+            return mid;
         }
     }
 }
@@ -0,0 +1,72 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.cache;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Class to encapsulate the tuning options for the storage behind off-heap caches.
+ * Since most off-heap caches are only scratch space (removed once they are closed), the defaults
+ * favor throughput over durability: no write-ahead log, bloom filters to speed up key lookups and
+ * fast compression. Set a different default through {@link #setDefault(OffHeapCacheOptions)} before
+ * creating any caches.
+ */
+@Builder(toBuilder = true)
+@Getter
+@EqualsAndHashCode
+public class OffHeapCacheOptions {
+
+    /** Compression to apply to the values held in a cache. */
+    public enum Compression {
+        NONE,
+        LZ4,
+        ZSTD,
+    }
+
+    private static volatile OffHeapCacheOptions defaultOptions =
+            OffHeapCacheOptions.builder().build();
+
+    /** Whether to write to a write-ahead log (only needed for durability: persistent caches always write to one). */
+    @Builder.Default
+    private final boolean writeAheadLog = false;
+
+    /**
+     * Bits per key to use for bloom filters (speeding up checks for missing keys, including the check made
+     * on every write to keep count of the entries), or 0 to disable them.
+     */
+    @Builder.Default
+    private final double bloomFilterBitsPerKey = 10;
+
+    /** Compression to apply to the values held in the cache. */
+    @Builder.Default
+    private final Compression compression = Compression.LZ4;
+
+    /** Size (in bytes) of the in-memory buffer of writes, per cache, before they are flushed to disk. */
+    @Builder.Default
+    private final long writeBufferSize = 32L * 1024 * 1024;
+
+    /** Size (in bytes) of the block cache shared across all off-heap caches. */
+    @Builder.Default
+    private final long sharedBlockCacheSize = 256L * 1024 * 1024;
+
+    /**
+     * Retrieve the options used for any off-heap caches that do not specify their own.
+     *
+     * @return the default options for off-heap caches
+     */
+    public static OffHeapCacheOptions getDefault() {
+        return defaultOptions;
+    }
+
+    /**
+     * Set the options to use for any off-heap caches that do not specify their own.
+     * Note: the size of the shared block cache is fixed by whichever options are used to open the first cache.
+     *
+     * @param options the default options for off-heap caches
+     */
+    public static void setDefault(OffHeapCacheOptions options) {
+        defaultOptions = options == null ? OffHeapCacheOptions.builder().build() : options;
+    }
+}
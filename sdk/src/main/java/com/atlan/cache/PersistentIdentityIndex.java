@@ -0,0 +1,228 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.cache;
+
+import com.atlan.AtlanClient;
+import com.atlan.exception.AtlanException;
+import com.atlan.model.assets.Asset;
+import com.atlan.model.enums.AtlanStatus;
+import com.atlan.model.search.FluentSearch;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Index of asset identities (for example, qualifiedNames) to GUIDs that is persisted on disk, so that it
+ * can be shared across separate runs against the same tenant. Rather than reloading every asset on each
+ * run, the index only needs to be refreshed with the assets that have changed since it was last synced.
+ * Note: entries are never evicted when an asset is renamed, so an identity in the index may point to a GUID
+ * whose asset now has some other identity -- always confirm the identity of the asset the GUID resolves to.
+ */
+@Slf4j
+public class PersistentIdentityIndex extends AbstractOffHeapCache<String, PersistentIdentityIndex.Entry> {
+
+    /** Environment variable through which to override where persistent indexes are kept. */
+    public static final String INDEX_DIR_ENV = "ATLAN_INDEX_DIR";
+
+    /**
+     * Default window (in milliseconds) before the last sync that is re-scanned on each refresh, to pick up
+     * any assets that were only indexed by search after the previous refresh ran.
+     */
+    public static final long DEFAULT_SAFETY_MARGIN = 5 * 60 * 1000L;
+
+    private static final String LAST_SYNC_FILE = "last-sync";
+
+    private final Path lastSyncFile;
+    private final AtomicLong lastSync = new AtomicLong(0);
+
+    /**
+     * Open (or create) the persistent index with the provided name, for the tenant to which the client is connected.
+     * Indexes are kept under the directory given by the {@code ATLAN_INDEX_DIR} environment variable, or
+     * otherwise the temporary directory of the system.
+     *
+     * @param client connectivity to the Atlan tenant
+     * @param name of the index, unique for the tenant
+     * @return the persistent index
+     */
+    public static PersistentIdentityIndex open(AtlanClient client, String name) {
+        String root = System.getenv(INDEX_DIR_ENV);
+        Path base = root == null || root.isEmpty()
+                ? Paths.get(System.getProperty("java.io.tmpdir"), "atlan-index")
+                : Paths.get(root);
+        return new PersistentIdentityIndex(name, base.resolve(getTenantKey(client)).resolve(name));
+    }
+
+    /**
+     * Open (or create) a persistent index in the provided directory.
+     *
+     * @param name of the index
+     * @param directory in which the index is persisted
+     */
+    public PersistentIdentityIndex(String name, Path directory) {
+        super(name, directory);
+        this.lastSyncFile = directory.resolve(LAST_SYNC_FILE);
+        if (Files.exists(lastSyncFile)) {
+            try {
+                lastSync.set(Long.parseLong(Files.readString(lastSyncFile).trim()));
+            } catch (IOException | NumberFormatException e) {
+                log.warn("Unable to read last sync time of persistent index ({}) -- it will be fully reloaded.", name);
+                log.debug("Full details: ", e);
+            }
+        }
+    }
+
+    /**
+     * Retrieve the GUID of the asset with the provided identity.
+     *
+     * @param identity of the asset
+     * @return the GUID of the asset, or null if the identity is not in the index
+     */
+    public String getGuid(String identity) {
+        Entry entry = get(identity);
+        return entry == null ? null : entry.getGuid();
+    }
+
+    /**
+     * Retrieve the time (epoch, in milliseconds) of the most recent update of any asset in the index.
+     *
+     * @return the most recent update time of any asset in the index, or 0 if the index has never been synced
+     */
+    public long getLastSync() {
+        return lastSync.get();
+    }
+
+    /**
+     * Bring the index up-to-date, by searching only for the assets that have been updated since the index was
+     * last synced (or for all the assets, if it has never been synced). Any assets that are no longer active
+     * are removed from the index, so the search should also include archived assets.
+     * The {@link #DEFAULT_SAFETY_MARGIN} before the last sync is re-scanned, to allow for delays in indexing.
+     *
+     * @param search for the assets to index, which will be further limited to those updated since the last sync
+     * @param identity function to construct the identity of an asset (or null, if the asset should not be indexed)
+     * @return the number of changed assets that were processed
+     * @throws AtlanException on any problems running the search
+     */
+    public long refresh(FluentSearch.FluentSearchBuilder<?, ?> search, Function<Asset, String> identity)
+            throws AtlanException {
+        return refresh(search, identity, DEFAULT_SAFETY_MARGIN);
+    }
+
+    /**
+     * Bring the index up-to-date, by searching only for the assets that have been updated since the index was
+     * last synced (or for all the assets, if it has never been synced). Any assets that are no longer active
+     * are removed from the index, so the search should also include archived assets.
+     * Search is only eventually consistent, so an asset can become searchable some time after its update time.
+     * Each refresh therefore re-scans an overlapping window before the last sync: assets seen again in that
+     * window are simply written to the index again.
+     *
+     * @param search for the assets to index, which will be further limited to those updated since the last sync
+     * @param identity function to construct the identity of an asset (or null, if the asset should not be indexed)
+     * @param safetyMargin time (in milliseconds) before the last sync from which to re-scan for changed assets
+     * @return the number of changed assets that were processed
+     * @throws AtlanException on any problems running the search
+     */
+    public long refresh(
+            FluentSearch.FluentSearchBuilder<?, ?> search, Function<Asset, String> identity, long safetyMargin)
+            throws AtlanException {
+        long since = lastSync.get();
+        if (since > 0) {
+            search.where(Asset.UPDATE_TIME.gte(Math.max(0, since - safetyMargin)));
+        }
+        log.info("Refreshing persistent index ({}) with changes since: {}", getName(), since);
+        AtomicLong newest = new AtomicLong(since);
+        AtomicLong processed = new AtomicLong(0);
+        search.stream(true).forEach(asset -> {
+            String id = identity.apply(asset);
+            if (id != null) {
+                if (asset.getStatus() == AtlanStatus.ACTIVE) {
+                    put(id, new Entry(asset.getGuid(), asset.getUpdateTime() == null ? 0 : asset.getUpdateTime()));
+                } else {
+                    remove(id);
+                }
+                processed.incrementAndGet();
+            }
+            if (asset.getUpdateTime() != null) {
+                newest.accumulateAndGet(asset.getUpdateTime(), Math::max);
+            }
+        });
+        setLastSync(newest.get());
+        log.info(" ... processed {} changed assets in persistent index ({}).", processed.get(), getName());
+        return processed.get();
+    }
+
+    private void setLastSync(long value) {
+        lastSync.set(value);
+        try {
+            Files.writeString(lastSyncFile, Long.toString(value));
+        } catch (IOException e) {
+            log.warn("Unable to record last sync time of persistent index ({}).", getName());
+            log.debug("Full details: ", e);
+        }
+    }
+
+    private static String getTenantKey(AtlanClient client) {
+        String base = client.getBaseUrl();
+        if (base == null) {
+            return "INTERNAL";
+        }
+        String host = URI.create(base).getHost();
+        return host == null ? base.replaceAll("[^A-Za-z0-9.\\-]", "_") : host;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected byte[] serializeKey(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected String deserializeKey(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected byte[] serializeValue(Entry value) {
+        byte[] guid = value.getGuid().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(8 + guid.length)
+                .putLong(value.getUpdateTime())
+                .put(guid)
+                .array();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Entry deserializeValue(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long updateTime = buffer.getLong();
+        return new Entry(new String(bytes, 8, bytes.length - 8, StandardCharsets.UTF_8), updateTime);
+    }
+
+    /** Details of a single asset in the index. */
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    public static final class Entry {
+        /** Unique identifier (GUID) of the asset. */
+        private final String guid;
+
+        /** Time (epoch, in milliseconds) at which the asset was last updated. */
+        private final long updateTime;
+
+        public Entry(String guid, long updateTime) {
+            this.guid = guid;
+            this.updateTime = updateTime;
+        }
+    }
+}
@@ -11,9 +11,15 @@ import com.atlan.util.StringUtils;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.io.IOException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Lazily-loaded cache for Java reflection-based operations across the Atlan data model.
@@ -30,6 +36,7 @@ public class ReflectionCache {
 
     private static final Map<String, Set<String>> fieldList = new ConcurrentHashMap<>();
     private static final Map<String, Set<String>> dateFields = new ConcurrentHashMap<>();
+    private static final Map<Method, Function<Object, Object>> accessorMap = new ConcurrentHashMap<>();
 
     /**
      * Build up a map of all fields that exist in the class (and its superclasses).
@@ -210,6 +217,51 @@ public class ReflectionCache {
         return getterMap.get(b.getCanonicalName()).get(fieldName);
     }
 
+    /**
+     * Retrieve a function that retrieves the value of the specified field from an object of the class.
+     * Unlike {@link #getValue(Asset, String)}, the function calls the getter directly (rather than through
+     * reflection), so it is best suited to retrieving the same field from many objects.
+     *
+     * @param b class of the asset type
+     * @param fieldName name of the field
+     * @return function to retrieve the value of the field from an object of the class, or null if there is no such field
+     */
+    public static Function<Object, Object> getAccessor(Class<?> b, String fieldName) {
+        Method getter = getGetter(b, fieldName);
+        if (getter == null) {
+            return null;
+        }
+        return accessorMap.computeIfAbsent(getter, ReflectionCache::createAccessor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> createAccessor(Method getter) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflect(getter);
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    handle.type().wrap());
+            return (Function<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable t) {
+            // Fallback to reflection for any getters that cannot be called directly (for example, non-public ones)
+            return o -> {
+                try {
+                    return getter.invoke(o);
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new IllegalStateException(
+                            "Failed to retrieve value for " + getter.getDeclaringClass().getName() + "."
+                                    + getter.getName() + " through reflection.",
+                            e);
+                }
+            };
+        }
+    }
+
     /**
      * Retrieve the value for a specified field from the provided asset.
      *
@@ -259,20 +311,36 @@ public class ReflectionCache {
             throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
         Method setter = getSetter(builder.getClass(), fieldName);
         if (setter != null) {
-            if (value instanceof Removable) {
-                builder.nullField(fieldName);
-            } else if (value instanceof String && ((String) value).isEmpty()) {
-                builder.nullField(fieldName);
-            } else if (value == null) {
-                builder.nullField(fieldName);
-            } else {
-                setter.invoke(builder, value);
-            }
+            setValue(builder, setter, fieldName, value);
             return true;
         }
         return false;
     }
 
+    /**
+     * Set the value of a field on a specific asset (via its mutable builder), using a setter that has
+     * already been looked up (for example, through {@link #getSetter(Class, String)}).
+     *
+     * @param builder for the asset through which to set the property
+     * @param setter method on the builder through which to set the property
+     * @param fieldName name of the property to set
+     * @param value value to set on the property
+     * @throws IllegalAccessException if the setter cannot be accessed to set this field
+     * @throws InvocationTargetException if the provided builder cannot be used
+     */
+    public static void setValue(Asset.AssetBuilder<?, ?> builder, Method setter, String fieldName, Object value)
+            throws IllegalAccessException, InvocationTargetException {
+        if (value instanceof Removable) {
+            builder.nullField(fieldName);
+        } else if (value instanceof String && ((String) value).isEmpty()) {
+            builder.nullField(fieldName);
+        } else if (value == null) {
+            builder.nullField(fieldName);
+        } else {
+            setter.invoke(builder, value);
+        }
+    }
+
     /**
      * Set the value of a field on a specific asset (via its mutable builder).
      *
@@ -0,0 +1,296 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.cache;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Size-bounded, in-heap cache using the W-TinyLFU admission and eviction policy: new entries enter a small
+ * LRU window, and only displace an entry in the main (segmented LRU) region when they have been accessed
+ * more frequently -- as estimated by a compact count-min sketch. This keeps frequently-used entries resident
+ * even when many entries are only ever used once (as is typical of large imports).
+ * Entries that are evicted are handed to a listener, for example to spill them to an off-heap cache.
+ *
+ * @param <K> type of the keys in the cache
+ * @param <V> type of the values in the cache
+ */
+public class TinyLfuCache<K, V> {
+
+    private final int maximumSize;
+    private final int windowMax;
+    private final int protectedMax;
+    private final BiConsumer<K, V> onEvict;
+    private final FrequencySketch sketch;
+
+    private final LinkedHashMap<K, V> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, V> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, V> protect = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Construct a new bounded cache.
+     *
+     * @param maximumSize most entries to hold in the cache
+     * @param onEvict listener to receive every entry evicted from the cache (or null for none)
+     */
+    public TinyLfuCache(int maximumSize, BiConsumer<K, V> onEvict) {
+        this.maximumSize = Math.max(2, maximumSize);
+        this.windowMax = Math.max(1, this.maximumSize / 100);
+        int mainMax = this.maximumSize - windowMax;
+        this.protectedMax = Math.max(1, mainMax * 4 / 5);
+        this.onEvict = onEvict;
+        this.sketch = new FrequencySketch(this.maximumSize);
+    }
+
+    /**
+     * Retrieve a value from the cache.
+     *
+     * @param key of the value to retrieve
+     * @return the value, or null if it is not in the cache
+     */
+    public synchronized V get(K key) {
+        sketch.increment(key);
+        V value = window.get(key);
+        if (value == null) {
+            value = protect.get(key);
+            if (value == null) {
+                value = probation.remove(key);
+                if (value != null) {
+                    // Accessed again while on probation, so promote it to the protected segment
+                    protect.put(key, value);
+                    demoteProtected();
+                }
+            }
+        }
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Put a value into the cache, which may evict some other entry from the cache.
+     * Any evicted entry is only handed to the eviction listener once the cache is no longer locked,
+     * so that a slow listener (like one that spills entries to disk) does not stall other threads' access.
+     *
+     * @param key of the value
+     * @param value to put into the cache
+     */
+    public void put(K key, V value) {
+        Map.Entry<K, V> evicted = null;
+        synchronized (this) {
+            sketch.increment(key);
+            if (window.containsKey(key)) {
+                window.put(key, value);
+            } else if (protect.containsKey(key)) {
+                protect.put(key, value);
+            } else if (probation.containsKey(key)) {
+                probation.put(key, value);
+            } else {
+                window.put(key, value);
+                if (window.size() > windowMax) {
+                    Map.Entry<K, V> candidate = removeEldest(window);
+                    evicted = admit(candidate.getKey(), candidate.getValue());
+                }
+            }
+        }
+        if (evicted != null) {
+            evictions.increment();
+            if (onEvict != null) {
+                onEvict.accept(evicted.getKey(), evicted.getValue());
+            }
+        }
+    }
+
+    /**
+     * Remove a value from the cache (without notifying the eviction listener).
+     *
+     * @param key of the value to remove
+     * @return the value that was removed, or null if it was not in the cache
+     */
+    public synchronized V remove(K key) {
+        V value = window.remove(key);
+        if (value == null) value = probation.remove(key);
+        if (value == null) value = protect.remove(key);
+        return value;
+    }
+
+    /**
+     * Check whether the cache holds a value for the key (without counting as an access).
+     *
+     * @param key to check
+     * @return true if the cache holds a value for the key
+     */
+    public synchronized boolean containsKey(K key) {
+        return window.containsKey(key) || probation.containsKey(key) || protect.containsKey(key);
+    }
+
+    /**
+     * Retrieve the number of entries currently in the cache.
+     *
+     * @return the number of entries currently in the cache
+     */
+    public synchronized int size() {
+        return window.size() + probation.size() + protect.size();
+    }
+
+    /**
+     * Retrieve the most entries the cache will hold.
+     *
+     * @return the maximum number of entries in the cache
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Retrieve the number of lookups that found a value in the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Retrieve the number of lookups that did not find a value in the cache.
+     *
+     * @return the number of cache misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Retrieve the number of entries that have been evicted from the cache.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /** Remove every entry from the cache (without notifying the eviction listener). */
+    public synchronized void clear() {
+        window.clear();
+        probation.clear();
+        protect.clear();
+    }
+
+    /**
+     * Admit a candidate (evicted from the window) into the main region, if either there is room
+     * or it is used more frequently than the entry it would displace.
+     *
+     * @return the entry evicted from the cache as a result, or null if there is none
+     */
+    private Map.Entry<K, V> admit(K key, V value) {
+        if (probation.size() + protect.size() < maximumSize - windowMax) {
+            probation.put(key, value);
+            return null;
+        }
+        LinkedHashMap<K, V> victims = probation.isEmpty() ? protect : probation;
+        K victimKey = victims.keySet().iterator().next();
+        if (sketch.frequency(key) > sketch.frequency(victimKey)) {
+            V victim = victims.remove(victimKey);
+            probation.put(key, value);
+            return new AbstractMap.SimpleImmutableEntry<>(victimKey, victim);
+        } else {
+            return new AbstractMap.SimpleImmutableEntry<>(key, value);
+        }
+    }
+
+    private void demoteProtected() {
+        if (protect.size() > protectedMax) {
+            Map.Entry<K, V> demoted = removeEldest(protect);
+            probation.put(demoted.getKey(), demoted.getValue());
+        }
+    }
+
+    private static <K, V> Map.Entry<K, V> removeEldest(LinkedHashMap<K, V> map) {
+        Iterator<Map.Entry<K, V>> it = map.entrySet().iterator();
+        Map.Entry<K, V> next = it.next();
+        Map.Entry<K, V> eldest = new AbstractMap.SimpleImmutableEntry<>(next.getKey(), next.getValue());
+        it.remove();
+        return eldest;
+    }
+
+    /**
+     * Count-min sketch of 4-bit counters, estimating how frequently each key has been accessed.
+     * Counters are periodically halved, so that the estimates favor recent popularity.
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+        };
+
+        private final long[] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions = 0;
+
+        FrequencySketch(int maximumSize) {
+            int size = Integer.highestOneBit(Math.max(64, maximumSize) - 1) << 1;
+            this.table = new long[size];
+            this.mask = size - 1;
+            this.sampleSize = 10 * Math.max(64, maximumSize);
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int idx = indexOf(hash, i);
+                int offset = ((hash >>> (i << 3)) & 0xF) << 2;
+                frequency = Math.min(frequency, (int) ((table[idx] >>> offset) & 0xFL));
+            }
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int idx = indexOf(hash, i);
+                int offset = ((hash >>> (i << 3)) & 0xF) << 2;
+                long counter = 0xFL << offset;
+                if ((table[idx] & counter) != counter) {
+                    table[idx] += 1L << offset;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                // Halve every 4-bit counter at once
+                table[i] = (table[i] >>> 1) & 0x7777777777777777L;
+            }
+            additions /= 2;
+        }
+
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return ((int) h) & mask;
+        }
+
+        private static int spread(int x) {
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+    }
+}
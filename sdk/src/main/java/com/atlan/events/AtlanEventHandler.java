@@ -51,6 +51,39 @@ public interface AtlanEventHandler {
         return getCurrentViewOfAsset(client, fromEvent, null, false, false);
     }
 
+    /**
+     * Retrieve the current state of many assets at once, with minimal required info to handle any logic
+     * the event handler requires to make its decisions.
+     * This default implementation retrieves all the assets through a single search (by GUID), unless
+     * {@link #getCurrentState(AtlanClient, Asset, Logger)} has been overridden -- in which case that override
+     * is used for each asset, so that its logic continues to be respected. If you override the single-asset
+     * method, override this method as well to retain the benefit of a single search across many assets.
+     *
+     * @param client connectivity to Atlan
+     * @param fromEvents the assets from the events (which could be stale at this point)
+     * @param log a logger to log anything you want
+     * @return the current state of each asset that still exists, as retrieved from Atlan, keyed by {@link #keyOf(Asset)}
+     * @throws AtlanException if there are any problems retrieving the current state of the assets from Atlan
+     */
+    default Map<String, Asset> getCurrentStates(AtlanClient client, Collection<Asset> fromEvents, Logger log)
+            throws AtlanException {
+        boolean overridden = overridesCurrentState(this);
+        Map<String, Asset> current = new LinkedHashMap<>();
+        if (!overridden) {
+            current.putAll(getCurrentViewOfAssets(client, fromEvents, null, false, false));
+        }
+        for (Asset fromEvent : fromEvents) {
+            if (overridden || fromEvent.getGuid() == null) {
+                // Assets without a GUID cannot be looked up in bulk, so fall back to looking them up individually
+                Asset one = getCurrentState(client, fromEvent, log);
+                if (one != null) {
+                    current.put(keyOf(fromEvent), one);
+                }
+            }
+        }
+        return current;
+    }
+
     /**
      * Calculate any changes to apply to assets, and return a collection of the minimally-updated form of the assets
      * with those changes applied (in-memory). Typically, you will want to call {@link Asset#trimToRequired()}
@@ -103,6 +136,61 @@ public interface AtlanEventHandler {
         batch.flush();
     }
 
+    /**
+     * Process a single event: validate it, retrieve the current state of its asset, calculate any changes
+     * and save them to Atlan.
+     *
+     * @param event the event to be processed
+     * @param log a logger to log anything you want
+     * @return the number of changed assets that were saved to Atlan
+     * @throws AtlanException on any problems processing the event
+     */
+    default int processEvent(AtlanEvent event, Logger log) throws AtlanException {
+        return processEvents(Collections.singletonList(event), log);
+    }
+
+    /**
+     * Process many events together: validate each of them, retrieve the current state of all of their
+     * assets at once, calculate any changes per asset and save all the changes to Atlan together.
+     * Multiple events for the same asset (for example, during bulk tag propagation) are only processed once,
+     * since the changes are always calculated from the current state of the asset rather than the event.
+     *
+     * @param events the events to be processed
+     * @param log a logger to log anything you want
+     * @return the number of changed assets that were saved to Atlan
+     * @throws AtlanException on any problems processing the events
+     */
+    default int processEvents(List<AtlanEvent> events, Logger log) throws AtlanException {
+        Map<String, Asset> fromEvents = new LinkedHashMap<>();
+        for (AtlanEvent event : events) {
+            if (validatePrerequisites(event, log)) {
+                Asset asset = event.getPayload().getAsset();
+                fromEvents.put(keyOf(asset), asset);
+            }
+        }
+        if (fromEvents.isEmpty()) {
+            return 0;
+        }
+        log.debug("Processing {} events across {} unique assets.", events.size(), fromEvents.size());
+        Map<String, Asset> current = getCurrentStates(getClient(), fromEvents.values(), log);
+        List<Asset> changed = new ArrayList<>();
+        for (Asset fromEvent : fromEvents.values()) {
+            Asset currentView = current.get(keyOf(fromEvent));
+            if (currentView == null) {
+                log.info(
+                        "Asset no longer exists in Atlan, skipping: {}::{}",
+                        fromEvent.getTypeName(),
+                        fromEvent.getQualifiedName());
+            } else {
+                changed.addAll(calculateChanges(currentView, log));
+            }
+        }
+        if (!changed.isEmpty()) {
+            saveChanges(getClient(), changed, log);
+        }
+        return changed.size();
+    }
+
     String WEBHOOK_VALIDATION_REQUEST =
             "{\"atlan-webhook\": \"Hello, humans of data! It worked. Excited to see what you build!\"}";
 
@@ -248,6 +336,93 @@ public interface AtlanEventHandler {
         return null;
     }
 
+    /**
+     * Maximum number of assets to retrieve through a single search, when retrieving many assets at once.
+     */
+    int MAX_ASSETS_PER_SEARCH = 100;
+
+    /**
+     * Retrieve a limited set of information about many assets in Atlan at once,
+     * as up-to-date as is available in the search index, to ensure we have
+     * reasonably up-to-date information about them.
+     * Note: like the single-asset variant, this relies on the eventual consistency of the search index
+     * so may not have the absolute latest information about the assets.
+     *
+     * @param client connectivity to Atlan
+     * @param fromEvents details of the assets in the events
+     * @param limitedToAttributes the limited set of attributes to retrieve about the assets
+     * @param includeMeanings if true, include any assigned terms
+     * @param includeAtlanTags if true, include any assigned Atlan tags
+     * @return the current information about each asset that still exists in Atlan, keyed by its GUID
+     *     (any assets without a GUID are ignored)
+     * @throws AtlanException on any issues communicating with the API
+     */
+    static Map<String, Asset> getCurrentViewOfAssets(
+            AtlanClient client,
+            Collection<Asset> fromEvents,
+            Collection<String> limitedToAttributes,
+            boolean includeMeanings,
+            boolean includeAtlanTags)
+            throws AtlanException {
+        List<String> guids = new ArrayList<>(new LinkedHashSet<>(
+                fromEvents.stream().map(Asset::getGuid).filter(Objects::nonNull).toList()));
+        Map<String, Asset> current = new LinkedHashMap<>();
+        for (int i = 0; i < guids.size(); i += MAX_ASSETS_PER_SEARCH) {
+            List<String> page = guids.subList(i, Math.min(i + MAX_ASSETS_PER_SEARCH, guids.size()));
+            IndexSearchRequest request = client.assets
+                    .select()
+                    .where(Asset.GUID.in(page))
+                    .pageSize(page.size())
+                    // Include attributes that are mandatory for updates, for some asset types
+                    .includeOnResults(IGlossaryTerm.ANCHOR)
+                    .includeOnResults(IAWS.AWS_ARN)
+                    .includeOnRelations(IReferenceable.GUID)
+                    .includeOnRelations(Asset.NAME)
+                    .includeOnRelations(Asset.DESCRIPTION)
+                    .toRequestBuilder()
+                    .excludeAtlanTags(!includeAtlanTags)
+                    .excludeMeanings(!includeMeanings)
+                    .allowDeletedRelations(false)
+                    .attributes(limitedToAttributes == null ? Collections.emptySet() : limitedToAttributes)
+                    .build();
+            IndexSearchResponse response = request.search(client);
+            if (response != null && response.getAssets() != null) {
+                for (Asset asset : response.getAssets()) {
+                    current.put(asset.getGuid(), asset);
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Key by which to uniquely identify an asset from an event: its GUID, or (where the event
+     * does not include a GUID) its type and qualifiedName.
+     *
+     * @param asset from the event
+     * @return a unique key for the asset
+     */
+    static String keyOf(Asset asset) {
+        return asset.getGuid() != null ? asset.getGuid() : asset.getTypeName() + "::" + asset.getQualifiedName();
+    }
+
+    /**
+     * Check whether the provided handler overrides the single-asset retrieval of current state.
+     *
+     * @param handler to check
+     * @return true if the handler provides its own implementation of getCurrentState
+     */
+    private static boolean overridesCurrentState(AtlanEventHandler handler) {
+        try {
+            return handler.getClass()
+                            .getMethod("getCurrentState", AtlanClient.class, Asset.class, Logger.class)
+                            .getDeclaringClass()
+                    != AtlanEventHandler.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
     /**
      * Check if the asset has either a user-provided or system-provided description.
      *
@@ -616,7 +616,12 @@ public enum ErrorCode implements ExceptionMessageSet {
             500,
             "ATLAN-JAVA-500-008",
             "Unable to query assets for data product.",
-            "Unable to run the query DSL for the data product, which should not happen. Please raise an issue on the public atlan-java GitHub repository.");
+            "Unable to run the query DSL for the data product, which should not happen. Please raise an issue on the public atlan-java GitHub repository."),
+    BATCH_SUBMISSION_INTERRUPTED(
+            500,
+            "ATLAN-JAVA-500-009",
+            "Submitting or waiting on a batch of assets to be saved was interrupted.",
+            "Allow the batch to be completely flushed before interrupting it, or ignore this error if it was your intention to interrupt the batch.");
 
     private static final String RAISE_GITHUB_ISSUE =
             "Please raise an issue on the Java SDK GitHub repository providing context in which this error occurred.";
@@ -0,0 +1,246 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.model.search;
+
+import static com.atlan.model.search.IndexSearchDSL.DEFAULT_PAGE_SIZE;
+
+import com.atlan.AtlanClient;
+import com.atlan.exception.AtlanException;
+import com.atlan.model.core.AtlanCloseable;
+import com.atlan.net.AtlanResponseStream;
+import com.atlan.net.RequestOptions;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Iterates through the results of a search, reading each result incrementally from the streamed
+ * response as it is iterated (rather than first buffering each page of results in its entirety).
+ * Pages are retrieved lazily, using search_after paging, so only a single result (plus the small
+ * per-asset paging metadata of the current page) is ever held in memory at a time.
+ *
+ * @param <T> type of each result read from the search
+ */
+@Slf4j
+abstract class AbstractIndexSearchStream<T> implements Iterator<T>, AtlanCloseable {
+    private static final int CHARACTERISTICS = Spliterator.NONNULL | Spliterator.IMMUTABLE | Spliterator.ORDERED;
+    private static final TypeReference<Map<String, IndexSearchResponse.Metadata>> METADATA_TYPE =
+            new TypeReference<>() {};
+
+    private final AtlanClient client;
+    private final IndexSearchRequest request;
+    private final RequestOptions options;
+    private final int pageSize;
+
+    /** Approximate number of total results, once it has been read from a page of results. */
+    @Getter
+    private Long approximateCount = null;
+
+    private InputStream body = null;
+    private JsonParser parser = null;
+    private boolean inEntities = false;
+    private boolean done = false;
+    private T next = null;
+    private int countInPage = 0;
+    private String lastGuid = null;
+    private final Map<String, IndexSearchResponse.Metadata> pageMetadata = new HashMap<>();
+
+    /**
+     * Start streaming the results of a search, immediately requesting the first page of results.
+     *
+     * @param client connectivity to the Atlan tenant against which to run the search
+     * @param request the search to run (which should already be sorted with a unique tie-breaker)
+     * @param options to override default client settings
+     * @throws AtlanException on any API interaction problems retrieving the first page of results
+     */
+    protected AbstractIndexSearchStream(AtlanClient client, IndexSearchRequest request, RequestOptions options)
+            throws AtlanException {
+        this.client = client;
+        this.request = request;
+        this.options = options;
+        Integer size = request.getDsl().getSize();
+        this.pageSize = (size == null || size < 1) ? DEFAULT_PAGE_SIZE : size;
+        openPage(null);
+    }
+
+    /**
+     * Stream the results (lazily) for processing without needing to manually manage paging.
+     * Closing the stream releases the underlying connection, even if the stream was not fully consumed.
+     *
+     * @return a lazily-loaded, incrementally-deserialized stream of results from the search
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, CHARACTERISTICS), false)
+                .onClose(this::close);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+        try {
+            while (next == null && !done) {
+                if (inEntities) {
+                    JsonToken token = parser.nextToken();
+                    if (token == JsonToken.START_OBJECT) {
+                        next = readResult(parser);
+                        countInPage++;
+                        lastGuid = getGuid(next);
+                    } else if (token != JsonToken.VALUE_NULL) {
+                        // End of the array of results in this page
+                        inEntities = false;
+                    }
+                } else if (!advanceToEntities()) {
+                    nextPage();
+                }
+            }
+            return next != null;
+        } catch (IOException | AtlanException e) {
+            close();
+            throw new RuntimeException("Unable to iterate through all pages of search results.", e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T result = next;
+        next = null;
+        return result;
+    }
+
+    /**
+     * Read a single result from the page of results.
+     *
+     * @param parser positioned at the start of the object for the result
+     * @return the result
+     * @throws IOException on any error parsing the result
+     */
+    protected abstract T readResult(JsonParser parser) throws IOException;
+
+    /**
+     * Retrieve the GUID of a result, used to page through the results.
+     *
+     * @param result from which to retrieve the GUID
+     * @return the GUID of the result
+     */
+    protected abstract String getGuid(T result);
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        done = true;
+        next = null;
+        closePage();
+    }
+
+    /**
+     * Request a page of results, and prepare to parse it.
+     *
+     * @param pageOffsets search_after values from which to start the page, or null for the first page
+     * @throws AtlanException on any API interaction problems retrieving the page
+     */
+    private void openPage(List<Object> pageOffsets) throws AtlanException {
+        IndexSearchDSL.IndexSearchDSLBuilder<?, ?> dsl =
+                request.getDsl().toBuilder().from(0).size(pageSize).clearPageOffsets();
+        if (pageOffsets != null) {
+            dsl.pageOffsets(pageOffsets);
+        }
+        IndexSearchRequest page = request.toBuilder()
+                .dsl(dsl.build())
+                .showSearchMetadata(true)
+                .build();
+        AtlanResponseStream response = client.assets.searchRaw(page, options);
+        body = response.body();
+        try {
+            parser = client.createParser(body);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                // Not an object (e.g. empty response) so there are no results to process
+                done = true;
+                closePage();
+            }
+        } catch (IOException e) {
+            close();
+            throw new RuntimeException("Unable to parse page of search results.", e);
+        }
+        countInPage = 0;
+        lastGuid = null;
+        pageMetadata.clear();
+    }
+
+    /**
+     * Move through the top-level fields of the page, capturing any page-level details, until either
+     * the start of the array of results or the end of the page.
+     *
+     * @return true if positioned at the start of the array of results, false if the page has been fully parsed
+     * @throws IOException on any error parsing the page
+     */
+    private boolean advanceToEntities() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("entities".equals(field) && value == JsonToken.START_ARRAY) {
+                inEntities = true;
+                return true;
+            } else if ("approximateCount".equals(field) && value.isNumeric()) {
+                approximateCount = parser.getLongValue();
+            } else if ("searchMetadata".equals(field) && value == JsonToken.START_OBJECT) {
+                Map<String, IndexSearchResponse.Metadata> metadata = parser.readValueAs(METADATA_TYPE);
+                if (metadata != null) {
+                    pageMetadata.putAll(metadata);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (token != JsonToken.END_OBJECT && token != null) {
+            throw new IOException("Unexpected token in search results: " + token);
+        }
+        return false;
+    }
+
+    /**
+     * Once a page has been fully parsed, request the next page (if there could be any more results).
+     *
+     * @throws AtlanException on any API interaction problems retrieving the next page
+     */
+    private void nextPage() throws AtlanException {
+        closePage();
+        if (countInPage < pageSize || lastGuid == null) {
+            // A partial (or empty) page means we have reached the end of the results
+            done = true;
+            return;
+        }
+        IndexSearchResponse.Metadata offsets = pageMetadata.get(lastGuid);
+        if (offsets == null || offsets.getSorts() == null || offsets.getSorts().isEmpty()) {
+            log.warn("No paging details found for the last result ({}), unable to retrieve further pages.", lastGuid);
+            done = true;
+            return;
+        }
+        openPage(offsets.getSorts());
+    }
+
+    private void closePage() {
+        inEntities = false;
+        AtlanCloseable.close(parser);
+        AtlanCloseable.close(body);
+        parser = null;
+        body = null;
+    }
+}
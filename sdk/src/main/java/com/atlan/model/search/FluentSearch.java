@@ -74,6 +74,15 @@ public class FluentSearch extends CompoundQuery {
     /** Qualified name of a purpose through which to restrict the results. */
     String restrictByPurpose;
 
+    /**
+     * Whether to deserialize results incrementally as they are streamed (true), rather than buffering each
+     * page of results in its entirety (false, the default). This bounds memory use for non-parallel streams to
+     * a single asset at a time, but the resulting stream holds an open connection until it is fully consumed
+     * or closed -- so it should be used in a try-with-resources (or Kotlin use) block if it may not be fully
+     * consumed (for example, with {@code findFirst()} or {@code limit()}).
+     */
+    Boolean incremental;
+
     /**
      * Translate the Atlan fluent search into an Atlan search request.
      *
@@ -120,7 +129,9 @@ public class FluentSearch extends CompoundQuery {
     /**
      * Run the fluent search to retrieve assets that match the supplied criteria.
      * Note: if the number of results exceeds the predefined threshold (100,000 assets)
-     * this will be automatically converted into a bulkStream().
+     * this will be automatically converted into a bulkStream() -- unless the search is
+     * {@link #incremental}, in which case results are retrieved using search_after paging
+     * without any such threshold.
      *
      * @param parallel if true, returns a parallel stream
      * @return a stream of assets that match the specified criteria, lazily-fetched
@@ -130,13 +141,33 @@ public class FluentSearch extends CompoundQuery {
         if (client == null) {
             throw new InvalidRequestException(ErrorCode.NO_ATLAN_CLIENT);
         }
-        if (parallel) {
+        if (!parallel && incremental != null && incremental) {
+            return client.assets.searchIncrementally(toRequest(), null);
+        } else if (parallel) {
             return toRequest().search(client).parallelStream();
         } else {
             return toRequest().search(client).stream();
         }
     }
 
+    /**
+     * Run the fluent search to retrieve a compact view of each asset that matches the supplied criteria.
+     * Each view holds only the attributes requested through {@code includeOnResults} (plus the GUID,
+     * qualifiedName and name of the asset), so is far cheaper to hold in memory than the full asset -- use
+     * {@link ProjectedAsset#toBuilder()} to inflate any asset you need to change and save.
+     * Note: results are always retrieved incrementally (see {@link #incremental}), so the stream should be closed
+     * if it may not be fully consumed.
+     *
+     * @return a stream of compact views of the assets that match the specified criteria, lazily-fetched
+     * @throws AtlanException on any issues interacting with the Atlan APIs
+     */
+    public Stream<ProjectedAsset> streamProjected() throws AtlanException {
+        if (client == null) {
+            throw new InvalidRequestException(ErrorCode.NO_ATLAN_CLIENT);
+        }
+        return client.assets.searchProjected(toRequest(), null);
+    }
+
     /**
      * Run the fluent search to retrieve assets that match the supplied criteria, using a
      * parallel stream (multiple pages are retrieved in parallel for improved throughput).
@@ -150,6 +181,25 @@ public class FluentSearch extends CompoundQuery {
         return stream(true);
     }
 
+    /**
+     * Run the fluent search to retrieve assets that match the supplied criteria, retrieving up to the
+     * specified number of pages concurrently (independently of the number of CPU cores available).
+     * The stream itself is sequential: results are streamed in their original order, with later pages
+     * prefetched in the background while earlier results are consumed.
+     * Note: if the number of results exceeds the predefined threshold (100,000 assets)
+     * this will be automatically converted into a bulkStream().
+     *
+     * @param concurrency maximum number of pages to retrieve concurrently
+     * @return a stream of assets that match the specified criteria, lazily-fetched
+     * @throws AtlanException on any issues interacting with the Atlan APIs
+     */
+    public Stream<Asset> prefetchingStream(int concurrency) throws AtlanException {
+        if (client == null) {
+            throw new InvalidRequestException(ErrorCode.NO_ATLAN_CLIENT);
+        }
+        return toRequest().search(client).prefetchingStream(concurrency);
+    }
+
     /**
      * Run the fluent search to retrieve assets that match the supplied criteria, using a
      * stream specifically meant for streaming large numbers of results (100,000's or more).
@@ -276,5 +326,15 @@ public class FluentSearch extends CompoundQuery {
         public Stream<Asset> bulkStream() throws AtlanException {
             return build().bulkStream();
         }
+
+        /**
+         * Run the fluent search to retrieve a compact view of each asset that matches the supplied criteria.
+         *
+         * @return a stream of compact views of the assets that match the specified criteria, lazily-fetched
+         * @throws AtlanException on any issues interacting with the Atlan APIs
+         */
+        public Stream<ProjectedAsset> streamProjected() throws AtlanException {
+            return build().streamProjected();
+        }
     }
 }
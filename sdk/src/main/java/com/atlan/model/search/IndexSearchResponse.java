@@ -13,10 +13,14 @@ import com.atlan.exception.LogicException;
 import com.atlan.model.assets.Asset;
 import com.atlan.model.core.AtlanObject;
 import com.atlan.net.ApiResource;
+import com.atlan.util.ThreadPools;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -190,13 +194,7 @@ public class IndexSearchResponse extends ApiResource implements Iterable<Asset>
     /** {@inheritDoc} */
     @Override
     public Spliterator<Asset> spliterator() {
-        long pageSize;
-        try {
-            pageSize = getQuery().getSize();
-        } catch (LogicException e) {
-            log.warn("Unable to parse page size from query, falling back to {}.", DEFAULT_PAGE_SIZE, e);
-            pageSize = DEFAULT_PAGE_SIZE;
-        }
+        long pageSize = getPageSize();
         IndexSearchResponseSpliterator spliterator =
                 new IndexSearchResponseSpliterator(this, 0, this.getApproximateCount(), pageSize);
         List<Asset> assets = getAssets() == null ? Collections.emptyList() : getAssets();
@@ -251,6 +249,42 @@ public class IndexSearchResponse extends ApiResource implements Iterable<Asset>
         }
     }
 
+    /**
+     * Stream the results across all pages, retrieving up to the specified number of pages concurrently.
+     * Unlike {@link #parallelStream()}, the number of concurrent requests is set explicitly rather than
+     * by the number of CPU cores (through the common fork-join pool), since retrieving pages is bound
+     * by network I/O rather than CPU. The stream itself is sequential: results are streamed in their
+     * original order, while later pages are prefetched in the background.
+     * Note: if the number of results exceeds the predefined threshold (100,000 assets)
+     * this will be automatically converted into a bulkStream().
+     *
+     * @param concurrency maximum number of pages to retrieve concurrently
+     * @return a lazily-loaded stream of results from the search
+     */
+    public Stream<Asset> prefetchingStream(int concurrency) {
+        if (approximateCount > MASS_EXTRACT_THRESHOLD) {
+            log.debug(
+                    "Results size exceeds threshold ({}), ignoring request for concurrent streaming and falling back to bulk streaming.",
+                    MASS_EXTRACT_THRESHOLD);
+            return bulkStream();
+        }
+        ExecutorService pool = ThreadPools.fixed("index-search-page", concurrency);
+        IndexSearchResponsePrefetchingIterator iterator =
+                new IndexSearchResponsePrefetchingIterator(this, getPageSize(), concurrency, pool);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, CHARACTERISTICS), false)
+                .onClose(pool::shutdownNow);
+    }
+
+    private long getPageSize() {
+        try {
+            Integer size = getQuery().getSize();
+            return size == null ? DEFAULT_PAGE_SIZE : size;
+        } catch (LogicException e) {
+            log.warn("Unable to parse page size from query, falling back to {}.", DEFAULT_PAGE_SIZE, e);
+            return DEFAULT_PAGE_SIZE;
+        }
+    }
+
     /**
      * Parse the original query from the search parameters.
      *
@@ -404,6 +438,82 @@ public class IndexSearchResponse extends ApiResource implements Iterable<Asset>
         }
     }
 
+    /**
+     * Allow results to be iterated through in order, while retrieving a bounded number of subsequent pages
+     * concurrently (in the background).
+     */
+    private static class IndexSearchResponsePrefetchingIterator implements Iterator<Asset> {
+
+        private final IndexSearchResponse response;
+        private final long end;
+        private final long pageSize;
+        private final int concurrency;
+        private final ExecutorService pool;
+        private final Deque<Future<List<Asset>>> prefetched = new ArrayDeque<>();
+        private long nextOffset;
+        private Iterator<Asset> currentPage;
+
+        IndexSearchResponsePrefetchingIterator(
+                IndexSearchResponse response, long pageSize, int concurrency, ExecutorService pool) {
+            this.response = response;
+            this.end = response.getApproximateCount() == null ? 0 : response.getApproximateCount();
+            this.pageSize = pageSize;
+            this.concurrency = concurrency;
+            this.pool = pool;
+            List<Asset> firstPage = response.getAssets() == null ? Collections.emptyList() : response.getAssets();
+            this.currentPage = firstPage.iterator();
+            this.nextOffset = firstPage.isEmpty() ? end : firstPage.size();
+            prefetch();
+        }
+
+        /** Keep up to the concurrency limit of subsequent pages being retrieved. */
+        private void prefetch() {
+            while (prefetched.size() < concurrency && nextOffset < end) {
+                int offset = (int) nextOffset;
+                int size = (int) Math.min(end - nextOffset, pageSize);
+                prefetched.add(pool.submit(() -> response.getSpecificPage(offset, size)));
+                nextOffset += pageSize;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            while (!currentPage.hasNext()) {
+                Future<List<Asset>> next = prefetched.poll();
+                if (next == null) {
+                    pool.shutdown();
+                    return false;
+                }
+                prefetch();
+                List<Asset> assets;
+                try {
+                    assets = next.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("Interrupted while retrieving a page of results, stopping.", e);
+                    prefetched.clear();
+                    pool.shutdownNow();
+                    return false;
+                } catch (ExecutionException e) {
+                    log.warn("Unable to fetch a page of results, skipping it.", e.getCause());
+                    assets = Collections.emptyList();
+                }
+                currentPage = assets.iterator();
+            }
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Asset next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return currentPage.next();
+        }
+    }
+
     /**
      * Indicates whether the sort options prioritize creation-time in ascending order as the first
      * sorting key (true) or anything else (false).
@@ -0,0 +1,44 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.model.search;
+
+import com.atlan.AtlanClient;
+import com.atlan.exception.AtlanException;
+import com.atlan.model.assets.Asset;
+import com.atlan.net.RequestOptions;
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+
+/**
+ * Iterates through the results of a search, deserializing each asset incrementally from the streamed
+ * response as it is iterated (rather than first buffering each page of results in its entirety).
+ * Pages are retrieved lazily, using search_after paging, so only a single asset (plus the small
+ * per-asset paging metadata of the current page) is ever held in memory at a time.
+ */
+public class IndexSearchStream extends AbstractIndexSearchStream<Asset> {
+
+    /**
+     * Start streaming the results of a search, immediately requesting the first page of results.
+     *
+     * @param client connectivity to the Atlan tenant against which to run the search
+     * @param request the search to run (which should already be sorted with a unique tie-breaker)
+     * @param options to override default client settings
+     * @throws AtlanException on any API interaction problems retrieving the first page of results
+     */
+    public IndexSearchStream(AtlanClient client, IndexSearchRequest request, RequestOptions options)
+            throws AtlanException {
+        super(client, request, options);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Asset readResult(JsonParser parser) throws IOException {
+        return parser.readValueAs(Asset.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected String getGuid(Asset result) {
+        return result.getGuid();
+    }
+}
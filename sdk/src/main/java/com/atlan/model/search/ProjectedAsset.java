@@ -0,0 +1,440 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.model.search;
+
+import com.atlan.AtlanClient;
+import com.atlan.model.assets.Asset;
+import com.atlan.model.assets.IAsset;
+import com.atlan.model.assets.IReferenceable;
+import com.atlan.model.fields.AtlanField;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+
+/**
+ * Compact, read-only view of an asset in the results of a search. Rather than every one of the (hundreds of)
+ * fields of the full asset model, this holds only the attributes that were requested on the results
+ * ({@code includeOnResults}), in a small array whose layout is shared by every result of the same search
+ * (its {@link Projection}). This makes it far cheaper to hold many results in memory at once.
+ * <br><br>
+ * To change and save the asset, use {@link #toBuilder()} to inflate the view into the full asset model.
+ */
+public final class ProjectedAsset {
+
+    /** Layout of the attributes shared by every result of the same search. */
+    @Getter
+    private final Projection projection;
+
+    /** Type of the asset. */
+    @Getter
+    private final String typeName;
+
+    private final JsonNode[] values;
+
+    private ProjectedAsset(Projection projection, String typeName, JsonNode[] values) {
+        this.projection = projection;
+        this.typeName = typeName;
+        this.values = values;
+    }
+
+    /**
+     * Read a single result of a search into its compact view.
+     *
+     * @param projection attributes to retain from the result (all others are skipped without being parsed)
+     * @param parser positioned at the start of the object for the result
+     * @return the compact view of the result
+     * @throws IOException on any error parsing the result
+     */
+    public static ProjectedAsset read(Projection projection, JsonParser parser) throws IOException {
+        String typeName = null;
+        JsonNode[] values = new JsonNode[projection.size()];
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "typeName":
+                    typeName = projection.canonicalTypeName(parser.getValueAsString());
+                    break;
+                case "attributes":
+                    readAttributes(projection, parser, values, false);
+                    break;
+                case "relationshipAttributes":
+                    // As for full assets, relationshipAttributes take precedence over the same attributes
+                    readAttributes(projection, parser, values, true);
+                    break;
+                case "businessAttributes":
+                    readCustomMetadata(projection, parser, values);
+                    break;
+                default:
+                    readValue(projection, parser, values, field, true);
+                    break;
+            }
+        }
+        if (token != JsonToken.END_OBJECT) {
+            throw new IOException("Unexpected token in search result: " + token);
+        }
+        return new ProjectedAsset(projection, typeName, values);
+    }
+
+    private static void readAttributes(Projection projection, JsonParser parser, JsonNode[] values, boolean overwrite)
+            throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            readValue(projection, parser, values, field, overwrite);
+        }
+    }
+
+    private static void readCustomMetadata(Projection projection, JsonParser parser, JsonNode[] values)
+            throws IOException {
+        if (!projection.customMetadata || parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String setId = parser.currentName();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String attrId = parser.currentName();
+                parser.nextToken();
+                readValue(projection, parser, values, setId + "." + attrId, true);
+            }
+        }
+    }
+
+    private static void readValue(
+            Projection projection, JsonParser parser, JsonNode[] values, String name, boolean overwrite)
+            throws IOException {
+        int slot = projection.indexOf(name);
+        if (slot < 0 || (!overwrite && values[slot] != null) || parser.currentToken() == JsonToken.VALUE_NULL) {
+            parser.skipChildren();
+        } else {
+            values[slot] = parser.readValueAsTree();
+        }
+    }
+
+    /**
+     * Retrieve the unique identifier (GUID) of the asset.
+     *
+     * @return the unique identifier (GUID) of the asset
+     */
+    public String getGuid() {
+        return getString(IReferenceable.GUID);
+    }
+
+    /**
+     * Retrieve the unique name of the asset.
+     *
+     * @return the unique name of the asset
+     */
+    public String getQualifiedName() {
+        return getString(IAsset.QUALIFIED_NAME);
+    }
+
+    /**
+     * Retrieve the name of the asset.
+     *
+     * @return the name of the asset
+     */
+    public String getName() {
+        return getString(IAsset.NAME);
+    }
+
+    /**
+     * Check whether a field was requested on the results of the search, and is therefore held by this view.
+     * (Even if it was requested, the asset may not have a value for it.)
+     *
+     * @param field to check
+     * @return true if the field is held by this view, otherwise false
+     */
+    public boolean isIncluded(AtlanField field) {
+        return projection.indexOf(field.getAtlanFieldName()) >= 0;
+    }
+
+    /**
+     * Retrieve the raw (JSON) value of a field.
+     *
+     * @param field for which to retrieve the value
+     * @return the raw value of the field, or null if the asset has no value for it
+     * @throws IllegalArgumentException if the field was not requested on the results of the search
+     */
+    public JsonNode getValue(AtlanField field) {
+        int slot = projection.indexOf(field.getAtlanFieldName());
+        if (slot < 0) {
+            throw new IllegalArgumentException(
+                    "Field was not requested on the results of the search: " + field.getAtlanFieldName());
+        }
+        return values[slot];
+    }
+
+    /**
+     * Retrieve the value of a field as a string.
+     *
+     * @param field for which to retrieve the value
+     * @return the value of the field, or null if the asset has no value for it
+     * @throws IllegalArgumentException if the field was not requested on the results of the search
+     */
+    public String getString(AtlanField field) {
+        JsonNode value = getValue(field);
+        return value == null ? null : value.asText();
+    }
+
+    /**
+     * Retrieve the value of a field as a number (for example, a count or a time in milliseconds).
+     *
+     * @param field for which to retrieve the value
+     * @return the value of the field, or null if the asset has no (numeric) value for it
+     * @throws IllegalArgumentException if the field was not requested on the results of the search
+     */
+    public Long getLong(AtlanField field) {
+        JsonNode value = getValue(field);
+        return value == null || !value.isNumber() ? null : value.asLong();
+    }
+
+    /**
+     * Retrieve the value of a field as a decimal number.
+     *
+     * @param field for which to retrieve the value
+     * @return the value of the field, or null if the asset has no (numeric) value for it
+     * @throws IllegalArgumentException if the field was not requested on the results of the search
+     */
+    public Double getDouble(AtlanField field) {
+        JsonNode value = getValue(field);
+        return value == null || !value.isNumber() ? null : value.asDouble();
+    }
+
+    /**
+     * Retrieve the value of a field as a boolean.
+     *
+     * @param field for which to retrieve the value
+     * @return the value of the field, or null if the asset has no (boolean) value for it
+     * @throws IllegalArgumentException if the field was not requested on the results of the search
+     */
+    public Boolean getBoolean(AtlanField field) {
+        JsonNode value = getValue(field);
+        return value == null || !value.isBoolean() ? null : value.asBoolean();
+    }
+
+    /**
+     * Retrieve the value of a multivalued field as a list of strings.
+     *
+     * @param field for which to retrieve the value
+     * @return the values of the field, or null if the asset has no value for it
+     * @throws IllegalArgumentException if the field was not requested on the results of the search
+     */
+    public List<String> getStrings(AtlanField field) {
+        JsonNode value = getValue(field);
+        if (value == null) {
+            return null;
+        }
+        List<String> list = new ArrayList<>(value.size());
+        if (value.isArray()) {
+            value.forEach(element -> list.add(element.asText()));
+        } else {
+            list.add(value.asText());
+        }
+        return list;
+    }
+
+    /**
+     * Retrieve the value of a field as any type of the asset model (for example, an enumeration or related assets).
+     *
+     * @param field for which to retrieve the value
+     * @param type into which to convert the value
+     * @param <T> type into which to convert the value
+     * @return the value of the field, or null if the asset has no value for it
+     * @throws IllegalArgumentException if the field was not requested on the results, or cannot be converted
+     */
+    public <T> T getValue(AtlanField field, Class<T> type) {
+        JsonNode value = getValue(field);
+        return value == null ? null : projection.client.convertValue(value, type);
+    }
+
+    /**
+     * Retrieve the value of a field as any type of the asset model (for example, a list of related assets).
+     *
+     * @param field for which to retrieve the value
+     * @param type into which to convert the value
+     * @param <T> type into which to convert the value
+     * @return the value of the field, or null if the asset has no value for it
+     * @throws IllegalArgumentException if the field was not requested on the results, or cannot be converted
+     */
+    public <T> T getValue(AtlanField field, TypeReference<T> type) {
+        JsonNode value = getValue(field);
+        return value == null ? null : projection.client.convertValue(value, type);
+    }
+
+    /**
+     * Inflate this view into the full asset model. Only the fields held by this view will be populated.
+     *
+     * @return the full asset
+     * @throws IllegalArgumentException if the view cannot be inflated into an asset
+     */
+    public Asset toAsset() {
+        ObjectNode root = JsonNodeFactory.instance.objectNode();
+        ObjectNode attributes = JsonNodeFactory.instance.objectNode();
+        Map<String, ObjectNode> customMetadata = new HashMap<>();
+        root.put("typeName", typeName);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                continue;
+            }
+            String name = projection.names[i];
+            int separator = name.indexOf('.');
+            if (Projection.HEADER_FIELDS.contains(name)) {
+                root.set(name, values[i]);
+            } else if (projection.customMetadata && separator > 0) {
+                customMetadata
+                        .computeIfAbsent(name.substring(0, separator), k -> JsonNodeFactory.instance.objectNode())
+                        .set(name.substring(separator + 1), values[i]);
+            } else {
+                attributes.set(name, values[i]);
+            }
+        }
+        root.set("attributes", attributes);
+        if (!customMetadata.isEmpty()) {
+            root.putObject("businessAttributes").setAll(customMetadata);
+        }
+        return projection.client.convertValue(root, Asset.class);
+    }
+
+    /**
+     * Inflate this view into a builder for the full asset model, to change and save the asset.
+     * Only the fields held by this view will be populated.
+     *
+     * @return a builder for the full asset
+     * @throws IllegalArgumentException if the view cannot be inflated into an asset
+     */
+    public Asset.AssetBuilder<?, ?> toBuilder() {
+        return toAsset().toBuilder();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "ProjectedAsset(typeName=" + typeName + ", guid=" + getGuid() + ", qualifiedName=" + getQualifiedName()
+                + ")";
+    }
+
+    /**
+     * Layout of the attributes held by each compact view of the results of a search, shared by every result.
+     */
+    public static final class Projection {
+
+        /** Fields that are returned at the top level of each result, rather than amongst its attributes. */
+        private static final Set<String> HEADER_FIELDS = Set.of(
+                "guid",
+                "status",
+                "createdBy",
+                "updatedBy",
+                "createTime",
+                "updateTime",
+                "displayText",
+                "classifications",
+                "classificationNames",
+                "meanings",
+                "meaningNames",
+                "labels",
+                "pendingTasks",
+                "isIncomplete",
+                "deleteHandler");
+
+        private final AtlanClient client;
+        private final String[] names;
+        private final Map<String, Integer> slots;
+        private final boolean customMetadata;
+        private final Map<String, String> typeNames = new ConcurrentHashMap<>();
+
+        private Projection(AtlanClient client, Collection<String> attributes) {
+            Set<String> unique = new LinkedHashSet<>();
+            unique.add(IReferenceable.GUID.getAtlanFieldName());
+            unique.add(IAsset.QUALIFIED_NAME.getAtlanFieldName());
+            unique.add(IAsset.NAME.getAtlanFieldName());
+            if (attributes != null) {
+                unique.addAll(attributes);
+            }
+            this.client = client;
+            this.names = unique.toArray(new String[0]);
+            this.slots = new HashMap<>();
+            boolean custom = false;
+            for (int i = 0; i < names.length; i++) {
+                slots.put(names[i], i);
+                custom |= !HEADER_FIELDS.contains(names[i]) && names[i].indexOf('.') > 0;
+            }
+            this.customMetadata = custom;
+        }
+
+        /**
+         * Lay out the attributes to hold for each result of a search.
+         * Note: the GUID, qualifiedName and name of each asset are always held.
+         *
+         * @param client connectivity to the Atlan tenant against which the search is run
+         * @param attributes names of the attributes requested on the results of the search
+         * @return the layout of the attributes
+         */
+        public static Projection of(AtlanClient client, Collection<String> attributes) {
+            return new Projection(client, attributes);
+        }
+
+        /**
+         * Lay out the attributes to hold for each result of a search.
+         * Note: the GUID, qualifiedName and name of each asset are always held.
+         *
+         * @param client connectivity to the Atlan tenant against which the search is run
+         * @param request the search, whose requested attributes should be held
+         * @return the layout of the attributes
+         */
+        public static Projection of(AtlanClient client, IndexSearchRequest request) {
+            return new Projection(client, request.getAttributes());
+        }
+
+        /**
+         * Retrieve the number of attributes held for each result.
+         *
+         * @return the number of attributes held for each result
+         */
+        public int size() {
+            return names.length;
+        }
+
+        /**
+         * Retrieve the position of an attribute within each result.
+         *
+         * @param name of the attribute
+         * @return the position of the attribute, or -1 if it is not held
+         */
+        int indexOf(String name) {
+            Integer slot = slots.get(name);
+            return slot == null ? -1 : slot;
+        }
+
+        /** Share a single copy of each type name across all results, rather than one per result. */
+        private String canonicalTypeName(String typeName) {
+            return typeName == null ? null : typeNames.computeIfAbsent(typeName, k -> k);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.model.search;
+
+import com.atlan.AtlanClient;
+import com.atlan.exception.AtlanException;
+import com.atlan.net.RequestOptions;
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+
+/**
+ * Iterates through the results of a search, reading each result incrementally from the streamed response
+ * into a compact {@link ProjectedAsset} that holds only the attributes requested on the results.
+ * Pages are retrieved lazily, using search_after paging, as for {@link IndexSearchStream}.
+ */
+public class ProjectedSearchStream extends AbstractIndexSearchStream<ProjectedAsset> {
+
+    private final ProjectedAsset.Projection projection;
+
+    /**
+     * Start streaming the results of a search, immediately requesting the first page of results.
+     *
+     * @param client connectivity to the Atlan tenant against which to run the search
+     * @param request the search to run (which should already be sorted with a unique tie-breaker)
+     * @param options to override default client settings
+     * @throws AtlanException on any API interaction problems retrieving the first page of results
+     */
+    public ProjectedSearchStream(AtlanClient client, IndexSearchRequest request, RequestOptions options)
+            throws AtlanException {
+        super(client, request, options);
+        this.projection = ProjectedAsset.Projection.of(client, request);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected ProjectedAsset readResult(JsonParser parser) throws IOException {
+        return ProjectedAsset.read(projection, parser);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected String getGuid(ProjectedAsset result) {
+        return result.getGuid();
+    }
+}
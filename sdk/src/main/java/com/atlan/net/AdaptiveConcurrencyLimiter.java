@@ -0,0 +1,245 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.net;
+
+import com.atlan.Atlan;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cross-thread, global limit on the number of requests that can be in-flight at the same time, which adapts
+ * to how the tenant is coping with the load -- so that the SDK can stay near the tenant's capacity without
+ * repeatedly tripping its rate limits.
+ * <ul>
+ *     <li>Each time a request is throttled (429), the limit is halved (multiplicative decrease).</li>
+ *     <li>While the recent latency of requests stays within a tolerance of the baseline latency, the limit
+ *         grows by roughly one for every limit's worth of successful requests (additive increase).</li>
+ *     <li>Once recent latency rises beyond that tolerance, the limit shrinks in proportion to how far beyond it
+ *         the latency has risen (gradient), at most once per limit's worth of requests, before any throttling
+ *         is hit.</li>
+ * </ul>
+ * The baseline is the lowest long-term average latency over the last two windows of requests, rather than
+ * any single fastest request, so that a mix of cheap and expensive requests does not by itself look like
+ * rising latency. Latency is taken from the time spent upstream ({@link RequestMetrics#UPSTREAM_HEADER}) when
+ * it is available, and otherwise from the overall elapsed time of the request. Only successful requests are
+ * sampled: failures and errors tend to return quickly, and would otherwise skew the baseline.
+ * Only applies when {@link Atlan#enableAdaptiveConcurrency} is true.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+    private static final AdaptiveConcurrencyLimiter INSTANCE = new AdaptiveConcurrencyLimiter();
+
+    /** Default starting (and minimum-after-reset) limit on in-flight requests. */
+    public static final int DEFAULT_INITIAL_LIMIT = 16;
+
+    /** Default ceiling on in-flight requests. */
+    public static final int DEFAULT_MAX_LIMIT = 128;
+
+    /** Multiple of the lowest observed latency that is tolerated before the limit is reduced. */
+    static final double LATENCY_TOLERANCE = 2.0;
+
+    /** Weighting of each new latency sample in the smoothed (moving average) recent latency. */
+    static final double SMOOTHING = 0.1;
+
+    /** Weighting of each new latency sample in the long-term (moving average) latency, used for the baseline. */
+    static final double BASELINE_SMOOTHING = 0.01;
+
+    /** Number of samples to take before adapting the limit at all, so the averages have settled. */
+    static final int WARMUP_SAMPLES = 100;
+
+    /** Minimum time between reductions of the limit due to throttling, so a burst of 429s only halves it once. */
+    static final long THROTTLE_BACKOFF_MILLIS = 1000;
+
+    /** Number of samples in each window over which the baseline is taken, so it follows drift over time. */
+    static final int BASELINE_WINDOW = 1000;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitAvailable = lock.newCondition();
+
+    private int minLimit = 1;
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+    private double limit = DEFAULT_INITIAL_LIMIT;
+    private int inFlight = 0;
+    private double smoothedLatency = -1;
+    private double longTermLatency = 0;
+    private double windowMinLatency = Double.MAX_VALUE;
+    private double previousWindowMinLatency = Double.MAX_VALUE;
+    private long samples = 0;
+    private int samplesSinceDecrease = 0;
+    private long lastThrottledMillis = 0;
+
+    private AdaptiveConcurrencyLimiter() {}
+
+    public static AdaptiveConcurrencyLimiter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Change the bounds within which the limit is adapted, and reset it to the provided starting point.
+     *
+     * @param initial starting limit on in-flight requests
+     * @param min lowest the limit can be reduced to
+     * @param max highest the limit can be increased to
+     */
+    public void configure(int initial, int min, int max) {
+        if (min < 1 || max < min || initial < min || initial > max) {
+            throw new IllegalArgumentException(
+                    "Limits must satisfy 1 <= min <= initial <= max, but were: " + min + ", " + initial + ", " + max);
+        }
+        lock.lock();
+        try {
+            this.minLimit = min;
+            this.maxLimit = max;
+            this.limit = initial;
+            this.smoothedLatency = -1;
+            this.longTermLatency = 0;
+            this.windowMinLatency = Double.MAX_VALUE;
+            this.previousWindowMinLatency = Double.MAX_VALUE;
+            this.samples = 0;
+            this.samplesSinceDecrease = 0;
+            this.lastThrottledMillis = 0;
+            permitAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieve the current limit on in-flight requests.
+     *
+     * @return the maximum number of requests currently allowed to be in-flight at the same time
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieve the number of requests currently in-flight.
+     *
+     * @return the number of requests currently in-flight
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until a request is permitted to be sent, and claim a slot for it.
+     * Every call to this method must be followed by a call to {@link #release(Long, long, boolean)}
+     * or {@link #release()}.
+     *
+     * @throws InterruptedException on any interruption
+     */
+    public void acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                log.debug(" ... {} requests already in-flight, waiting for one to complete", inFlight);
+                permitAvailable.await(THROTTLE_BACKOFF_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Release the slot claimed for a request, and adapt the limit to the outcome of the request.
+     *
+     * @param upstreamMillis time spent upstream for the request, in milliseconds (or null if unknown)
+     * @param elapsedMillis overall elapsed time for the request, in milliseconds
+     * @param throttled whether the request was throttled (429)
+     */
+    public void release(Long upstreamMillis, long elapsedMillis, boolean throttled) {
+        lock.lock();
+        try {
+            inFlight = Math.max(0, inFlight - 1);
+            if (throttled) {
+                decrease(System.currentTimeMillis());
+            } else {
+                sample(upstreamMillis != null ? upstreamMillis : elapsedMillis);
+            }
+            permitAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Release the slot claimed for a request that failed or errored, without adapting the limit to it.
+     */
+    public void release() {
+        lock.lock();
+        try {
+            inFlight = Math.max(0, inFlight - 1);
+            permitAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Record that throttling has occurred, irrespective of any particular request.
+     */
+    void onThrottled() {
+        lock.lock();
+        try {
+            decrease(System.currentTimeMillis());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void decrease(long now) {
+        if (now - lastThrottledMillis >= THROTTLE_BACKOFF_MILLIS) {
+            lastThrottledMillis = now;
+            limit = Math.max(minLimit, limit / 2);
+            log.debug(" ... throttled, reducing limit on in-flight requests to {}", (int) limit);
+        }
+    }
+
+    private void sample(long latencyMillis) {
+        double latency = Math.max(1, latencyMillis);
+        samples++;
+        smoothedLatency = smoothedLatency < 0 ? latency : (SMOOTHING * latency) + ((1 - SMOOTHING) * smoothedLatency);
+        // Until there are enough samples, the long-term latency is simply the mean of all samples so far
+        double weight = Math.max(BASELINE_SMOOTHING, 1.0 / samples);
+        longTermLatency = (weight * latency) + ((1 - weight) * longTermLatency);
+        if (samples < WARMUP_SAMPLES) {
+            return;
+        }
+        windowMinLatency = Math.min(windowMinLatency, longTermLatency);
+        if (samples % BASELINE_WINDOW == 0) {
+            // Start a new window, in case the tenant's unloaded latency has itself changed
+            previousWindowMinLatency = windowMinLatency;
+            windowMinLatency = longTermLatency;
+        }
+        double baselineLatency = Math.min(previousWindowMinLatency, windowMinLatency);
+        double gradient = (LATENCY_TOLERANCE * baselineLatency) / smoothedLatency;
+        samplesSinceDecrease++;
+        if (gradient < 1.0) {
+            // Latency is rising beyond tolerance: back off in proportion, before hitting any throttling
+            // (but only once per limit's worth of requests, so it is not compounded by every response)
+            if (samplesSinceDecrease >= limit) {
+                samplesSinceDecrease = 0;
+                limit = Math.max(minLimit, limit * Math.max(0.5, gradient));
+                log.debug(" ... latency rising, reducing limit on in-flight requests to {}", (int) limit);
+            }
+        } else {
+            // Latency is healthy: probe for more capacity, by about one request per limit's worth of requests
+            limit = Math.min(maxLimit, limit + (1.0 / limit));
+            permitAvailable.signal();
+        }
+    }
+}
@@ -421,6 +421,46 @@ public abstract class ApiResource extends AtlanObject implements AtlanResponseIn
         return response;
     }
 
+    /**
+     * Pass-through to the request-handling method after confirming that the provided payload is non-null,
+     * for calls whose (potentially large) response should be processed as it is streamed rather than buffered.
+     *
+     * @param client connectivity to Atlan
+     * @param method for the request
+     * @param url of the request
+     * @param payload to send in the request
+     * @param options for sending the request (or null to use global defaults)
+     * @return the response, whose body must be closed by the caller once consumed
+     * @throws AtlanException on any API interaction problem
+     */
+    public static AtlanResponseStream requestStreaming(
+            AtlanClient client,
+            ApiResource.RequestMethod method,
+            String url,
+            AtlanObject payload,
+            RequestOptions options)
+            throws AtlanException {
+        checkNullTypedParams(url, payload);
+        String body = payload.toJson(client);
+        // Create a unique ID for every request, and add it to the logging context and header
+        String requestId = UUID.randomUUID().toString();
+        injectTraceId(requestId);
+        log.debug("({}) {} with: {}", method, url, body);
+        AtlanResponseStream response =
+                ApiResource.atlanResponseGetter.requestStreaming(client, method, url, body, options, requestId);
+        // Ensure we reset the Atlan request ID, so we always have the context from the original
+        // request that was made (even if it in turn triggered off other requests)
+        injectTraceId(requestId);
+        if (log.isDebugEnabled()) {
+            if (Atlan.enableTelemetry) {
+                log.debug(" ... streaming response ({}).", response.metrics());
+            } else {
+                log.debug(" ... streaming response.");
+            }
+        }
+        return response;
+    }
+
     /**
      * Pass-through the request to the request-handling method, for file uploads.
      * This method wraps debug-level logging lines around the request to show precisely what was constructed and sent
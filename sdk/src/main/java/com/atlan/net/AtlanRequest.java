@@ -119,6 +119,11 @@ public class AtlanRequest {
             this.method = method;
             this.url = new URL(url);
             this.content = (body == null || body.isEmpty()) ? null : HttpContent.buildJSONEncodedContent(body);
+            int threshold = this.options.getRequestCompressionThreshold();
+            if (content != null && threshold >= 0 && content.byteArrayContent().length > threshold) {
+                // Only compress large payloads, where the bandwidth saved outweighs the CPU spent compressing
+                this.content = content.gzip();
+            }
             this.checkApiToken = true;
             this.acceptType = acceptType;
             this.headers = buildHeaders(true, options, acceptType);
@@ -243,6 +248,11 @@ public class AtlanRequest {
         // Accept-Charset
         headerMap.put("Accept-Charset", List.of(ApiResource.CHARSET.name()));
 
+        // Accept-Encoding (responses are decompressed as they are streamed, by AtlanResponseStream)
+        if (options == null || options.getAcceptCompression()) {
+            headerMap.put("Accept-Encoding", List.of("gzip, deflate"));
+        }
+
         // Authorization
         if (checkApiToken && (provided == null || provided.getSendAuthHeader())) {
             client.addAuthHeader(headerMap);
@@ -7,6 +7,7 @@ import com.atlan.AtlanClient;
 import com.atlan.exception.AtlanException;
 import com.atlan.model.core.AtlanEventStreamResponseInterface;
 import com.atlan.model.core.AtlanResponseInterface;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.Map;
 
@@ -105,6 +106,34 @@ public interface AtlanResponseGetter {
             String requestId)
             throws AtlanException;
 
+    /**
+     * Send a request to an Atlan API, when a (potentially large) response is expected that should be
+     * processed incrementally, as it is streamed, rather than buffered into memory in its entirety.
+     * By default, this buffers the response through {@link #requestPlainText} and then streams it from memory:
+     * override it to actually stream the response as it is received.
+     *
+     * @param client connectivity to Atlan
+     * @param method to use for the request
+     * @param url of the endpoint (with all path and query parameters) for the request
+     * @param body payload for the request, if any
+     * @param options any alternative options to use for the request, or null to use default options
+     * @param requestId unique identifier (GUID) of a single request to Atlan
+     * @return the (successful) response, whose body must be closed by the caller once consumed
+     * @throws AtlanException on any API interaction problem, indicating the type of problem encountered
+     */
+    default AtlanResponseStream requestStreaming(
+            AtlanClient client,
+            ApiResource.RequestMethod method,
+            String url,
+            String body,
+            RequestOptions options,
+            String requestId)
+            throws AtlanException {
+        String response = requestPlainText(client, method, url, body, options, requestId);
+        byte[] content = response == null ? new byte[0] : response.getBytes(ApiResource.CHARSET);
+        return new AtlanResponseStream(200, HttpHeaders.of(Map.of()), new ByteArrayInputStream(content));
+    }
+
     /**
      * Send a request to an Atlan API, to upload a file.
      *
@@ -4,13 +4,17 @@ package com.atlan.net;
 
 /* Based on original code from https://github.com/stripe/stripe-java (under MIT license) */
 import com.atlan.util.StreamUtils;
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Class for handling API interactions as streams.
@@ -25,7 +29,28 @@ public class AtlanResponseStream extends AbstractAtlanResponse<InputStream> {
      * @throws NullPointerException if {@code headers} or {@code body} is {@code null}
      */
     public AtlanResponseStream(int code, HttpHeaders headers, InputStream body) {
-        super(code, headers, body);
+        super(code, headers, decode(headers, body));
+    }
+
+    /**
+     * Wrap the raw body of a response so that it is decompressed as it is read, according to
+     * the response's {@code Content-Encoding} header.
+     *
+     * @param headers the HTTP headers of the response
+     * @param body raw (possibly compressed) streaming body of the response
+     * @return a stream of the decompressed body of the response
+     */
+    static InputStream decode(HttpHeaders headers, InputStream body) {
+        if (headers == null || body == null) {
+            return body;
+        }
+        String encoding = headers.firstValue("Content-Encoding").orElse("").trim();
+        if (encoding.equalsIgnoreCase("gzip") || encoding.equalsIgnoreCase("x-gzip")) {
+            return new DecodingInputStream(body, true);
+        } else if (encoding.equalsIgnoreCase("deflate")) {
+            return new DecodingInputStream(body, false);
+        }
+        return body;
     }
 
     /**
@@ -35,8 +60,12 @@ public class AtlanResponseStream extends AbstractAtlanResponse<InputStream> {
      * @throws IOException on any errors processing the response
      */
     AtlanResponse unstream() throws IOException {
-        final String bodyString = StreamUtils.readToEnd(this.body, ApiResource.CHARSET);
-        this.body.close();
+        final String bodyString;
+        try {
+            bodyString = StreamUtils.readToEnd(this.body, ApiResource.CHARSET);
+        } finally {
+            this.body.close();
+        }
         return new AtlanResponse(this.code, this.headers, bodyString);
     }
 
@@ -58,4 +87,58 @@ public class AtlanResponseStream extends AbstractAtlanResponse<InputStream> {
         }
         return new AtlanEventStreamResponse(this.code, this.headers, events);
     }
+
+    /**
+     * Decompresses the underlying stream, only once it is first read. (Decompressing streams consume
+     * the compression header on construction, which fails for the empty bodies of some error responses.)
+     */
+    private static final class DecodingInputStream extends FilterInputStream {
+        private final boolean gzip;
+        private boolean initialized = false;
+
+        DecodingInputStream(InputStream raw, boolean gzip) {
+            super(new BufferedInputStream(raw));
+            this.gzip = gzip;
+        }
+
+        private void init() throws IOException {
+            if (!initialized) {
+                initialized = true;
+                in.mark(1);
+                if (in.read() != -1) {
+                    in.reset();
+                    in = gzip ? new GZIPInputStream(in, 8192) : new InflaterInputStream(in);
+                }
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            init();
+            return in.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            init();
+            return in.read(b, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            init();
+            return in.skip(n);
+        }
+
+        @Override
+        public int available() throws IOException {
+            init();
+            return in.available();
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
 }
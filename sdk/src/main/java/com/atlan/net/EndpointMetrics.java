@@ -0,0 +1,171 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.net;
+
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+/**
+ * Aggregated metrics for all requests sent to a single endpoint (path template and HTTP method).
+ */
+public class EndpointMetrics {
+
+    /** HTTP method of the endpoint. */
+    @Getter
+    private final ApiResource.RequestMethod method;
+
+    /** Path of the endpoint, with any identifiers replaced by placeholders (for example {@code {guid}}). */
+    @Getter
+    private final String pathTemplate;
+
+    /** Total elapsed time of each request, as measured by the SDK. */
+    @Getter
+    private final LatencyHistogram total = new LatencyHistogram();
+
+    /** Time spent server-side in Atlan for each request, where reported by the tenant. */
+    @Getter
+    private final LatencyHistogram upstream = new LatencyHistogram();
+
+    /** Time spent in Atlan's API proxy for each request, where reported by the tenant. */
+    @Getter
+    private final LatencyHistogram proxy = new LatencyHistogram();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder locked = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+
+    EndpointMetrics(ApiResource.RequestMethod method, String pathTemplate) {
+        this.method = method;
+        this.pathTemplate = pathTemplate;
+    }
+
+    /**
+     * Record the outcome of a single request (attempt) to the endpoint.
+     *
+     * @param code HTTP status code of the response
+     * @param metrics latencies of the request
+     * @param sent number of bytes in the body of the request
+     * @param received number of bytes in the body of the response
+     */
+    void record(int code, RequestMetrics metrics, long sent, long received) {
+        requests.increment();
+        total.record(metrics.getRequestDurationTotalMs());
+        if (metrics.getRequestDurationUpstreamMs() != null) {
+            upstream.record(metrics.getRequestDurationUpstreamMs());
+        }
+        if (metrics.getRequestDurationProxyMs() != null) {
+            proxy.record(metrics.getRequestDurationProxyMs());
+        }
+        bytesOut.add(sent);
+        bytesIn.add(received);
+        if (code == 429) {
+            throttled.increment();
+        } else if (code == 423) {
+            locked.increment();
+        } else if (code >= 500) {
+            serverErrors.increment();
+        }
+    }
+
+    /**
+     * Record retries that were needed to complete a request to the endpoint.
+     *
+     * @param count number of retries
+     */
+    void recordRetries(int count) {
+        retries.add(count);
+    }
+
+    /**
+     * Retrieve the number of requests (including each retry) sent to the endpoint.
+     *
+     * @return the number of requests (including each retry) sent to the endpoint
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Retrieve the number of retries sent to the endpoint.
+     *
+     * @return the number of retries sent to the endpoint
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * Retrieve the number of bytes sent to the endpoint, in request bodies.
+     *
+     * @return the number of bytes sent to the endpoint, in request bodies
+     */
+    public long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    /**
+     * Retrieve the number of bytes received from the endpoint, in response bodies.
+     *
+     * @return the number of bytes received from the endpoint, in response bodies
+     */
+    public long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    /**
+     * Retrieve the number of requests to the endpoint that were throttled (429).
+     *
+     * @return the number of requests to the endpoint that were throttled (429)
+     */
+    public long getThrottled() {
+        return throttled.sum();
+    }
+
+    /**
+     * Retrieve the number of requests to the endpoint that hit a lock (423).
+     *
+     * @return the number of requests to the endpoint that hit a lock (423)
+     */
+    public long getLocked() {
+        return locked.sum();
+    }
+
+    /**
+     * Retrieve the number of requests to the endpoint that hit a server-side error (5xx).
+     *
+     * @return the number of requests to the endpoint that hit a server-side error (5xx)
+     */
+    public long getServerErrors() {
+        return serverErrors.sum();
+    }
+
+    /** Discard everything that has been recorded. */
+    void reset() {
+        total.reset();
+        upstream.reset();
+        proxy.reset();
+        requests.reset();
+        retries.reset();
+        bytesOut.reset();
+        bytesIn.reset();
+        throttled.reset();
+        locked.reset();
+        serverErrors.reset();
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + pathTemplate + ": "
+                + getRequests() + " requests (" + getRetries() + " retries, "
+                + getThrottled() + " throttled, " + getLocked() + " locked, " + getServerErrors() + " errors), "
+                + "total " + total.getSum() + "ms (p50/p95/p99/max = "
+                + total.getPercentile(0.5) + "/" + total.getPercentile(0.95) + "/"
+                + total.getPercentile(0.99) + "/" + total.getMax() + "ms), "
+                + "upstream " + upstream.getSum() + "ms, proxy " + proxy.getSum() + "ms, "
+                + getBytesOut() + " bytes out, " + getBytesIn() + " bytes in";
+    }
+}
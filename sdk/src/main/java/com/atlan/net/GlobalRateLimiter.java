@@ -2,6 +2,7 @@
    Copyright 2022 Atlan Pte. Ltd. */
 package com.atlan.net;
 
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Condition;
@@ -13,16 +14,27 @@ import lombok.extern.slf4j.Slf4j;
  * a 429 response that it is being rate-limited (throttled) then we can centrally pause
  * and coordinate retries across all threads, rather than allowing individual threads to
  * further overwhelm the throttling via their own independent requests.
+ * Once the pause is over, threads are released in a staggered (and jittered) way rather than
+ * all at once, so that they do not immediately trip the rate limit again.
  */
 @Slf4j
 public class GlobalRateLimiter {
     private static final GlobalRateLimiter INSTANCE = new GlobalRateLimiter();
 
+    /** Interval between each waiting thread being released, once the rate limit has passed. */
+    static final long STAGGER_MILLIS = 25;
+
     private final ReentrantLock lock = new ReentrantLock();
     private final Condition rateAvailable = lock.newCondition();
     private final AtomicBoolean isRateLimited = new AtomicBoolean(false);
     private long resumeTimeMillis = 0;
 
+    /** Incremented each time a (new) rate limit is set, so waiting threads know to re-queue. */
+    private long generation = 0;
+
+    /** Number of threads queued to be released for the current rate limit. */
+    private int queued = 0;
+
     private GlobalRateLimiter() {}
 
     public static GlobalRateLimiter getInstance() {
@@ -31,6 +43,7 @@ public class GlobalRateLimiter {
 
     /**
      * Check if we should wait due to a rate limit, and if so actually do that wait.
+     * Each waiting thread is given its own slot in which to resume, after the rate limit has passed.
      *
      * @throws InterruptedException on any interruption
      */
@@ -41,16 +54,28 @@ public class GlobalRateLimiter {
 
         lock.lock();
         try {
+            long myGeneration = -1;
+            long myResumeMillis = 0;
             // Check again after acquiring lock
             while (isRateLimited.get()) {
-                long waitTime = resumeTimeMillis - System.currentTimeMillis();
-                if (waitTime <= 0) {
-                    // Time has passed, we can resume
+                if (myGeneration != generation) {
+                    // Take the next slot after the rate limit passes (or re-take one if the limit was reset)
+                    myGeneration = generation;
+                    myResumeMillis = resumeTimeMillis
+                            + (queued++ * STAGGER_MILLIS)
+                            + ThreadLocalRandom.current().nextLong(STAGGER_MILLIS);
+                }
+                long now = System.currentTimeMillis();
+                if (now >= resumeTimeMillis + (queued * STAGGER_MILLIS)) {
+                    // Every queued thread has had its slot, so stop rate-limiting altogether
                     isRateLimited.set(false);
-                    rateAvailable.signalAll(); // Wake up all waiting threads
+                }
+                long waitTime = myResumeMillis - now;
+                if (waitTime <= 0) {
+                    // Our slot has arrived, we can resume
                     break;
                 }
-                // Wait until signaled or timeout
+                // Wait until our slot (or until the rate limit is reset)
                 log.debug(" ... already rate-limited, continuing to wait for {}ms before retrying", waitTime);
                 rateAvailable.await(waitTime, TimeUnit.MILLISECONDS);
             }
@@ -67,12 +92,19 @@ public class GlobalRateLimiter {
     public void setRateLimit(long retryAfterMillis) {
         lock.lock();
         try {
-            isRateLimited.set(true);
-            resumeTimeMillis = System.currentTimeMillis() + retryAfterMillis;
+            long resumeAt = System.currentTimeMillis() + retryAfterMillis;
+            if (!isRateLimited.get() || resumeAt > resumeTimeMillis) {
+                isRateLimited.set(true);
+                resumeTimeMillis = resumeAt;
+                generation++;
+                queued = 0;
+                // Wake any waiting threads, so they take a slot relative to the new resume time
+                rateAvailable.signalAll();
+            }
             log.debug(" ... rate-limited -- pausing for {}ms before retrying", retryAfterMillis);
-            // No need to signal as all threads will check the resumeTimeMillis
         } finally {
             lock.unlock();
         }
+        AdaptiveConcurrencyLimiter.getInstance().onThrottled();
     }
 }
@@ -8,15 +8,20 @@ import com.atlan.AtlanClient;
 import com.atlan.exception.ApiConnectionException;
 import com.atlan.exception.ApiException;
 import com.atlan.exception.AtlanException;
+import com.atlan.exception.ErrorCode;
 import com.atlan.util.Stopwatch;
+import java.io.Closeable;
 import java.io.IOException;
 import java.net.ConnectException;
 import java.net.NoRouteToHostException;
 import java.net.SocketTimeoutException;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 
 /** Base abstract class for HTTP clients used to send requests to Atlan's API. */
@@ -28,6 +33,9 @@ public abstract class HttpClient {
     /** Minimum sleep time between tries to send HTTP requests after network failure. */
     public static final Duration minNetworkRetriesDelay = Duration.ofMillis(500);
 
+    /** Portion of the user agent that is the same for every request, so it is only built once. */
+    private static final String BASE_USER_AGENT = buildBaseUserAgentString();
+
     enum RetryDecision {
         RETRY_SHORT,
         RETRY_LONG,
@@ -88,7 +96,71 @@ public abstract class HttpClient {
             T response = send.apply(request);
             stopwatch.stop();
             RequestMetrics.embed(response, stopwatch.getElapsed());
+            if (request.client() != null) {
+                request.client().getRequestMetrics().record(request, response);
+            }
+            return response;
+        }
+    }
+
+    /**
+     * Sends the given request, within the adaptive limit on in-flight requests (if enabled),
+     * and feeds the outcome of the request back into that limit.
+     *
+     * @param request the request
+     * @param send the function to use for sending the request
+     * @return the response
+     * @param <T> the type of the response
+     * @throws AtlanException if the request fails for any reason
+     */
+    private <T extends AbstractAtlanResponse<?>> T sendWithAdaptiveLimit(
+            AtlanRequest request, RequestSendFunction<T> send) throws AtlanException {
+        if (!Atlan.enableAdaptiveConcurrency) {
+            return send.apply(request);
+        }
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.getInstance();
+        try {
+            limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiConnectionException(
+                    ErrorCode.CONNECTION_ERROR, e, request.client().getBaseUrl());
+        }
+        long start = System.nanoTime();
+        T response = null;
+        try {
+            response = send.apply(request);
             return response;
+        } finally {
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (response == null) {
+                // Failed outright: there is no meaningful latency to learn from
+                limiter.release();
+            } else if (response.code() == 429) {
+                limiter.release(null, elapsed, true);
+            } else if (response.code() >= 400) {
+                // Errors tend to return quickly, so would skew the latency baseline
+                limiter.release();
+            } else {
+                Long upstream;
+                if (response.metrics() != null) {
+                    upstream = response.metrics().getRequestDurationUpstreamMs();
+                } else {
+                    upstream = response.headers()
+                            .firstValue(RequestMetrics.UPSTREAM_HEADER)
+                            .map(HttpClient::parseLatency)
+                            .orElse(null);
+                }
+                limiter.release(upstream, elapsed, false);
+            }
+        }
+    }
+
+    private static Long parseLatency(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
         }
     }
 
@@ -119,68 +191,75 @@ public abstract class HttpClient {
         int retry = 0;
         int attempts = 0;
 
-        while (true) {
-            requestException = null;
+        try {
+            while (true) {
+                requestException = null;
 
-            try {
-                response = send.apply(request);
-            } catch (ApiConnectionException e) {
-                requestException = e;
-            }
+                try {
+                    response = sendWithAdaptiveLimit(request, send);
+                } catch (ApiConnectionException e) {
+                    requestException = e;
+                }
 
-            RetryDecision decision = this.shouldRetry(retry, requestException, request, response);
-            if (decision == RetryDecision.NO_RETRY) {
-                break;
-            } else if (decision == RetryDecision.RETRY_SHORT || decision == RetryDecision.RETRY_LONG) {
-                retry += 1;
-            } else if (decision == RetryDecision.RETRY_SHORT_AND_RESET
-                    || decision == RetryDecision.RETRY_LONG_AND_RESET
-                    || decision == RetryDecision.RETRY_RATE_LIMITED) {
-                retry = 0;
-            }
+                RetryDecision decision = this.shouldRetry(retry, requestException, request, response);
+                if (decision == RetryDecision.NO_RETRY) {
+                    break;
+                } else if (decision == RetryDecision.RETRY_SHORT || decision == RetryDecision.RETRY_LONG) {
+                    retry += 1;
+                } else if (decision == RetryDecision.RETRY_SHORT_AND_RESET
+                        || decision == RetryDecision.RETRY_LONG_AND_RESET
+                        || decision == RetryDecision.RETRY_RATE_LIMITED) {
+                    retry = 0;
+                }
 
-            attempts += 1;
+                attempts += 1;
+                discard(response);
 
-            try {
-                if (RetryDecision.RETRY_RATE_LIMITED == decision) {
-                    Optional<String> retryAfter = response.headers.firstValue("Retry-After");
-                    if (retryAfter.isPresent()) {
-                        try {
-                            String retryInSeconds = retryAfter.get();
-                            long waitTime = Long.parseLong(retryInSeconds);
-                            if (waitTime > 0) {
-                                rateLimit(waitTime * 1000);
-                            } else {
+                try {
+                    if (RetryDecision.RETRY_RATE_LIMITED == decision) {
+                        Optional<String> retryAfter = response.headers.firstValue("Retry-After");
+                        if (retryAfter.isPresent()) {
+                            try {
+                                String retryInSeconds = retryAfter.get();
+                                long waitTime = Long.parseLong(retryInSeconds);
+                                if (waitTime > 0) {
+                                    rateLimit(waitTime * 1000);
+                                } else {
+                                    rateLimit(waitTime(attempts).toMillis());
+                                }
+                            } catch (NumberFormatException e) {
+                                log.warn(" ... unable to parse retry-after header value: {}", retryAfter.get(), e);
                                 rateLimit(waitTime(attempts).toMillis());
                             }
-                        } catch (NumberFormatException e) {
-                            log.warn(" ... unable to parse retry-after header value: {}", retryAfter.get(), e);
+                        } else {
+                            log.debug(
+                                    " ... rate limit had no Retry-After header in its response, so only exponentially backing-off retries");
                             rateLimit(waitTime(attempts).toMillis());
                         }
                     } else {
-                        log.debug(
-                                " ... rate limit had no Retry-After header in its response, so only exponentially backing-off retries");
-                        rateLimit(waitTime(attempts).toMillis());
+                        Thread.sleep(this.sleepTime(
+                                        attempts,
+                                        RetryDecision.RETRY_LONG == decision
+                                                || RetryDecision.RETRY_LONG_AND_RESET == decision)
+                                .toMillis());
                     }
-                } else {
-                    Thread.sleep(this.sleepTime(
-                                    attempts,
-                                    RetryDecision.RETRY_LONG == decision
-                                            || RetryDecision.RETRY_LONG_AND_RESET == decision)
-                            .toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
                 }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
             }
-        }
-
-        if (requestException != null) {
-            throw requestException;
-        }
 
-        response.numRetries(retry);
+            if (requestException != null) {
+                throw requestException;
+            }
 
-        return response;
+            response.numRetries(retry);
+            return response;
+        } finally {
+            // Record retries whether or not the request ultimately succeeded
+            if (Atlan.enableTelemetry && request.client() != null) {
+                request.client().getRequestMetrics().recordRetries(request, attempts);
+            }
+        }
     }
 
     /**
@@ -194,6 +273,18 @@ public abstract class HttpClient {
         return sendWithRetries(request, (r) -> this.requestWithTelemetry(r));
     }
 
+    /**
+     * Sends the given request to Atlan's API, retrying the request in cases of intermittent problems,
+     * and streaming (rather than buffering) the body of the successful response.
+     *
+     * @param request the request
+     * @return the response, whose body must be closed by the caller once consumed
+     * @throws AtlanException If the request fails for any reason
+     */
+    public AtlanResponseStream requestStreamWithRetries(AtlanRequest request) throws AtlanException {
+        return sendWithRetries(request, (r) -> sendWithTelemetry(r, this::requestStream));
+    }
+
     /**
      * Sends the given request to Atlan's API, retrying the request in cases of intermittent problems.
      *
@@ -215,6 +306,24 @@ public abstract class HttpClient {
         return response;
     }
 
+    /**
+     * Returns the HTTP headers to use for the request.
+     *
+     * @param request the request being sent
+     * @return the HTTP headers
+     */
+    protected static HttpHeaders getHeaders(AtlanRequest request) {
+        Map<String, List<String>> userAgentHeadersMap = new HashMap<>();
+
+        userAgentHeadersMap.put("User-Agent", List.of(buildUserAgentString(request.client())));
+        userAgentHeadersMap.put(
+                "X-Atlan-Client-User-Agent", List.of(buildXAtlanClientUserAgentString(request.client())));
+        userAgentHeadersMap.put("x-atlan-client-origin", List.of("product_sdk"));
+        return request.headers()
+                .withAdditionalHeaders(request.client().getExtraHeaders())
+                .withAdditionalHeaders(userAgentHeadersMap);
+    }
+
     /**
      * Builds the value of the {@code User-Agent} header.
      *
@@ -232,6 +341,13 @@ public abstract class HttpClient {
      * @return a string containing the value of the {@code X-Atlan-Client-User-Agent} header
      */
     protected static String buildXAtlanClientUserAgentString(AtlanClient client) {
+        if (client.getAppInfo() != null) {
+            return BASE_USER_AGENT + formatAppInfo(client.getAppInfo());
+        }
+        return BASE_USER_AGENT;
+    }
+
+    private static String buildBaseUserAgentString() {
         StringBuilder sb = new StringBuilder();
         sb.append(String.format("atlan-java/%s", Atlan.VERSION));
         sb.append(String.format(
@@ -239,9 +355,6 @@ public abstract class HttpClient {
                 System.getProperty("os.name"), System.getProperty("os.arch"), System.getProperty("os.version")));
         sb.append(String.format(" %s/%s", System.getProperty("java.vendor"), System.getProperty("java.version")));
         sb.append(String.format(" %s/%s", System.getProperty("java.vm.vendor"), System.getProperty("java.vm.version")));
-        if (client.getAppInfo() != null) {
-            sb.append(formatAppInfo(client.getAppInfo()));
-        }
         return sb.toString();
     }
 
@@ -372,6 +485,22 @@ public abstract class HttpClient {
         return RetryDecision.NO_RETRY;
     }
 
+    /**
+     * Release any resources held by a response that is being discarded in favor of a retry.
+     * (Streamed response bodies hold on to their underlying connection until they are closed.)
+     *
+     * @param response being discarded
+     */
+    private static void discard(AbstractAtlanResponse<?> response) {
+        if (response != null && response.body() instanceof Closeable) {
+            try {
+                ((Closeable) response.body()).close();
+            } catch (IOException e) {
+                log.debug(" ... unable to close discarded response body.", e);
+            }
+        }
+    }
+
     private void rateLimit(long waitTime) {
         GlobalRateLimiter limiter = GlobalRateLimiter.getInstance();
         limiter.setRateLimit(waitTime);
@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collection;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 import lombok.Value;
 import lombok.experimental.Accessors;
 
@@ -29,9 +30,17 @@ public class HttpContent {
     /** The value of the {@code Content-Type} header. */
     String contentType;
 
+    /** The value of the {@code Content-Encoding} header, or null if the content is not encoded (compressed). */
+    String contentEncoding;
+
     private HttpContent(byte[] byteArrayContent, String contentType) {
+        this(byteArrayContent, contentType, null);
+    }
+
+    private HttpContent(byte[] byteArrayContent, String contentType, String contentEncoding) {
         this.byteArrayContent = byteArrayContent;
         this.contentType = contentType;
+        this.contentEncoding = contentEncoding;
     }
 
     /**
@@ -63,11 +72,31 @@ public class HttpContent {
                 String.format("application/x-www-form-urlencoded;charset=%s", ApiResource.CHARSET));
     }
 
-    /** The request's content, as a string. */
+    /**
+     * The request's content, as a string.
+     * Note: for compressed content this will be the compressed bytes, so is only meaningful for unencoded content.
+     */
     public String stringContent() {
         return new String(this.byteArrayContent, ApiResource.CHARSET);
     }
 
+    /**
+     * Builds a gzip-compressed copy of this content. If the content is already encoded, it is returned as-is.
+     *
+     * @return the compressed HttpContent instance
+     * @throws IOException on any error compressing the content
+     */
+    public HttpContent gzip() throws IOException {
+        if (contentEncoding != null) {
+            return this;
+        }
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(Math.max(32, byteArrayContent.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(baos)) {
+            gzip.write(byteArrayContent);
+        }
+        return new HttpContent(baos.toByteArray(), contentType, "gzip");
+    }
+
     /**
      * Builds a new HttpContent for name/value tuples encoded using {@code multipart/form-data} MIME
      * type.
@@ -13,7 +13,6 @@ import java.net.Authenticator;
 import java.net.ConnectException;
 import java.net.HttpURLConnection;
 import java.net.PasswordAuthentication;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.Cleanup;
@@ -96,24 +95,6 @@ public class HttpURLConnectionClient extends HttpClient {
         }
     }
 
-    /**
-     * Returns the HTTP headers to use for the request.
-     *
-     * @param request the request being sent
-     * @return the HTTP headers
-     */
-    static HttpHeaders getHeaders(AtlanRequest request) {
-        Map<String, List<String>> userAgentHeadersMap = new HashMap<>();
-
-        userAgentHeadersMap.put("User-Agent", List.of(buildUserAgentString(request.client())));
-        userAgentHeadersMap.put(
-                "X-Atlan-Client-User-Agent", List.of(buildXAtlanClientUserAgentString(request.client())));
-        userAgentHeadersMap.put("x-atlan-client-origin", List.of("product_sdk"));
-        return request.headers()
-                .withAdditionalHeaders(request.client().getExtraHeaders())
-                .withAdditionalHeaders(userAgentHeadersMap);
-    }
-
     private static HttpURLConnection createAtlanConnection(AtlanRequest request)
             throws IOException, InterruptedException {
         GlobalRateLimiter limiter = GlobalRateLimiter.getInstance();
@@ -145,6 +126,9 @@ public class HttpURLConnectionClient extends HttpClient {
         if (request.content() != null) {
             conn.setDoOutput(true);
             conn.setRequestProperty("Content-Type", request.content().contentType());
+            if (request.content().contentEncoding() != null) {
+                conn.setRequestProperty("Content-Encoding", request.content().contentEncoding());
+            }
 
             @Cleanup OutputStream output = conn.getOutputStream();
             output.write(request.content().byteArrayContent());
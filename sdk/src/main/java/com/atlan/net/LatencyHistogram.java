@@ -0,0 +1,142 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.net;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histogram of latencies (in milliseconds), using fixed exponential buckets so that
+ * recording a latency never allocates and is cheap even under heavy concurrency.
+ */
+public class LatencyHistogram {
+
+    /** Upper bounds (inclusive, in milliseconds) of each bucket, beyond which is an overflow bucket. */
+    private static final long[] BOUNDS = {
+        1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 20000, 60000,
+    };
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+    LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a latency in the histogram.
+     *
+     * @param millis the latency to record, in milliseconds
+     */
+    void record(long millis) {
+        int idx = 0;
+        while (idx < BOUNDS.length && millis > BOUNDS[idx]) {
+            idx++;
+        }
+        buckets[idx].increment();
+        count.increment();
+        sum.add(millis);
+        max.accumulate(millis);
+    }
+
+    /**
+     * Retrieve the upper bounds of the buckets of the histogram.
+     *
+     * @return the (inclusive) upper bound of each bucket, in milliseconds, excluding the final overflow bucket
+     */
+    public static long[] getBucketBounds() {
+        return BOUNDS.clone();
+    }
+
+    /**
+     * Retrieve the number of latencies recorded in each bucket.
+     *
+     * @return the count of latencies in each bucket, including the final overflow bucket
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Retrieve the number of latencies recorded.
+     *
+     * @return the number of latencies recorded
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Retrieve the sum of all latencies recorded.
+     *
+     * @return the sum of all latencies recorded, in milliseconds
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Retrieve the largest latency recorded.
+     *
+     * @return the largest latency recorded, in milliseconds
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Retrieve the mean of the latencies recorded.
+     *
+     * @return the mean latency, in milliseconds, or 0 if nothing has been recorded
+     */
+    public double getMean() {
+        long n = getCount();
+        return n == 0 ? 0 : (double) getSum() / n;
+    }
+
+    /**
+     * Estimate a percentile of the latencies recorded, as the upper bound of the bucket in which it falls.
+     *
+     * @param percentile to estimate, between 0.0 and 1.0 (for example, 0.95 for the 95th percentile)
+     * @return the estimated latency at that percentile, in milliseconds, or 0 if nothing has been recorded
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = getBucketCounts();
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile * total));
+        long seen = 0;
+        long largest = getMax();
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                // Never over-estimate beyond the largest latency actually seen
+                return i < BOUNDS.length ? Math.min(BOUNDS[i], largest) : largest;
+            }
+        }
+        return largest;
+    }
+
+    /** Discard everything that has been recorded. */
+    void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+}
@@ -60,7 +60,7 @@ public class LiveAtlanResponseGetter implements AtlanResponseGetter {
      * @throws AtlanException on any API issues
      */
     private void request(AtlanRequest request) throws AtlanException {
-        AtlanResponse response = httpClient.requestWithRetries(request);
+        AtlanResponse response = getHttpClient(request).requestWithRetries(request);
         int responseCode = response.code();
         if (responseCode < 200 || responseCode >= 300) {
             handleApiError(response);
@@ -111,6 +111,30 @@ public class LiveAtlanResponseGetter implements AtlanResponseGetter {
         return requestStream(request, clazz);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public AtlanResponseStream requestStreaming(
+            AtlanClient client,
+            ApiResource.RequestMethod method,
+            String url,
+            String body,
+            RequestOptions options,
+            String requestId)
+            throws AtlanException {
+        AtlanRequest request = new AtlanRequest(client, method, url, body, options, requestId);
+        AtlanResponseStream response = getHttpClient(request).requestStreamWithRetries(request);
+        int responseCode = response.code();
+        if (responseCode < 200 || responseCode >= 300) {
+            // Errors are small, so buffer them to reuse the same error handling as for any other request
+            try {
+                handleApiError(response.unstream());
+            } catch (IOException e) {
+                throw new ApiConnectionException(ErrorCode.CONNECTION_ERROR, e, client.getBaseUrl());
+            }
+        }
+        return response;
+    }
+
     /** {@inheritDoc} */
     @Override
     public <T extends AtlanResponseInterface> T request(
@@ -153,7 +177,7 @@ public class LiveAtlanResponseGetter implements AtlanResponseGetter {
      * @throws AtlanException on any API interaction problem, indicating the type of problem encountered
      */
     private <T extends AtlanResponseInterface> T request(AtlanRequest request, Class<T> clazz) throws AtlanException {
-        AtlanResponse response = httpClient.requestWithRetries(request);
+        AtlanResponse response = getHttpClient(request).requestWithRetries(request);
 
         int responseCode = response.code();
         String responseBody = response.body();
@@ -187,7 +211,7 @@ public class LiveAtlanResponseGetter implements AtlanResponseGetter {
      * @throws AtlanException on any API interaction problem, indicating the type of problem encountered
      */
     private String requestPlainText(AtlanRequest request) throws AtlanException {
-        AtlanResponse response = httpClient.requestWithRetries(request);
+        AtlanResponse response = getHttpClient(request).requestWithRetries(request);
 
         int responseCode = response.code();
         String responseBody = response.body();
@@ -210,7 +234,7 @@ public class LiveAtlanResponseGetter implements AtlanResponseGetter {
      */
     private <T extends AtlanEventStreamResponseInterface> T requestStream(AtlanRequest request, Class<T> clazz)
             throws AtlanException {
-        AtlanEventStreamResponse response = httpClient.requestEventStream(request);
+        AtlanEventStreamResponse response = getHttpClient(request).requestEventStream(request);
 
         int responseCode = response.code();
         List<String> responseBody = response.body();
@@ -248,6 +272,22 @@ public class LiveAtlanResponseGetter implements AtlanResponseGetter {
         return resource;
     }
 
+    /**
+     * Determine the HTTP transport to use for the request: the one specified in the request's options, if any,
+     * otherwise the one configured on the client, and otherwise this response getter's default.
+     *
+     * @param request bundled details of the request to make
+     * @return the HTTP client through which to send the request
+     */
+    private HttpClient getHttpClient(AtlanRequest request) {
+        if (request.options() != null && request.options().getHttpClient() != null) {
+            return request.options().getHttpClient();
+        } else if (request.client() != null && request.client().getHttpClient() != null) {
+            return request.client().getHttpClient();
+        }
+        return httpClient;
+    }
+
     private static HttpClient buildDefaultHttpClient() {
         return new HttpURLConnectionClient();
     }
@@ -0,0 +1,300 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.net;
+
+import com.atlan.exception.ApiConnectionException;
+import com.atlan.exception.ErrorCode;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Authenticator;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Class that handles the HTTP-level communications with Atlan through a pooled, HTTP/2-capable
+ * {@link java.net.http.HttpClient}. Unlike the {@link HttpURLConnectionClient}, connections (and their TLS sessions)
+ * are kept alive and reused across requests, and with HTTP/2 many concurrent requests are multiplexed over the
+ * same connection. The number of requests in-flight at any one time through this client is bounded, so that many
+ * threads (for example from a {@link com.atlan.util.ParallelBatch}) queue client-side rather than each opening
+ * its own connection.
+ * <br><br>
+ * Note: the size of the connection pool and the keep-alive timeout are JVM-wide settings of the underlying
+ * {@link java.net.http.HttpClient} implementation, so they only take effect if set before the first such client
+ * is used anywhere in the JVM, and are not overridden if they were already set as system properties.
+ */
+@Slf4j
+public class PooledHttpClient extends HttpClient {
+    /** Default maximum number of requests that can be in-flight at the same time through this client. */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 64;
+
+    /** Default maximum number of idle connections to keep in the pool. */
+    public static final int DEFAULT_POOL_SIZE = 16;
+
+    /** Default length of time to keep an idle connection alive in the pool. */
+    public static final Duration DEFAULT_KEEP_ALIVE = Duration.ofMinutes(5);
+
+    private static final String POOL_SIZE_PROPERTY = "jdk.httpclient.connectionPoolSize";
+    private static final String KEEP_ALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout";
+
+    /** Headers the underlying client manages itself, and will refuse to have set explicitly. */
+    private static final Set<String> RESTRICTED_HEADERS =
+            Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    /** Maximum number of requests that can be in-flight at the same time through this client. */
+    @Getter
+    private final int maxInFlight;
+
+    private final Semaphore inFlight;
+    private final Map<TransportKey, java.net.http.HttpClient> transports = new ConcurrentHashMap<>();
+
+    /** Initializes a new instance of the {@link PooledHttpClient}, using default limits. */
+    public PooledHttpClient() {
+        this(DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * Initializes a new instance of the {@link PooledHttpClient}.
+     *
+     * @param maxInFlight maximum number of requests that can be in-flight at the same time through this client
+     */
+    public PooledHttpClient(int maxInFlight) {
+        this(maxInFlight, DEFAULT_POOL_SIZE, DEFAULT_KEEP_ALIVE);
+    }
+
+    /**
+     * Initializes a new instance of the {@link PooledHttpClient}.
+     *
+     * @param maxInFlight maximum number of requests that can be in-flight at the same time through this client
+     * @param poolSize maximum number of idle connections to keep in the (JVM-wide) connection pool
+     * @param keepAlive length of time to keep an idle connection alive in the (JVM-wide) connection pool
+     */
+    public PooledHttpClient(int maxInFlight, int poolSize, Duration keepAlive) {
+        super();
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Maximum in-flight requests must be at least 1.");
+        }
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight, true);
+        setPropertyIfAbsent(POOL_SIZE_PROPERTY, "" + poolSize);
+        setPropertyIfAbsent(KEEP_ALIVE_PROPERTY, "" + keepAlive.toSeconds());
+    }
+
+    /**
+     * Retrieve the number of requests currently in-flight through this client.
+     *
+     * @return number of requests for which a response body has not yet been fully consumed
+     */
+    public int getNumInFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    /**
+     * Sends the given request to Atlan's API.
+     *
+     * @param request the request
+     * @return the response
+     * @throws ApiConnectionException if an error occurs when sending or receiving
+     */
+    @Override
+    public AtlanResponseStream requestStream(AtlanRequest request) throws ApiConnectionException {
+        boolean acquired = false;
+        try {
+            GlobalRateLimiter limiter = GlobalRateLimiter.getInstance();
+            limiter.waitIfRateLimited();
+
+            inFlight.acquire();
+            acquired = true;
+
+            HttpResponse<InputStream> response =
+                    getTransport(request).send(buildRequest(request), HttpResponse.BodyHandlers.ofInputStream());
+
+            final HttpHeaders headers = HttpHeaders.of(response.headers().map());
+            // Hold on to the in-flight permit until the body has been consumed (closed), as that is when
+            // the underlying connection (or HTTP/2 stream) is actually freed up for another request
+            final InputStream body = new PermitReleasingInputStream(response.body(), inFlight);
+            acquired = false;
+            return new AtlanResponseStream(response.statusCode(), headers, body);
+        } catch (HttpConnectTimeoutException e) {
+            throw new ApiConnectionException(
+                    ErrorCode.CONNECTION_ERROR,
+                    asRetryable(new ConnectException(e.getMessage()), e),
+                    request.client().getBaseUrl());
+        } catch (HttpTimeoutException e) {
+            throw new ApiConnectionException(
+                    ErrorCode.CONNECTION_ERROR,
+                    asRetryable(new SocketTimeoutException(e.getMessage()), e),
+                    request.client().getBaseUrl());
+        } catch (IOException | InterruptedException e) {
+            throw new ApiConnectionException(
+                    ErrorCode.CONNECTION_ERROR, e, request.client().getBaseUrl());
+        } finally {
+            if (acquired) {
+                inFlight.release();
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AtlanResponse request(AtlanRequest request) throws ApiConnectionException {
+        final AtlanResponseStream responseStream = requestStream(request);
+        try {
+            return responseStream.unstream();
+        } catch (IOException e) {
+            throw new ApiConnectionException(
+                    ErrorCode.CONNECTION_ERROR, e, request.client().getBaseUrl());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AtlanEventStreamResponse requestES(AtlanRequest request) throws ApiConnectionException {
+        final AtlanResponseStream responseStream = requestStream(request);
+        try {
+            return responseStream.toEvents();
+        } catch (IOException e) {
+            throw new ApiConnectionException(
+                    ErrorCode.CONNECTION_ERROR, e, request.client().getBaseUrl());
+        }
+    }
+
+    /**
+     * Translate the request into one for the underlying HTTP client.
+     *
+     * @param request the request being sent
+     * @return the equivalent request for the underlying HTTP client
+     * @throws IOException if the request's URL cannot be translated
+     */
+    private static HttpRequest buildRequest(AtlanRequest request) throws IOException {
+        HttpRequest.Builder builder;
+        try {
+            builder = HttpRequest.newBuilder(request.url().toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException("Invalid request URL: " + request.url(), e);
+        }
+        builder.timeout(Duration.ofMillis(request.options().getReadTimeout()));
+        for (Map.Entry<String, List<String>> entry : getHeaders(request).map().entrySet()) {
+            if (!RESTRICTED_HEADERS.contains(entry.getKey().toLowerCase())) {
+                builder.setHeader(entry.getKey(), String.join(",", entry.getValue()));
+            }
+        }
+        HttpRequest.BodyPublisher publisher;
+        if (request.content() != null) {
+            builder.setHeader("Content-Type", request.content().contentType());
+            if (request.content().contentEncoding() != null) {
+                builder.setHeader("Content-Encoding", request.content().contentEncoding());
+            }
+            publisher = HttpRequest.BodyPublishers.ofByteArray(request.content().byteArrayContent());
+        } else {
+            publisher = HttpRequest.BodyPublishers.noBody();
+        }
+        builder.method(request.method().name(), publisher);
+        return builder.build();
+    }
+
+    /**
+     * Retrieve (or lazily create) the underlying HTTP client to use for the request. A separate underlying client
+     * (and therefore connection pool) is kept for each distinct combination of proxy and connection timeout, since
+     * these can only be configured on the underlying client itself and not on individual requests.
+     *
+     * @param request the request being sent
+     * @return the underlying HTTP client through which to send the request
+     */
+    private java.net.http.HttpClient getTransport(AtlanRequest request) {
+        RequestOptions options = request.options();
+        TransportKey key = new TransportKey(
+                options.getConnectionProxy(), options.getProxyCredential(), options.getConnectTimeout());
+        return transports.computeIfAbsent(key, PooledHttpClient::buildTransport);
+    }
+
+    private static java.net.http.HttpClient buildTransport(TransportKey key) {
+        java.net.http.HttpClient.Builder builder = java.net.http.HttpClient.newBuilder()
+                .version(java.net.http.HttpClient.Version.HTTP_2)
+                .followRedirects(java.net.http.HttpClient.Redirect.NEVER);
+        if (key.connectTimeout > 0) {
+            builder.connectTimeout(Duration.ofMillis(key.connectTimeout));
+        }
+        if (key.proxy != null && key.proxy.type() != Proxy.Type.DIRECT) {
+            SocketAddress address = key.proxy.address();
+            if (address instanceof InetSocketAddress) {
+                builder.proxy(ProxySelector.of((InetSocketAddress) address));
+            }
+            if (key.credential != null) {
+                final PasswordAuthentication credential = key.credential;
+                builder.authenticator(new Authenticator() {
+                    @Override
+                    protected PasswordAuthentication getPasswordAuthentication() {
+                        return credential;
+                    }
+                });
+            }
+        }
+        log.debug(
+                "Creating new pooled HTTP transport (proxy: {}, connect timeout: {}ms)", key.proxy, key.connectTimeout);
+        return builder.build();
+    }
+
+    private static IOException asRetryable(IOException translated, IOException original) {
+        translated.initCause(original);
+        return translated;
+    }
+
+    private static void setPropertyIfAbsent(String name, String value) {
+        if (System.getProperty(name) == null) {
+            System.setProperty(name, value);
+        }
+    }
+
+    /** Unique combination of client-level settings that require a separate underlying HTTP client. */
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class TransportKey {
+        private final Proxy proxy;
+        private final PasswordAuthentication credential;
+        private final int connectTimeout;
+    }
+
+    /** Input stream that releases its in-flight permit (exactly once) when it is closed. */
+    private static final class PermitReleasingInputStream extends FilterInputStream {
+        private final Semaphore permits;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        PermitReleasingInputStream(InputStream in, Semaphore permits) {
+            super(in);
+            this.permits = permits;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.net;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of metrics aggregated across every request sent by a client, keyed by endpoint
+ * (path template and HTTP method). Unlike the {@link RequestMetrics} embedded in each response,
+ * these are retained for the life of the client -- so they can be used to see where the time in
+ * a long-running process is actually going (for example: searches vs saves vs asynchronous requests).
+ * Metrics are only recorded when {@link com.atlan.Atlan#enableTelemetry} is true.
+ */
+public class RequestMetricsRegistry {
+
+    /** Most distinct endpoints to track, beyond which requests are grouped into a single catch-all template. */
+    static final int MAX_ENDPOINTS = 500;
+
+    /** Path template used for any endpoints beyond the maximum that are tracked. */
+    static final String OTHER_TEMPLATE = "{other}";
+
+    private static final Pattern GUID =
+            Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final Pattern NAME = Pattern.compile("[A-Za-z][A-Za-z0-9_\\-]{0,63}");
+
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Record the outcome of a single request (attempt).
+     *
+     * @param request that was sent
+     * @param response that was received, with its metrics already embedded
+     */
+    void record(AtlanRequest request, AbstractAtlanResponse<?> response) {
+        RequestMetrics metrics = response.metrics();
+        if (metrics == null) {
+            return;
+        }
+        long sent = request.content() == null ? 0 : request.content().byteArrayContent().length;
+        long received = response.headers()
+                .firstValue("Content-Length")
+                .map(RequestMetricsRegistry::parseLength)
+                .orElseGet(() -> response.body() instanceof String body
+                        ? body.getBytes(StandardCharsets.UTF_8).length
+                        : 0L);
+        forRequest(request).record(response.code(), metrics, sent, received);
+    }
+
+    /**
+     * Record the retries that were needed to complete a request.
+     *
+     * @param request that was retried
+     * @param count number of retries
+     */
+    void recordRetries(AtlanRequest request, int count) {
+        if (count > 0) {
+            forRequest(request).recordRetries(count);
+        }
+    }
+
+    /**
+     * Retrieve the metrics for a specific endpoint.
+     *
+     * @param method HTTP method of the endpoint
+     * @param pathTemplate path of the endpoint, with any identifiers replaced by placeholders
+     * @return the metrics for the endpoint, if any requests have been sent to it
+     */
+    public Optional<EndpointMetrics> get(ApiResource.RequestMethod method, String pathTemplate) {
+        return Optional.ofNullable(endpoints.get(key(method, pathTemplate)));
+    }
+
+    /**
+     * Retrieve the metrics for every endpoint to which requests have been sent.
+     *
+     * @return the metrics for each endpoint
+     */
+    public Collection<EndpointMetrics> getAll() {
+        return List.copyOf(endpoints.values());
+    }
+
+    /**
+     * Summarize the metrics across all endpoints, most time-consuming endpoint first.
+     *
+     * @return a multi-line summary of the metrics, one endpoint per line
+     */
+    public String summarize() {
+        List<EndpointMetrics> sorted = new ArrayList<>(endpoints.values());
+        sorted.sort(Comparator.comparingLong((EndpointMetrics e) -> e.getTotal().getSum())
+                .reversed());
+        StringBuilder sb = new StringBuilder();
+        for (EndpointMetrics endpoint : sorted) {
+            sb.append(endpoint).append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    /** Discard all the metrics that have been recorded. */
+    public void reset() {
+        endpoints.values().forEach(EndpointMetrics::reset);
+    }
+
+    /**
+     * Translate the path of a request into a template, by replacing any identifiers
+     * (GUIDs, numbers, encoded qualifiedNames and so on) with placeholders.
+     *
+     * @param path of the request (without any query string)
+     * @return the path template
+     */
+    public static String toPathTemplate(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        String[] segments = path.split("/", -1);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < segments.length; i++) {
+            if (i > 0) {
+                sb.append('/');
+            }
+            String segment = segments[i];
+            if (segment.isEmpty() || NAME.matcher(segment).matches()) {
+                sb.append(segment);
+            } else if (GUID.matcher(segment).matches()) {
+                sb.append("{guid}");
+            } else {
+                sb.append("{id}");
+            }
+        }
+        return sb.toString();
+    }
+
+    private EndpointMetrics forRequest(AtlanRequest request) {
+        ApiResource.RequestMethod method = request.method();
+        String template = toPathTemplate(request.url().getPath());
+        String key = key(method, template);
+        EndpointMetrics existing = endpoints.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (endpoints.size() >= MAX_ENDPOINTS) {
+            // Bound the registry, in case some unexpected identifier is not being templated away
+            template = OTHER_TEMPLATE;
+            key = key(method, template);
+        }
+        String finalTemplate = template;
+        return endpoints.computeIfAbsent(key, k -> new EndpointMetrics(method, finalTemplate));
+    }
+
+    private static String key(ApiResource.RequestMethod method, String pathTemplate) {
+        return method + " " + pathTemplate;
+    }
+
+    private static Long parseLength(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
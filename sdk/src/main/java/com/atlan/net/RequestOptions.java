@@ -28,12 +28,23 @@ public class RequestOptions {
     private final Proxy connectionProxy;
     private final PasswordAuthentication proxyCredential;
 
+    /** HTTP transport through which to send the request (or null to use the default transport). */
+    private final HttpClient httpClient;
+
     @Builder.Default
     private final boolean skipLogging = false;
 
     @Builder.Default
     private final boolean sendAuthHeader = true;
 
+    /** Whether to ask for responses to be compressed (gzip or deflate). */
+    @Builder.Default
+    private final boolean acceptCompression = true;
+
+    /** Size (in bytes) above which request bodies are gzip-compressed before sending, or -1 to never compress them. */
+    @Builder.Default
+    private final int requestCompressionThreshold = -1;
+
     @Singular
     private final Map<String, List<String>> extraHeaders;
 
@@ -50,6 +61,9 @@ public class RequestOptions {
                 .maxNetworkRetries(client.getMaxNetworkRetries())
                 .connectionProxy(client.getConnectionProxy())
                 .proxyCredential(client.getProxyCredential())
+                .httpClient(client.getHttpClient())
+                .acceptCompression(client.getAcceptCompression())
+                .requestCompressionThreshold(client.getRequestCompressionThreshold())
                 .extraHeaders(client.getExtraHeaders());
     }
 
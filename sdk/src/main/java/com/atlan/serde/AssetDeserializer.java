@@ -64,16 +64,31 @@ public class AssetDeserializer extends StdDeserializer<Asset> {
         return deserialize(parser.getCodec().readTree(parser), Long.MAX_VALUE);
     }
 
+    /**
+     * Actually do the work of deserializing an asset, using the pre-bound deserializer for its type
+     * (if there is one) and otherwise falling back to reflection.
+     *
+     * @param root of the parsed JSON tree
+     * @param minimumTime epoch-based time (in milliseconds) to compare against the time the cache was last refreshed
+     * @return the deserialized asset
+     * @throws IOException on any issues parsing the JSON
+     */
+    Asset deserialize(JsonNode root, long minimumTime) throws IOException {
+        String typeName = JacksonUtils.deserializeString(root, "typeName");
+        return deserialize(root, minimumTime, AssetDeserializerRegistry.get(typeName));
+    }
+
     /**
      * Actually do the work of deserializing an asset.
      *
      * @param root of the parsed JSON tree
      * @param minimumTime epoch-based time (in milliseconds) to compare against the time the cache was last refreshed
+     * @param typed pre-bound deserializer for the asset's type, or null to deserialize entirely through reflection
      * @return the deserialized asset
      * @throws IOException on any issues parsing the JSON
      */
     @SuppressWarnings("deprecation") // Suppress deprecation notice on use of atlanTagNames builder
-    Asset deserialize(JsonNode root, long minimumTime) throws IOException {
+    Asset deserialize(JsonNode root, long minimumTime, AssetTypeDeserializer typed) throws IOException {
 
         JsonNode attributes = root.get("attributes");
         JsonNode relationshipGuid = root.get("relationshipGuid");
@@ -87,7 +102,11 @@ public class AssetDeserializer extends StdDeserializer<Asset> {
         JsonNode typeNameJson = root.get("typeName");
         String typeName = null;
 
-        if (typeNameJson == null || typeNameJson.isNull()) {
+        if (typed != null) {
+            typeName = typeNameJson == null || typeNameJson.isNull() ? null : typeNameJson.asText();
+            builder = typed.newBuilder();
+            assetClass = typed.getAssetClass();
+        } else if (typeNameJson == null || typeNameJson.isNull()) {
             builder = IndistinctAsset._internal();
             assetClass = IndistinctAsset.class;
         } else {
@@ -188,15 +207,23 @@ public class AssetDeserializer extends StdDeserializer<Asset> {
                 && relationshipAttributes != null
                 && !relationshipAttributes.isNull()
                 && relationshipAttributes.has("attributes")) {
-            Method method = ReflectionCache.getSetter(builderClass, "relationshipAttributes");
-            if (method != null) {
-                try {
-                    Object value = Serde.deserialize(client, relationshipAttributes, method, "relationshipAttributes");
-                    ReflectionCache.setValue(builder, "relationshipAttributes", value);
-                } catch (NoSuchMethodException e) {
-                    throw new IOException("Missing fromValue method for enum.", e);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new IOException("Failed to deserialize through reflection.", e);
+            if (typed != null) {
+                AssetTypeDeserializer.Binding binding = typed.getBinding("relationshipAttributes");
+                if (binding != null) {
+                    binding.deserializeInto(client, builder, relationshipAttributes);
+                }
+            } else {
+                Method method = ReflectionCache.getSetter(builderClass, "relationshipAttributes");
+                if (method != null) {
+                    try {
+                        Object value =
+                                Serde.deserialize(client, relationshipAttributes, method, "relationshipAttributes");
+                        ReflectionCache.setValue(builder, "relationshipAttributes", value);
+                    } catch (NoSuchMethodException e) {
+                        throw new IOException("Missing fromValue method for enum.", e);
+                    } catch (IllegalAccessException | InvocationTargetException e) {
+                        throw new IOException("Failed to deserialize through reflection.", e);
+                    }
                 }
             }
         }
@@ -208,6 +235,14 @@ public class AssetDeserializer extends StdDeserializer<Asset> {
                 Iterator<String> itr = relationshipAttributes.fieldNames();
                 while (itr.hasNext()) {
                     String relnKey = itr.next();
+                    if (typed != null) {
+                        AssetTypeDeserializer.Binding binding = typed.getBinding(relnKey);
+                        if (binding != null) {
+                            binding.deserializeInto(client, builder, relationshipAttributes.get(relnKey));
+                            processedAttributes.add(binding.getFieldName());
+                        }
+                        continue;
+                    }
                     String deserializeName = ReflectionCache.getDeserializedName(assetClass, relnKey);
                     Method method = ReflectionCache.getSetter(builderClass, deserializeName);
                     if (method != null) {
@@ -232,19 +267,27 @@ public class AssetDeserializer extends StdDeserializer<Asset> {
             Iterator<String> itr = attributes.fieldNames();
             while (itr.hasNext()) {
                 String attrKey = itr.next();
+                if (typed != null) {
+                    AssetTypeDeserializer.Binding binding = typed.getBinding(attrKey);
+                    if (binding == null) {
+                        leftOverAttributes.put(attrKey, attributes.get(attrKey));
+                    } else if (!processedAttributes.contains(binding.getFieldName())) {
+                        if (isIconUrl(binding.getFieldName(), typeName)) {
+                            setIconUrl(builder, attributes.get(attrKey));
+                        } else {
+                            binding.deserializeInto(client, builder, attributes.get(attrKey));
+                        }
+                    }
+                    continue;
+                }
                 String deserializeName = ReflectionCache.getDeserializedName(assetClass, attrKey);
                 // Only proceed with deserializing the 'attributes' copy of an attribute if
                 // it was not already deserialized as a more complete relationship (above)
                 if (!processedAttributes.contains(deserializeName)) {
                     Method method = ReflectionCache.getSetter(builderClass, deserializeName);
                     if (method != null) {
-                        if (deserializeName.equals("assetIcon")
-                                && typeName != null
-                                && (typeName.equals("Catalog") || typeName.equals("CustomEntity"))) {
-                            JsonNode value = attributes.get(attrKey);
-                            if (value != null && !value.isNull()) {
-                                builder.iconUrl(value.asText());
-                            }
+                        if (isIconUrl(deserializeName, typeName)) {
+                            setIconUrl(builder, attributes.get(attrKey));
                         } else {
                             try {
                                 Object value =
@@ -347,4 +390,23 @@ public class AssetDeserializer extends StdDeserializer<Asset> {
         result.setRawJsonObject(root);
         return result;
     }
+
+    /**
+     * Check whether the provided attribute is an icon that should be deserialized as an icon URL.
+     *
+     * @param fieldName name of the field into which the attribute would be deserialized
+     * @param typeName of the asset being deserialized
+     * @return true if the attribute should be deserialized as an icon URL
+     */
+    private static boolean isIconUrl(String fieldName, String typeName) {
+        return fieldName.equals("assetIcon")
+                && typeName != null
+                && (typeName.equals("Catalog") || typeName.equals("CustomEntity"));
+    }
+
+    private static void setIconUrl(Asset.AssetBuilder<?, ?> builder, JsonNode value) {
+        if (value != null && !value.isNull()) {
+            builder.iconUrl(value.asText());
+        }
+    }
 }
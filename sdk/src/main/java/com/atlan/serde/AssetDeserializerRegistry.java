@@ -0,0 +1,48 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.serde;
+
+import com.atlan.model.assets.IndistinctAsset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registry of the pre-bound {@link AssetTypeDeserializer} for each asset type, keyed by typeName.
+ * Each type's deserializer is resolved lazily, the first time an asset of that type is deserialized.
+ * Any type for which no such deserializer can be resolved is remembered, so that its assets fall back
+ * to reflection-based deserialization without repeatedly attempting to resolve one.
+ */
+@Slf4j
+public final class AssetDeserializerRegistry {
+
+    private static final Map<String, Optional<AssetTypeDeserializer>> registry = new ConcurrentHashMap<>();
+
+    private AssetDeserializerRegistry() {}
+
+    /**
+     * Retrieve the pre-bound deserializer for the provided asset type.
+     *
+     * @param typeName of the asset type, or null for an asset with no type
+     * @return the pre-bound deserializer for that type, or null if there is none (and reflection should be used instead)
+     */
+    public static AssetTypeDeserializer get(String typeName) {
+        String key = typeName == null ? IndistinctAsset.TYPE_NAME : typeName;
+        return registry.computeIfAbsent(key, AssetDeserializerRegistry::resolve).orElse(null);
+    }
+
+    private static Optional<AssetTypeDeserializer> resolve(String typeName) {
+        try {
+            Class<?> assetClass = IndistinctAsset.TYPE_NAME.equals(typeName)
+                    ? IndistinctAsset.class
+                    : Serde.getAssetClassForType(typeName);
+            return Optional.of(new AssetTypeDeserializer(assetClass));
+        } catch (ClassNotFoundException e) {
+            log.debug("No asset class found for typeName {}, falling back to reflection.", typeName);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Unable to pre-bind deserialization for typeName {}, falling back to reflection.", typeName, e);
+        }
+        return Optional.empty();
+    }
+}
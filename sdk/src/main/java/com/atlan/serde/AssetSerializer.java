@@ -3,7 +3,6 @@
 package com.atlan.serde;
 
 import com.atlan.AtlanClient;
-import com.atlan.cache.ReflectionCache;
 import com.atlan.exception.AtlanException;
 import com.atlan.exception.NotFoundException;
 import com.atlan.model.assets.Asset;
@@ -14,6 +13,7 @@ import com.atlan.model.relations.Reference;
 import com.atlan.util.StringUtils;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
@@ -31,6 +31,15 @@ import java.util.*;
  */
 public class AssetSerializer extends StdSerializer<Asset> {
     private static final long serialVersionUID = 2L;
+
+    private static final SerializedString ATTRIBUTES = new SerializedString("attributes");
+    private static final SerializedString APPEND_RELATIONSHIPS = new SerializedString("appendRelationshipAttributes");
+    private static final SerializedString REMOVE_RELATIONSHIPS = new SerializedString("removeRelationshipAttributes");
+    private static final SerializedString APPEND_TAGS = new SerializedString("addOrUpdateClassifications");
+    private static final SerializedString REMOVE_TAGS = new SerializedString("removeClassifications");
+    private static final SerializedString REPLACE_TAGS = new SerializedString("classifications");
+    private static final SerializedString BUSINESS_ATTRIBUTES = new SerializedString("businessAttributes");
+
     private final transient AtlanClient client;
 
     public AssetSerializer(AtlanClient client) {
@@ -58,7 +67,7 @@ public class AssetSerializer extends StdSerializer<Asset> {
     public void serialize(Asset asset, JsonGenerator gen, SerializerProvider sp)
             throws IOException, JsonProcessingException {
 
-        Class<?> clazz = asset.getClass();
+        AssetTypeSerializer typeSerializer = AssetTypeSerializer.get(asset.getClass());
 
         Set<String> nullFields = asset.getNullFields();
 
@@ -73,15 +82,16 @@ public class AssetSerializer extends StdSerializer<Asset> {
         gen.writeStartObject();
 
         try {
-            for (String fieldName : ReflectionCache.getFieldNames(clazz)) {
-                if (ReflectionCache.isAttribute(clazz, fieldName)) {
+            for (AssetTypeSerializer.Field field : typeSerializer.getFields()) {
+                String fieldName = field.getFieldName();
+                AssetTypeSerializer.Kind kind = field.getKind();
+                if (kind == AssetTypeSerializer.Kind.ATTRIBUTE) {
                     // If the field should be attribute-nested...
                     Object attrValue;
-                    Class<?> type = ReflectionCache.getFieldType(clazz, fieldName);
                     if (nullFields.contains(fieldName)) {
                         // If the value should be serialized as null, then
                         // set the value to the serializable null
-                        if (type == List.class || type == Set.class || type == SortedSet.class) {
+                        if (field.getIsCollection()) {
                             attrValue = Removable.EMPTY_LIST;
                         } else {
                             attrValue = Removable.NULL;
@@ -89,7 +99,7 @@ public class AssetSerializer extends StdSerializer<Asset> {
                     } else {
                         // Otherwise, pickup the value from the top-level
                         // attribute so that we can move that value across
-                        attrValue = ReflectionCache.getValue(asset, fieldName);
+                        attrValue = field.getValue(asset);
                     }
                     if (attrValue != null) {
                         // Ignore null values and empty collections
@@ -127,7 +137,7 @@ public class AssetSerializer extends StdSerializer<Asset> {
                                 attrValue = mappedNames;
                             }
                             // Add the value we've derived above to the attribute map for nesting
-                            String serializeName = ReflectionCache.getSerializedName(clazz, fieldName);
+                            String serializeName = field.getSerializedName();
                             // Note: the value could be a singular reference, or a collection of references...
                             if (attrValue instanceof Collection) {
                                 // If it is in a collection, check whether the first value is a reference
@@ -185,13 +195,13 @@ public class AssetSerializer extends StdSerializer<Asset> {
                             }
                         }
                     }
-                } else if (fieldName.equals("customMetadataSets")) {
+                } else if (kind == AssetTypeSerializer.Kind.CUSTOM_METADATA) {
                     // Translate custom metadata to businessAttributes map
                     Map<String, CustomMetadataAttributes> cm = asset.getCustomMetadataSets();
                     if (cm != null && !cm.isEmpty()) {
                         client.getCustomMetadataCache().getBusinessAttributesFromCustomMetadata(cm, businessAttributes);
                     }
-                } else if (fieldName.equals("atlanTags")) {
+                } else if (kind == AssetTypeSerializer.Kind.ATLAN_TAGS) {
                     Set<AtlanTag> tags = asset.getAtlanTags();
                     for (AtlanTag tag : tags) {
                         switch (tag.getSemantic()) {
@@ -209,14 +219,14 @@ public class AssetSerializer extends StdSerializer<Asset> {
                 } else {
                     // For any other (top-level) field, we'll just write it out as-is (skipping any null
                     // values or empty lists)
-                    Object attrValue = ReflectionCache.getValue(asset, fieldName);
+                    Object attrValue = field.getValue(asset);
                     if (attrValue != null
                             && !(attrValue instanceof Collection && ((Collection<?>) attrValue).isEmpty())
                             && !attrValue.equals(Collections.EMPTY_MAP)
                             && !attrValue.equals(Collections.EMPTY_SET)
                             && !attrValue.equals(Collections.EMPTY_LIST)) {
-                        String serializeName = ReflectionCache.getSerializedName(clazz, fieldName);
-                        sp.defaultSerializeField(serializeName, attrValue, gen);
+                        gen.writeFieldName(field.getEncodedName());
+                        sp.defaultSerializeValue(attrValue, gen);
                     }
                 }
             }
@@ -245,26 +255,32 @@ public class AssetSerializer extends StdSerializer<Asset> {
                     attributes.put("description", StringUtils.encodeContent(unencoded));
                 }
             }
-            sp.defaultSerializeField("attributes", attributes, gen);
+            writeField(ATTRIBUTES, attributes, gen, sp);
         }
         if (!appendRelationships.isEmpty()) {
-            sp.defaultSerializeField("appendRelationshipAttributes", appendRelationships, gen);
+            writeField(APPEND_RELATIONSHIPS, appendRelationships, gen, sp);
         }
         if (!removeRelationships.isEmpty()) {
-            sp.defaultSerializeField("removeRelationshipAttributes", removeRelationships, gen);
+            writeField(REMOVE_RELATIONSHIPS, removeRelationships, gen, sp);
         }
         if (!appendAtlanTags.isEmpty()) {
-            sp.defaultSerializeField("addOrUpdateClassifications", appendAtlanTags, gen);
+            writeField(APPEND_TAGS, appendAtlanTags, gen, sp);
         }
         if (!removeAtlanTags.isEmpty()) {
-            sp.defaultSerializeField("removeClassifications", removeAtlanTags, gen);
+            writeField(REMOVE_TAGS, removeAtlanTags, gen, sp);
         }
         if (!replaceAtlanTags.isEmpty()) {
-            sp.defaultSerializeField("classifications", replaceAtlanTags, gen);
+            writeField(REPLACE_TAGS, replaceAtlanTags, gen, sp);
         }
         if (!businessAttributes.isEmpty()) {
-            sp.defaultSerializeField("businessAttributes", businessAttributes, gen);
+            writeField(BUSINESS_ATTRIBUTES, businessAttributes, gen, sp);
         }
         gen.writeEndObject();
     }
+
+    private static void writeField(SerializedString name, Object value, JsonGenerator gen, SerializerProvider sp)
+            throws IOException {
+        gen.writeFieldName(name);
+        sp.defaultSerializeValue(value, gen);
+    }
 }
@@ -0,0 +1,307 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.serde;
+
+import com.atlan.AtlanClient;
+import com.atlan.cache.ReflectionCache;
+import com.atlan.model.assets.Asset;
+import com.atlan.model.enums.AtlanPolicyAction;
+import com.atlan.util.JacksonUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pre-bound deserialization for a single asset type. Everything that the reflective deserialization
+ * looks up for every attribute of every asset (the builder factory, the setter for each attribute, the
+ * setter's parameter types, and any enum conversion) is resolved once per type and attribute, and then
+ * invoked directly through method handles for every subsequent asset of that type.
+ * <br><br>
+ * The values produced are exactly the same as those produced through {@link Serde#deserialize}, so that the
+ * two approaches can be used interchangeably.
+ */
+@Slf4j
+public final class AssetTypeDeserializer {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+    private static final MethodType FROM_VALUE_TYPE = MethodType.methodType(Object.class, String.class);
+
+    /** Class of the asset type this deserializer produces. */
+    @Getter
+    private final Class<?> assetClass;
+
+    private final Class<?> builderClass;
+    private final MethodHandle factory;
+
+    /** Bindings for each attribute, keyed by the name of the attribute in JSON. */
+    private final Map<String, Binding> bindings = new ConcurrentHashMap<>();
+
+    /**
+     * Resolve the pre-bound deserialization for the provided asset class.
+     *
+     * @param assetClass class of the asset type
+     * @throws ReflectiveOperationException if the asset class has no accessible builder factory
+     */
+    AssetTypeDeserializer(Class<?> assetClass) throws ReflectiveOperationException {
+        this.assetClass = assetClass;
+        Method internal = assetClass.getMethod("_internal");
+        this.factory = LOOKUP.unreflect(internal).asType(FACTORY_TYPE);
+        this.builderClass = newBuilder().getClass();
+    }
+
+    /**
+     * Create a new (empty) builder for the asset type.
+     *
+     * @return a new builder for the asset type
+     * @throws IOException if the builder cannot be created
+     */
+    public Asset.AssetBuilder<?, ?> newBuilder() throws IOException {
+        try {
+            return (Asset.AssetBuilder<?, ?>) factory.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IOException("Unable to create a builder for " + assetClass.getName() + ".", e);
+        }
+    }
+
+    /**
+     * Retrieve the binding for the attribute with the provided JSON name.
+     *
+     * @param jsonName name of the attribute, as it appears in JSON
+     * @return the binding through which to deserialize and set the attribute, or null if there is no such attribute on the asset type
+     */
+    public Binding getBinding(String jsonName) {
+        Binding binding = bindings.get(jsonName);
+        if (binding == null) {
+            // Note: misses are deliberately not cached, as these are open-ended
+            // (for example, the custom metadata embedded in search results)
+            String fieldName = ReflectionCache.getDeserializedName(assetClass, jsonName);
+            Method setter = ReflectionCache.getSetter(builderClass, fieldName);
+            if (setter == null) {
+                return null;
+            }
+            binding = bindings.computeIfAbsent(jsonName, k -> Binding.of(fieldName, setter));
+        }
+        return binding;
+    }
+
+    /**
+     * Pre-resolved deserialization and setting of a single attribute of an asset type.
+     */
+    public static final class Binding {
+
+        /** Name of the field on the asset into which the attribute is deserialized. */
+        @Getter
+        private final String fieldName;
+
+        private final MethodHandle setter;
+        private final Class<?> paramClass;
+        private final Class<?> innerClass;
+        private final TypeReference<?> mapType;
+        private final MethodHandle paramFromValue;
+        private final MethodHandle innerFromValue;
+
+        private Binding(
+                String fieldName,
+                MethodHandle setter,
+                Class<?> paramClass,
+                Class<?> innerClass,
+                TypeReference<?> mapType,
+                MethodHandle paramFromValue,
+                MethodHandle innerFromValue) {
+            this.fieldName = fieldName;
+            this.setter = setter;
+            this.paramClass = paramClass;
+            this.innerClass = innerClass;
+            this.mapType = mapType;
+            this.paramFromValue = paramFromValue;
+            this.innerFromValue = innerFromValue;
+        }
+
+        private static Binding of(String fieldName, Method method) {
+            MethodHandle setter = null;
+            try {
+                setter = LOOKUP.unreflect(method).asType(SETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                log.debug("Unable to bind setter {}, it will be invoked through reflection.", method, e);
+            }
+            Class<?> paramClass = ReflectionCache.getParameterOfMethod(method);
+            Type paramType = ReflectionCache.getParameterizedTypeOfMethod(method);
+            Class<?> innerClass = ReflectionCache.getClassOfParameterizedType(paramType);
+            if (innerClass == null) {
+                // Same fallback as for reflection: singular values are of the parameter's own class
+                innerClass = paramClass;
+            }
+            TypeReference<?> mapType = paramClass == Map.class ? Serde.createTypeRef(paramType) : null;
+            return new Binding(
+                    fieldName,
+                    setter,
+                    paramClass,
+                    innerClass,
+                    mapType,
+                    findFromValue(paramClass),
+                    findFromValue(innerClass));
+        }
+
+        private static MethodHandle findFromValue(Class<?> enumClass) {
+            if (enumClass.isEnum()) {
+                try {
+                    return LOOKUP.findStatic(enumClass, "fromValue", MethodType.methodType(enumClass, String.class))
+                            .asType(FROM_VALUE_TYPE);
+                } catch (NoSuchMethodException | IllegalAccessException e) {
+                    log.debug("Enum {} has no accessible fromValue method.", enumClass.getName(), e);
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Deserialize the provided JSON value and set it on the builder.
+         *
+         * @param client connectivity to the Atlan tenant
+         * @param builder for the asset on which to set the value
+         * @param jsonNode value to deserialize
+         * @throws IOException on any problems deserializing or setting the value
+         */
+        public void deserializeInto(AtlanClient client, Asset.AssetBuilder<?, ?> builder, JsonNode jsonNode)
+                throws IOException {
+            set(builder, deserialize(client, jsonNode));
+        }
+
+        /**
+         * Deserialize the provided JSON value into the type expected by the attribute's setter.
+         *
+         * @param client connectivity to the Atlan tenant
+         * @param jsonNode value to deserialize
+         * @return the deserialized value
+         * @throws IOException on any problems deserializing the value
+         */
+        Object deserialize(AtlanClient client, JsonNode jsonNode) throws IOException {
+            if (jsonNode.isValueNode()) {
+                if (jsonNode.isNull()) {
+                    return Removable.NULL;
+                } else if (fieldName.equals("mappedAtlanTagName")) {
+                    return Serde.getTagNameForSid(client, jsonNode.asText(), fieldName);
+                }
+                return deserializePrimitive(jsonNode, paramClass, paramFromValue);
+            } else if (jsonNode.isArray()) {
+                return deserializeList(client, jsonNode);
+            } else if (jsonNode.isObject()) {
+                if (mapType != null) {
+                    return client.convertValue(jsonNode, mapType);
+                }
+                return client.convertValue(jsonNode, paramClass);
+            }
+            return null;
+        }
+
+        private Collection<?> deserializeList(AtlanClient client, JsonNode array) throws IOException {
+            List<Object> list = new ArrayList<>(array.size());
+            for (JsonNode element : array) {
+                list.add(deserializeElement(client, element));
+            }
+            if (paramClass == Collection.class || paramClass == List.class) {
+                return list;
+            } else if (paramClass == Set.class || paramClass == SortedSet.class) {
+                list.removeIf(Objects::isNull);
+                return new TreeSet<>(list);
+            } else {
+                throw new IOException(
+                        "Unable to deserialize JSON list to Java class: " + paramClass.getCanonicalName());
+            }
+        }
+
+        private Object deserializeElement(AtlanClient client, JsonNode element) throws IOException {
+            if (element.isValueNode()) {
+                if (fieldName.equals("purposeAtlanTags")) {
+                    return Serde.getTagNameForSid(client, element.asText(), fieldName);
+                }
+                Object value = deserializePrimitive(element, innerClass, innerFromValue);
+                if (value == null && !element.isNull() && innerClass.isEnum()) {
+                    log.warn(
+                            "Unrecognized {} value '{}' in field {} — raise a ticket to get it added.",
+                            innerClass.getSimpleName(),
+                            element.asText(),
+                            fieldName);
+                }
+                return value;
+            } else if (element.isArray()) {
+                throw new IOException("Directly-nested arrays are not supported.");
+            } else if (element.isObject()) {
+                return client.convertValue(element, innerClass);
+            }
+            return null;
+        }
+
+        private static Object deserializePrimitive(JsonNode primitive, Class<?> singularClass, MethodHandle fromValue)
+                throws IOException {
+            if (primitive.isTextual()) {
+                if (singularClass == AtlanPolicyAction.class) {
+                    return AtlanPolicyActionDeserializer.deserialize(primitive.asText());
+                } else if (singularClass.isEnum()) {
+                    if (fromValue == null) {
+                        throw new IOException("Missing fromValue method for enum: " + singularClass.getName());
+                    }
+                    try {
+                        return fromValue.invokeExact(primitive.asText());
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        throw new IOException("Unable to translate enum value: " + primitive.asText(), e);
+                    }
+                } else if (singularClass == Boolean.class) {
+                    return primitive.asBoolean();
+                } else if (Number.class.isAssignableFrom(singularClass)) {
+                    return JacksonUtils.deserializeNumber(primitive, singularClass);
+                } else {
+                    return primitive.asText();
+                }
+            } else if (primitive.isBoolean()) {
+                return primitive.asBoolean();
+            } else if (primitive.isNumber()) {
+                return JacksonUtils.deserializeNumber(primitive, singularClass);
+            }
+            return null;
+        }
+
+        /**
+         * Set the (already-deserialized) value on the builder, with the same semantics as
+         * {@link ReflectionCache#setValue(Asset.AssetBuilder, String, Object)}.
+         *
+         * @param builder for the asset on which to set the value
+         * @param value to set
+         * @throws IOException if the value cannot be set
+         */
+        void set(Asset.AssetBuilder<?, ?> builder, Object value) throws IOException {
+            if (value == null || value instanceof Removable || (value instanceof String && ((String) value).isEmpty())) {
+                builder.nullField(fieldName);
+            } else if (setter == null) {
+                try {
+                    ReflectionCache.setValue(builder, fieldName, value);
+                } catch (ReflectiveOperationException e) {
+                    throw new IOException("Failed to deserialize through reflection.", e);
+                }
+            } else {
+                try {
+                    Object unused = setter.invokeExact((Object) builder, value);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new IOException("Unable to set " + fieldName + " on " + builder.getClass() + ".", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.serde;
+
+import java.util.Map;
+
+/**
+ * Extension point through which libraries outside the SDK can contribute their own asset types (and relationship
+ * types) for (de)serialization, without any classpath scanning. Implementations are discovered through
+ * {@link java.util.ServiceLoader}, so must be listed in a {@code META-INF/services/com.atlan.serde.AssetTypeProvider}
+ * file of the library. The simplest implementation generates a {@link TypeIndex} for the library's packages at
+ * build time, and reads it back through {@link TypeIndex#read(java.io.InputStream)}.
+ */
+public interface AssetTypeProvider {
+
+    /**
+     * Retrieve the asset classes contributed by this provider.
+     *
+     * @return map from the name of each asset type to the (binary) name of the class that implements it
+     */
+    Map<String, String> getAssetClassNames();
+
+    /**
+     * Retrieve the relationship attributes classes contributed by this provider.
+     *
+     * @return map from the name of each relationship type to the (binary) name of the class that implements it
+     */
+    default Map<String, String> getRelationshipAttributesClassNames() {
+        return Map.of();
+    }
+}
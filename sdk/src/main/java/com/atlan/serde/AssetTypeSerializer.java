@@ -0,0 +1,146 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.serde;
+
+import com.atlan.cache.ReflectionCache;
+import com.atlan.model.assets.Asset;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pre-bound serialization for a single asset type. The fields of the type (in the same order the reflective
+ * serialization would visit them), whether each is attribute-nested, its name once serialized (pre-encoded) and
+ * its getter are all resolved once per type, rather than being looked up for every field of every asset.
+ */
+@Slf4j
+public final class AssetTypeSerializer {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final Map<Class<?>, AssetTypeSerializer> registry = new ConcurrentHashMap<>();
+
+    /** Fields of the asset type, in the order in which they should be serialized. */
+    @Getter
+    private final List<Field> fields;
+
+    private AssetTypeSerializer(Class<?> assetClass) {
+        List<Field> list = new ArrayList<>();
+        for (String fieldName : ReflectionCache.getFieldNames(assetClass)) {
+            list.add(Field.of(assetClass, fieldName));
+        }
+        this.fields = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Retrieve the pre-bound serializer for the provided asset type.
+     *
+     * @param assetClass class of the asset type
+     * @return the pre-bound serializer for that type
+     */
+    public static AssetTypeSerializer get(Class<?> assetClass) {
+        return registry.computeIfAbsent(assetClass, AssetTypeSerializer::new);
+    }
+
+    /** Kinds of fields, each of which is serialized in its own way. */
+    public enum Kind {
+        /** Nested within the asset's attributes. */
+        ATTRIBUTE,
+        /** Custom metadata, translated into business attributes. */
+        CUSTOM_METADATA,
+        /** Atlan tags, split by their semantic. */
+        ATLAN_TAGS,
+        /** Any other field, serialized at the top-level of the asset. */
+        TOP_LEVEL,
+    }
+
+    /**
+     * Pre-resolved details for serializing a single field of an asset type.
+     */
+    public static final class Field {
+
+        /** Name of the field on the asset. */
+        @Getter
+        private final String fieldName;
+
+        /** Name of the field once serialized. */
+        @Getter
+        private final String serializedName;
+
+        /** Pre-encoded name of the field once serialized. */
+        @Getter
+        private final SerializedString encodedName;
+
+        /** How the field should be serialized. */
+        @Getter
+        private final Kind kind;
+
+        /** Whether the field holds a collection (and should therefore be emptied rather than nulled). */
+        @Getter
+        private final boolean isCollection;
+
+        private final MethodHandle getter;
+
+        private Field(
+                String fieldName, String serializedName, Kind kind, boolean isCollection, MethodHandle getter) {
+            this.fieldName = fieldName;
+            this.serializedName = serializedName;
+            this.encodedName = new SerializedString(serializedName);
+            this.kind = kind;
+            this.isCollection = isCollection;
+            this.getter = getter;
+        }
+
+        private static Field of(Class<?> assetClass, String fieldName) {
+            Kind kind;
+            if (ReflectionCache.isAttribute(assetClass, fieldName)) {
+                kind = Kind.ATTRIBUTE;
+            } else if (fieldName.equals("customMetadataSets")) {
+                kind = Kind.CUSTOM_METADATA;
+            } else if (fieldName.equals("atlanTags")) {
+                kind = Kind.ATLAN_TAGS;
+            } else {
+                kind = Kind.TOP_LEVEL;
+            }
+            Class<?> type = ReflectionCache.getFieldType(assetClass, fieldName);
+            boolean isCollection = type == List.class || type == Set.class || type == SortedSet.class;
+            MethodHandle getter = null;
+            Method method = ReflectionCache.getGetter(assetClass, fieldName);
+            try {
+                getter = LOOKUP.unreflect(method).asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                log.debug("Unable to bind getter {}, it will be invoked through reflection.", method, e);
+            }
+            return new Field(
+                    fieldName, ReflectionCache.getSerializedName(assetClass, fieldName), kind, isCollection, getter);
+        }
+
+        /**
+         * Retrieve the value of this field from the provided asset.
+         *
+         * @param asset from which to retrieve the value
+         * @return value of the field on that asset
+         * @throws IOException if there is any error retrieving the value
+         */
+        public Object getValue(Asset asset) throws IOException {
+            if (getter == null) {
+                return ReflectionCache.getValue(asset, fieldName);
+            }
+            try {
+                return getter.invokeExact((Object) asset);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IOException(
+                        "Failed to retrieve value for " + asset.getClass().getName() + "." + fieldName + ".", e);
+            }
+        }
+    }
+}
@@ -11,8 +11,6 @@ import com.atlan.AtlanClient;
 import com.atlan.cache.ReflectionCache;
 import com.atlan.exception.AtlanException;
 import com.atlan.exception.NotFoundException;
-import com.atlan.model.assets.Asset;
-import com.atlan.model.relations.RelationshipAttributes;
 import com.atlan.model.search.AggregationResult;
 import com.atlan.model.structs.AtlanStruct;
 import com.atlan.util.JacksonUtils;
@@ -26,9 +24,6 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
-import io.github.classgraph.ClassGraph;
-import io.github.classgraph.ClassInfo;
-import io.github.classgraph.ScanResult;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -58,96 +53,10 @@ public class Serde {
     public static final ObjectMapper yamlMapper = createMapperYAML();
 
     private static final Map<String, JsonDeserializer<?>> deserializerCache = new ConcurrentHashMap<>();
-    private static final Map<String, Class<?>> assetClasses;
-    private static final Map<String, Class<?>> builderClasses;
-    private static final Map<String, Class<?>> relationshipAttributeClasses;
-
-    static {
-        Map<String, Class<?>> assetMap = new HashMap<>();
-        Map<String, Class<?>> builderMap = new HashMap<>();
-        Map<String, Class<?>> relationshipAttributesMap = new HashMap<>();
-        scanPackages(
-                assetMap, builderMap, relationshipAttributesMap, "com.atlan.model.assets", "com.atlan.model.relations");
-        String externalPackages = System.getProperty("asset.scan.external", System.getenv("ASSET_SCAN_EXTERNAL"));
-        if (externalPackages != null && !externalPackages.isEmpty()) {
-            String[] packages = Arrays.stream(externalPackages.split(","))
-                    .map(String::trim)
-                    .filter(pkg -> !pkg.isEmpty())
-                    .toArray(String[]::new);
-            scanPackages(assetMap, builderMap, relationshipAttributesMap, packages);
-        }
-        assetClasses = Collections.unmodifiableMap(assetMap);
-        builderClasses = Collections.unmodifiableMap(builderMap);
-        relationshipAttributeClasses = Collections.unmodifiableMap(relationshipAttributesMap);
-    }
-
-    private static void scanPackages(
-            Map<String, Class<?>> assetMap,
-            Map<String, Class<?>> builderMap,
-            Map<String, Class<?>> relationshipAttributesMap,
-            String... packages) {
-        try (ScanResult scanResult = new ClassGraph()
-                .acceptPackages(packages)
-                .enableClassInfo()
-                .ignoreClassVisibility()
-                .setMaxBufferedJarRAMSize(2 * 1024 * 1024)
-                .scan()) {
-            processAssets(scanResult, assetMap, builderMap);
-            processRelationships(scanResult, relationshipAttributesMap, builderMap);
-        }
-    }
-
-    private static void processAssets(
-            ScanResult scanResult, Map<String, Class<?>> assetMap, Map<String, Class<?>> builderMap) {
-        for (ClassInfo info : scanResult.getSubclasses(Asset.AssetBuilder.class)) {
-            String fullName = info.getName();
-            if (fullName.endsWith("Impl")) {
-                try {
-                    Class<?> builderClass = info.loadClass();
-                    Class<?> typeClass = builderClass.getEnclosingClass();
-                    String typeName =
-                            (String) typeClass.getDeclaredField("TYPE_NAME").get(null);
-                    assetMap.put(typeName, typeClass);
-                    builderMap.put(typeName, builderClass);
-                } catch (NoSuchFieldException e) {
-                    log.debug(
-                            "Asset class is missing the static TYPE_NAME giving its type (this is fine if this is a relationship): {}",
-                            fullName);
-                } catch (IllegalAccessException e) {
-                    log.error("Unable to access the static TYPE_NAME for the asset class: {}", fullName, e);
-                }
-            }
-        }
-    }
-
-    private static void processRelationships(
-            ScanResult scanResult, Map<String, Class<?>> relationshipAttributesMap, Map<String, Class<?>> builderMap) {
-        for (ClassInfo info : scanResult.getSubclasses(RelationshipAttributes.RelationshipAttributesBuilder.class)) {
-            String fullName = info.getName();
-            if (fullName.endsWith("Impl")) {
-                try {
-                    Class<?> builderClass = info.loadClass();
-                    Class<?> typeClass = builderClass.getEnclosingClass();
-                    String typeName = (String) typeClass.getField("TYPE_NAME").get(null);
-                    relationshipAttributesMap.put(typeName, typeClass);
-                    builderMap.put(typeName, builderClass);
-                } catch (NoSuchFieldException e) {
-                    log.error(
-                            "Relationship attributes class is missing the static TYPE_NAME giving its type: {}",
-                            fullName,
-                            e);
-                } catch (IllegalAccessException e) {
-                    log.error(
-                            "Unable to access the static TYPE_NAME for the relationship attributes class: {}",
-                            fullName,
-                            e);
-                }
-            }
-        }
-    }
+    private static final TypeRegistry types = TypeRegistry.load();
 
     public static Class<?> getAssetClassForType(String typeName) throws ClassNotFoundException {
-        Class<?> result = assetClasses.getOrDefault(typeName, null);
+        Class<?> result = types.getAssetClass(typeName);
         if (result != null) {
             return result;
         } else {
@@ -156,7 +65,7 @@ public class Serde {
     }
 
     public static Class<?> getRelationshipAttributesClassForType(String typeName) throws ClassNotFoundException {
-        Class<?> result = relationshipAttributeClasses.getOrDefault(typeName, null);
+        Class<?> result = types.getRelationshipAttributesClass(typeName);
         if (result != null) {
             return result;
         } else {
@@ -165,7 +74,7 @@ public class Serde {
     }
 
     public static Class<?> getBuilderClassForType(String typeName) throws ClassNotFoundException {
-        Class<?> result = builderClasses.getOrDefault(typeName, null);
+        Class<?> result = types.getBuilderClass(typeName);
         if (result != null) {
             return result;
         } else {
@@ -346,18 +255,7 @@ public class Serde {
         Class<?> innerClass = ReflectionCache.getClassOfParameterizedType(paramType);
         if (element.isValueNode()) {
             if (fieldName.equals("purposeAtlanTags")) {
-                String value;
-                try {
-                    value = client.getAtlanTagCache().getNameForSid(element.asText());
-                } catch (NotFoundException e) {
-                    value = Serde.DELETED_AUDIT_OBJECT;
-                } catch (AtlanException e) {
-                    throw new IOException("Unable to deserialize purposeAtlanTags.", e);
-                }
-                if (value == null) {
-                    value = Serde.DELETED_AUDIT_OBJECT;
-                }
-                return value;
+                return getTagNameForSid(client, element.asText(), fieldName);
             }
             Object value = JacksonUtils.deserializePrimitive(element, method, innerClass);
             if (value == null && !element.isNull() && innerClass != null && innerClass.isEnum()) {
@@ -395,18 +293,33 @@ public class Serde {
         } else {
             Object value = JacksonUtils.deserializePrimitive(primitive, method);
             if (fieldName.equals("mappedAtlanTagName")) {
-                try {
-                    value = client.getAtlanTagCache().getNameForSid(primitive.asText());
-                } catch (NotFoundException e) {
-                    value = Serde.DELETED_AUDIT_OBJECT;
-                } catch (AtlanException e) {
-                    throw new IOException("Unable to deserialize mappedAtlanTagName.", e);
-                }
-                if (value == null) {
-                    value = Serde.DELETED_AUDIT_OBJECT;
-                }
+                value = getTagNameForSid(client, primitive.asText(), fieldName);
             }
             return value;
         }
     }
+
+    /**
+     * Translate the internal (hashed-string) ID of an Atlan tag into its human-readable name.
+     *
+     * @param client connectivity to the Atlan tenant
+     * @param sid internal (hashed-string) ID of the Atlan tag
+     * @param fieldName name of the field into which the tag's name is being deserialized
+     * @return the human-readable name of the Atlan tag, or {@link #DELETED_AUDIT_OBJECT} if it no longer exists
+     * @throws IOException if there is any unexpected error looking up the name of the Atlan tag
+     */
+    static String getTagNameForSid(AtlanClient client, String sid, String fieldName) throws IOException {
+        String value;
+        try {
+            value = client.getAtlanTagCache().getNameForSid(sid);
+        } catch (NotFoundException e) {
+            value = Serde.DELETED_AUDIT_OBJECT;
+        } catch (AtlanException e) {
+            throw new IOException("Unable to deserialize " + fieldName + ".", e);
+        }
+        if (value == null) {
+            value = Serde.DELETED_AUDIT_OBJECT;
+        }
+        return value;
+    }
 }
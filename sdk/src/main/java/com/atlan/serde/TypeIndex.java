@@ -0,0 +1,164 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.serde;
+
+import com.atlan.model.assets.Asset;
+import com.atlan.model.relations.RelationshipAttributes;
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.FieldInfo;
+import io.github.classgraph.ScanResult;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.Getter;
+
+/**
+ * Index of the names of the classes that implement each asset type (and relationship type), keyed by the name
+ * of the type. The index is generated at build time (by scanning the compiled classes, without loading any of them),
+ * so that at runtime the classes only need to be loaded when a type is first used -- rather than scanning the classpath
+ * and loading every class on startup.
+ */
+@Getter
+public final class TypeIndex {
+
+    private static final String ASSET_PREFIX = "asset.";
+    private static final String RELATIONSHIP_PREFIX = "relationship.";
+
+    /** Map from the name of each asset type to the (binary) name of the class that implements it. */
+    private final Map<String, String> assetClassNames;
+
+    /** Map from the name of each relationship type to the (binary) name of the class that implements it. */
+    private final Map<String, String> relationshipAttributesClassNames;
+
+    private TypeIndex(Map<String, String> assetClassNames, Map<String, String> relationshipAttributesClassNames) {
+        this.assetClassNames = Collections.unmodifiableMap(assetClassNames);
+        this.relationshipAttributesClassNames = Collections.unmodifiableMap(relationshipAttributesClassNames);
+    }
+
+    /**
+     * Build an index by scanning the classpath for the asset and relationship classes within the provided packages.
+     * Note: the classes are only inspected, never loaded.
+     *
+     * @param packages in which to look for asset and relationship classes
+     * @return an index of all the asset and relationship classes in those packages
+     */
+    public static TypeIndex scan(String... packages) {
+        Map<String, String> assets = new TreeMap<>();
+        Map<String, String> relationships = new TreeMap<>();
+        try (ScanResult scanResult = new ClassGraph()
+                .acceptPackages(packages)
+                .enableClassInfo()
+                .enableFieldInfo()
+                .enableStaticFinalFieldConstantInitializerValues()
+                .ignoreClassVisibility()
+                .ignoreFieldVisibility()
+                .setMaxBufferedJarRAMSize(2 * 1024 * 1024)
+                .scan()) {
+            for (ClassInfo info : scanResult.getSubclasses(Asset.AssetBuilder.class.getName())) {
+                // Only the types that declare their own TYPE_NAME (not those that inherit it) are assets
+                addType(scanResult, info, assets, true);
+            }
+            for (ClassInfo info :
+                    scanResult.getSubclasses(RelationshipAttributes.RelationshipAttributesBuilder.class.getName())) {
+                addType(scanResult, info, relationships, false);
+            }
+        }
+        return new TypeIndex(assets, relationships);
+    }
+
+    private static void addType(ScanResult scanResult, ClassInfo builder, Map<String, String> index, boolean declared) {
+        String builderName = builder.getName();
+        int outer = builderName.lastIndexOf('$');
+        if (builderName.endsWith("Impl") && outer > 0) {
+            ClassInfo typeClass = scanResult.getClassInfo(builderName.substring(0, outer));
+            if (typeClass != null) {
+                FieldInfo field =
+                        declared ? typeClass.getDeclaredFieldInfo("TYPE_NAME") : typeClass.getFieldInfo("TYPE_NAME");
+                Object typeName = field == null ? null : field.getConstantInitializerValue();
+                if (typeName instanceof String) {
+                    index.put((String) typeName, typeClass.getName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Read an index that was previously written through {@link #write(Writer)}.
+     *
+     * @param in stream from which to read the index
+     * @return the index
+     * @throws IOException if the index cannot be read
+     */
+    public static TypeIndex read(InputStream in) throws IOException {
+        Map<String, String> assets = new TreeMap<>();
+        Map<String, String> relationships = new TreeMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                int separator = line.indexOf('=');
+                if (line.isEmpty() || line.startsWith("#") || separator < 0) {
+                    continue;
+                }
+                String key = line.substring(0, separator).trim();
+                String className = line.substring(separator + 1).trim();
+                if (key.startsWith(ASSET_PREFIX)) {
+                    assets.put(key.substring(ASSET_PREFIX.length()), className);
+                } else if (key.startsWith(RELATIONSHIP_PREFIX)) {
+                    relationships.put(key.substring(RELATIONSHIP_PREFIX.length()), className);
+                }
+            }
+        }
+        return new TypeIndex(assets, relationships);
+    }
+
+    /**
+     * Write the index, in a stable (sorted) order so that the same classes always produce the same index.
+     *
+     * @param writer into which to write the index
+     * @throws IOException if the index cannot be written
+     */
+    public void write(Writer writer) throws IOException {
+        writer.write("# Generated at build time -- do not edit.\n");
+        for (Map.Entry<String, String> entry : assetClassNames.entrySet()) {
+            writer.write(ASSET_PREFIX + entry.getKey() + "=" + entry.getValue() + "\n");
+        }
+        for (Map.Entry<String, String> entry : relationshipAttributesClassNames.entrySet()) {
+            writer.write(RELATIONSHIP_PREFIX + entry.getKey() + "=" + entry.getValue() + "\n");
+        }
+    }
+
+    /**
+     * Generate an index file at build time.
+     *
+     * @param args the file into which to write the index, followed by each package to scan for asset and relationship classes
+     * @throws IOException if the index cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: TypeIndex <output-file> <package> [<package> ...]");
+        }
+        Path output = Paths.get(args[0]);
+        TypeIndex index = scan(Arrays.copyOfRange(args, 1, args.length));
+        if (index.getAssetClassNames().isEmpty()) {
+            throw new IllegalStateException("No asset classes found to index -- are the compiled classes on the classpath?");
+        }
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            index.write(writer);
+        }
+    }
+}
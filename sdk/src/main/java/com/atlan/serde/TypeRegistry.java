@@ -0,0 +1,177 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.serde;
+
+import com.atlan.model.assets.Asset;
+import com.atlan.model.relations.RelationshipAttributes;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registry of the classes that implement each asset type (and relationship type), loaded from the index generated
+ * at build time and any {@link AssetTypeProvider} on the classpath. Each class is only loaded the first time its type
+ * is used.
+ */
+@Slf4j
+final class TypeRegistry {
+
+    /** Location of the index generated at build time for the SDK's own asset and relationship classes. */
+    static final String INDEX_RESOURCE = "META-INF/atlan/types.index";
+
+    private static final String[] SDK_PACKAGES = {"com.atlan.model.assets", "com.atlan.model.relations"};
+
+    private final Map<String, Entry> assets = new HashMap<>();
+    private final Map<String, Entry> relationships = new HashMap<>();
+
+    private TypeRegistry() {}
+
+    /**
+     * Load the registry of all known asset and relationship types.
+     *
+     * @return the registry
+     */
+    static TypeRegistry load() {
+        TypeRegistry registry = new TypeRegistry();
+        ClassLoader sdkLoader = TypeRegistry.class.getClassLoader();
+        registry.add(readSdkIndex(), sdkLoader);
+        try {
+            for (AssetTypeProvider provider : ServiceLoader.load(AssetTypeProvider.class, sdkLoader)) {
+                ClassLoader loader = provider.getClass().getClassLoader();
+                registry.add(provider.getAssetClassNames(), provider.getRelationshipAttributesClassNames(), loader);
+            }
+        } catch (ServiceConfigurationError e) {
+            log.error("Unable to load asset types from an external provider.", e);
+        }
+        String externalPackages = System.getProperty("asset.scan.external", System.getenv("ASSET_SCAN_EXTERNAL"));
+        if (externalPackages != null && !externalPackages.isEmpty()) {
+            log.warn(
+                    "Scanning external packages for asset types ({}) slows down every startup -- contribute them through an AssetTypeProvider instead.",
+                    externalPackages);
+            String[] packages = Arrays.stream(externalPackages.split(","))
+                    .map(String::trim)
+                    .filter(pkg -> !pkg.isEmpty())
+                    .toArray(String[]::new);
+            registry.add(TypeIndex.scan(packages), Thread.currentThread().getContextClassLoader());
+        }
+        return registry;
+    }
+
+    private static TypeIndex readSdkIndex() {
+        try (InputStream in = TypeRegistry.class.getClassLoader().getResourceAsStream(INDEX_RESOURCE)) {
+            if (in != null) {
+                return TypeIndex.read(in);
+            }
+        } catch (IOException e) {
+            log.error("Unable to read the index of asset types -- falling back to scanning for them.", e);
+        }
+        // Only expected when running directly from sources, without the build having generated the index
+        log.warn("No index of asset types found ({}) -- scanning for them instead.", INDEX_RESOURCE);
+        return TypeIndex.scan(SDK_PACKAGES);
+    }
+
+    private void add(TypeIndex index, ClassLoader loader) {
+        add(index.getAssetClassNames(), index.getRelationshipAttributesClassNames(), loader);
+    }
+
+    private void add(Map<String, String> assetClasses, Map<String, String> relationshipClasses, ClassLoader loader) {
+        if (assetClasses != null) {
+            assetClasses.forEach((typeName, className) ->
+                    assets.put(typeName, new Entry(className, loader, Asset.AssetBuilder.class)));
+        }
+        if (relationshipClasses != null) {
+            relationshipClasses.forEach((typeName, className) -> relationships.put(
+                    typeName,
+                    new Entry(className, loader, RelationshipAttributes.RelationshipAttributesBuilder.class)));
+        }
+    }
+
+    /**
+     * Retrieve the class that implements an asset type.
+     *
+     * @param typeName name of the asset type
+     * @return the class that implements the asset type, or null if there is none
+     */
+    Class<?> getAssetClass(String typeName) {
+        Entry entry = assets.get(typeName);
+        return entry == null ? null : entry.getType();
+    }
+
+    /**
+     * Retrieve the class that implements a relationship type.
+     *
+     * @param typeName name of the relationship type
+     * @return the class that implements the relationship type, or null if there is none
+     */
+    Class<?> getRelationshipAttributesClass(String typeName) {
+        Entry entry = relationships.get(typeName);
+        return entry == null ? null : entry.getType();
+    }
+
+    /**
+     * Retrieve the class of the builder for an asset type or relationship type.
+     *
+     * @param typeName name of the asset type or relationship type
+     * @return the class of the builder for the type, or null if there is none
+     */
+    Class<?> getBuilderClass(String typeName) {
+        // Relationship types take precedence, as they always have
+        Entry entry = relationships.get(typeName);
+        if (entry == null) {
+            entry = assets.get(typeName);
+        }
+        return entry == null ? null : entry.getBuilder();
+    }
+
+    /** Single type in the registry, whose classes are only loaded when first retrieved. */
+    private static final class Entry {
+        private final String className;
+        private final ClassLoader loader;
+        private final Class<?> builderBase;
+        private volatile boolean resolved = false;
+        private Class<?> type;
+        private Class<?> builder;
+
+        Entry(String className, ClassLoader loader, Class<?> builderBase) {
+            this.className = className;
+            this.loader = loader;
+            this.builderBase = builderBase;
+        }
+
+        Class<?> getType() {
+            resolve();
+            return type;
+        }
+
+        Class<?> getBuilder() {
+            resolve();
+            return builder;
+        }
+
+        private void resolve() {
+            if (!resolved) {
+                synchronized (this) {
+                    if (!resolved) {
+                        try {
+                            type = Class.forName(className, true, loader);
+                            for (Class<?> nested : type.getDeclaredClasses()) {
+                                if (nested.getName().endsWith("Impl") && builderBase.isAssignableFrom(nested)) {
+                                    builder = nested;
+                                    break;
+                                }
+                            }
+                        } catch (ClassNotFoundException | LinkageError e) {
+                            log.error("Unable to load the class for a type: {}", className, e);
+                        }
+                        resolved = true;
+                    }
+                }
+            }
+        }
+    }
+}
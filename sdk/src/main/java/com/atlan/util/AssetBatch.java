@@ -6,6 +6,7 @@ import com.atlan.AtlanClient;
 import com.atlan.cache.OffHeapAssetCache;
 import com.atlan.cache.OffHeapFailureCache;
 import com.atlan.cache.ReflectionCache;
+import com.atlan.exception.ApiException;
 import com.atlan.exception.AtlanException;
 import com.atlan.exception.ErrorCode;
 import com.atlan.exception.InvalidRequestException;
@@ -31,17 +32,33 @@ import com.atlan.serde.Serde;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.extern.jackson.Jacksonized;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Utility class for managing bulk updates in batches.
+ * <p>
+ * By default, each full batch is sent (and its results tracked) synchronously, on the thread that adds the
+ * asset that fills the batch. When created with a {@code pipelineDepth} greater than zero, full batches are
+ * instead handed off to a bounded queue and sent by a dedicated pool of that many threads, so that building
+ * up the next batch overlaps with sending the previous ones. In this mode, adding an asset only blocks when
+ * the queue is full, the results of each batch are still tracked in the order the batches were submitted,
+ * and {@link #flush()} (or {@link #flushAsync()}) acts as a barrier for every batch submitted before it.
  */
+@Slf4j
 public class AssetBatch implements AtlanCloseable {
 
     private static final Set<String> TABLE_LEVEL_ASSETS =
@@ -77,9 +94,21 @@ public class AssetBatch implements AtlanCloseable {
     /** Whether tables and views should be treated interchangeably (an asset in the batch marked as a table will attempt to match a view if not found as a table, and vice versa). */
     private final boolean tableViewAgnostic;
 
+    /** Maximum number of full batches that can be sent concurrently (0 to send each batch synchronously). */
+    private final int pipelineDepth;
+
     /** Internal queue for building up assets to be saved. */
     private final List<Asset> _batch = Collections.synchronizedList(new ArrayList<>());
 
+    /** Pool through which batches are sent, when pipelining (otherwise null). */
+    private final ThreadPoolExecutor sender;
+
+    /** Completes once every batch submitted so far has been sent and its results tracked, when pipelining. */
+    private CompletableFuture<AssetMutationResponse> pipeline = CompletableFuture.completedFuture(null);
+
+    /** First failure raised by a batch sent through the pipeline, which has not yet been thrown to the caller. */
+    private final AtomicReference<Throwable> pipelineFailure = new AtomicReference<>();
+
     /** Number of assets that were created (no details, just a count). */
     @Getter
     private final AtomicLong numCreated = new AtomicLong(0);
@@ -314,6 +343,47 @@ public class AssetBatch implements AtlanCloseable {
             boolean caseInsensitive,
             AssetCreationHandling creationHandling,
             boolean tableViewAgnostic) {
+        this(
+                client,
+                maxSize,
+                atlanTagHandling,
+                customMetadataHandling,
+                captureFailures,
+                updateOnly,
+                track,
+                caseInsensitive,
+                creationHandling,
+                tableViewAgnostic,
+                0);
+    }
+
+    /**
+     * Create a new batch of assets to be bulk-saved.
+     *
+     * @param client connectivity to Atlan
+     * @param maxSize maximum size of each batch that should be processed (per API call)
+     * @param atlanTagHandling how to handle Atlan tags (ignore them, append them (leaving any pre-existing), replace them (wiping out any pre-existing), or remove them)
+     * @param customMetadataHandling how to handle custom metadata (ignore it, replace it (wiping out anything pre-existing), or merge it)
+     * @param captureFailures when true, any failed batches will be captured and retained rather than exceptions being raised (for large amounts of processing this could cause memory issues!)
+     * @param updateOnly when true, only attempt to update existing assets and do not create any assets (note: this will incur a performance penalty)
+     * @param track when false, details about each created and updated asset will no longer be tracked (only an overall count of each) -- useful if you intend to send close to (or more than) 1 million assets through a batch
+     * @param caseInsensitive (only applies when updateOnly is true) when matching assets, search for their qualifiedName in a case-insensitive way
+     * @param creationHandling if assets are to be created, how they should be created (as full assets or only partial assets)
+     * @param tableViewAgnostic if true, tables and views will be treated interchangeably (an asset in the batch marked as a table will attempt to match a view if not found as a table, and vice versa)
+     * @param pipelineDepth maximum number of full batches to send concurrently, in the background (0 to send each batch synchronously, as it fills)
+     */
+    public AssetBatch(
+            AtlanClient client,
+            int maxSize,
+            AtlanTagHandling atlanTagHandling,
+            CustomMetadataHandling customMetadataHandling,
+            boolean captureFailures,
+            boolean updateOnly,
+            boolean track,
+            boolean caseInsensitive,
+            AssetCreationHandling creationHandling,
+            boolean tableViewAgnostic,
+            int pipelineDepth) {
         this(
                 client,
                 maxSize,
@@ -334,7 +404,8 @@ public class AssetBatch implements AtlanCloseable {
                 new OffHeapAssetCache(
                         client, "skipped_" + Thread.currentThread().getId()),
                 new OffHeapFailureCache(
-                        client, "failed_" + Thread.currentThread().getId()));
+                        client, "failed_" + Thread.currentThread().getId()),
+                pipelineDepth);
     }
 
     /**
@@ -372,6 +443,62 @@ public class AssetBatch implements AtlanCloseable {
             OffHeapAssetCache restored,
             OffHeapAssetCache skipped,
             OffHeapFailureCache failed) {
+        this(
+                client,
+                maxSize,
+                atlanTagHandling,
+                customMetadataHandling,
+                captureFailures,
+                updateOnly,
+                track,
+                caseInsensitive,
+                creationHandling,
+                tableViewAgnostic,
+                created,
+                updated,
+                restored,
+                skipped,
+                failed,
+                0);
+    }
+
+    /**
+     * Create a new batch of assets to be bulk-saved.
+     *
+     * @param client connectivity to Atlan
+     * @param maxSize maximum size of each batch that should be processed (per API call)
+     * @param atlanTagHandling how to handle Atlan tags (ignore them, append them (leaving any pre-existing), replace them (wiping out any pre-existing), or remove them)
+     * @param customMetadataHandling how to handle custom metadata (ignore it, replace it (wiping out anything pre-existing), or merge it)
+     * @param captureFailures when true, any failed batches will be captured and retained rather than exceptions being raised (for large amounts of processing this could cause memory issues!)
+     * @param updateOnly when true, only attempt to update existing assets and do not create any assets (note: this will incur a performance penalty)
+     * @param track when false, details about each created and updated asset will no longer be tracked (only an overall count of each) -- useful if you intend to send close to (or more than) 1 million assets through a batch
+     * @param caseInsensitive (only applies when updateOnly is true) when matching assets, search for their qualifiedName in a case-insensitive way
+     * @param creationHandling if assets are to be created, how they should be created (as full assets or only partial assets)
+     * @param tableViewAgnostic if true, tables and views will be treated interchangeably (an asset in the batch marked as a table will attempt to match a view if not found as a table, and vice versa)
+     * @param created off-heap asset cache tracking assets that have been created
+     * @param updated off-heap asset cache tracking assets that have been updated
+     * @param restored off-heap asset cache tracking assets that have been restored
+     * @param skipped off-heap asset cache tracking assets that have been skipped
+     * @param failed off-heap cache tracking batches of assets that have failed
+     * @param pipelineDepth maximum number of full batches to send concurrently, in the background (0 to send each batch synchronously, as it fills)
+     */
+    public AssetBatch(
+            AtlanClient client,
+            int maxSize,
+            AtlanTagHandling atlanTagHandling,
+            CustomMetadataHandling customMetadataHandling,
+            boolean captureFailures,
+            boolean updateOnly,
+            boolean track,
+            boolean caseInsensitive,
+            AssetCreationHandling creationHandling,
+            boolean tableViewAgnostic,
+            OffHeapAssetCache created,
+            OffHeapAssetCache updated,
+            OffHeapAssetCache restored,
+            OffHeapAssetCache skipped,
+            OffHeapFailureCache failed,
+            int pipelineDepth) {
         this.client = client;
         this.maxSize = maxSize;
         this.atlanTagHandling = atlanTagHandling;
@@ -387,6 +514,31 @@ public class AssetBatch implements AtlanCloseable {
         this.restored = restored;
         this.skipped = skipped;
         this.failures = failed;
+        this.pipelineDepth = Math.max(pipelineDepth, 0);
+        this.sender = this.pipelineDepth > 0 ? createSender(this.pipelineDepth) : null;
+    }
+
+    /**
+     * Create the pool through which batches are sent, when pipelining. The pool has a thread per batch that can
+     * be sent concurrently, and a queue that can hold as many batches again awaiting a free thread. Once that
+     * queue is full, anything submitting a further batch blocks until there is space in the queue.
+     *
+     * @param depth maximum number of batches to send concurrently
+     * @return the pool through which to send batches
+     */
+    private static ThreadPoolExecutor createSender(int depth) {
+        return ThreadPools.create("asset-batch-sender", depth, new ArrayBlockingQueue<>(depth), (r, executor) -> {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("Batch has already been closed.");
+            }
+            try {
+                // Backpressure: wait for space in the queue, rather than rejecting the batch
+                executor.getQueue().put(r);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException(e);
+            }
+        });
     }
 
     /**
@@ -394,7 +546,9 @@ public class AssetBatch implements AtlanCloseable {
      *
      * @param single the asset to add to a batch
      * @return the assets that were created or updated in this batch, or null if the batch is still queued
-     * @throws AtlanException on any problems adding the asset to or processing the batch
+     *     (always null when pipelining, as the batch is then sent in the background)
+     * @throws AtlanException on any problems adding the asset to or processing the batch (when pipelining,
+     *     this includes any problem processing a batch that was previously sent in the background)
      */
     public AssetMutationResponse add(Asset single) throws AtlanException {
         if (single != null) {
@@ -460,6 +614,17 @@ public class AssetBatch implements AtlanCloseable {
      */
     @Override
     public void close() {
+        if (sender != null) {
+            // Let any batches still in-flight finish, so they are not tracked into closed caches
+            try {
+                currentPipeline().handle((r, e) -> null).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                // Cannot happen, as the failure has already been handled above
+            }
+            sender.shutdown();
+        }
         AtlanCloseable.close(created);
         AtlanCloseable.close(updated);
         AtlanCloseable.close(restored);
@@ -475,7 +640,14 @@ public class AssetBatch implements AtlanCloseable {
      */
     private AssetMutationResponse process() throws AtlanException {
         // Once we reach our batch size, create them and then start a new batch
-        if (_batch.size() == maxSize) {
+        if (sender != null) {
+            throwPipelineFailure();
+            if (_batch.size() >= maxSize) {
+                CompletableFuture<AssetMutationResponse> unused = submit();
+                throwPipelineFailure();
+            }
+            return null;
+        } else if (_batch.size() == maxSize) {
             return flush();
         } else {
             return null;
@@ -484,25 +656,194 @@ public class AssetBatch implements AtlanCloseable {
 
     /**
      * Flush any remaining assets in the batch.
+     * When pipelining, this also waits for every batch that was previously sent in the background to complete.
      *
      * @return the mutation response from the queued batch of assets that were flushed
-     * @throws AtlanException on any problems flushing (submitting) the batch
+     * @throws AtlanException on any problems flushing (submitting) the batch (or, when pipelining, any batch previously sent in the background)
+     */
+    public AssetMutationResponse flush() throws AtlanException {
+        if (sender == null) {
+            return flushSynchronously();
+        }
+        try {
+            return flushAsync().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.BATCH_SUBMISSION_INTERRUPTED, e);
+        } catch (ExecutionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Flush any remaining assets in the batch, without waiting for them to be saved.
+     * When pipelining, the returned future completes only once this and every batch submitted before it
+     * have been sent and their results tracked, and completes exceptionally with the first failure from any
+     * of those batches. (Without pipelining, the batch is flushed synchronously and the returned future is
+     * already complete.)
+     *
+     * @return a future holding the mutation response from the queued batch of assets that were flushed
+     */
+    public CompletableFuture<AssetMutationResponse> flushAsync() {
+        if (sender == null) {
+            try {
+                return CompletableFuture.completedFuture(flushSynchronously());
+            } catch (AtlanException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        CompletableFuture<AssetMutationResponse> submitted;
+        try {
+            submitted = submit();
+        } catch (AtlanException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return submitted.handle((response, e) -> {
+            // Report (only once) the first failure from this or any earlier batch
+            Throwable failure = pipelineFailure.getAndSet(null);
+            if (failure == null && e != null) {
+                failure = unwrap(e);
+            }
+            if (failure != null) {
+                throw new CompletionException(failure);
+            }
+            return response;
+        });
+    }
+
+    /**
+     * Hand off the assets currently in the batch to be sent in the background, and start a new batch.
+     * Blocks (only) if the queue of batches awaiting sending is already full. Results of each batch are
+     * tracked in the order the batches are submitted, irrespective of the order in which they are sent.
+     *
+     * @return a future that completes once this batch, and every batch submitted before it, has been tracked
+     * @throws AtlanException if interrupted while waiting for space in the queue
      */
-    public synchronized AssetMutationResponse flush() throws AtlanException {
+    private synchronized CompletableFuture<AssetMutationResponse> submit() throws AtlanException {
+        List<Asset> toSend;
+        synchronized (_batch) {
+            toSend = new ArrayList<>(_batch);
+            _batch.clear();
+        }
+        CompletableFuture<AssetMutationResponse> previous = pipeline;
+        CompletableFuture<AssetMutationResponse> next;
+        if (toSend.isEmpty()) {
+            // Any earlier failure has already been captured (to be reported once), so must not be passed on again
+            next = previous.handle((r, e) -> null);
+        } else {
+            CompletableFuture<SentBatch> sent;
+            try {
+                sent = CompletableFuture.supplyAsync(
+                        () -> {
+                            try {
+                                return send(toSend);
+                            } catch (AtlanException e) {
+                                throw new CompletionException(e);
+                            }
+                        },
+                        sender);
+            } catch (RejectedExecutionException e) {
+                throw new ApiException(ErrorCode.BATCH_SUBMISSION_INTERRUPTED, e);
+            }
+            // Only track this batch's results once all earlier batches' results have been tracked,
+            // irrespective of whether those earlier batches succeeded
+            next = previous.handle((r, e) -> null).thenCombine(sent, (ignored, result) -> {
+                trackResponse(result.response, result.revised);
+                return result.response;
+            });
+        }
+        pipeline = next.whenComplete((r, e) -> {
+            if (e != null) {
+                Throwable failure = unwrap(e);
+                if (!pipelineFailure.compareAndSet(null, failure)) {
+                    log.error("Additional failure while sending batch in the background.", failure);
+                }
+            }
+        });
+        return pipeline;
+    }
+
+    private synchronized CompletableFuture<AssetMutationResponse> currentPipeline() {
+        return pipeline;
+    }
+
+    /**
+     * Throw (once) the first failure from any batch sent through the pipeline, if there was one.
+     *
+     * @throws AtlanException the first failure from any batch sent through the pipeline
+     */
+    private void throwPipelineFailure() throws AtlanException {
+        Throwable failure = pipelineFailure.getAndSet(null);
+        if (failure != null) {
+            throw rethrow(failure);
+        }
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        Throwable cause = e;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * Rethrow the underlying failure of a batch sent through the pipeline, as it would have been thrown
+     * had the batch been sent synchronously.
+     *
+     * @param e failure from the pipeline
+     * @return the underlying failure (to be thrown), if it is an AtlanException
+     */
+    private static AtlanException rethrow(Throwable e) {
+        Throwable cause = unwrap(e);
+        if (cause instanceof AtlanException) {
+            return (AtlanException) cause;
+        } else if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new IllegalStateException(cause);
+    }
+
+    private synchronized AssetMutationResponse flushSynchronously() throws AtlanException {
+        List<Asset> toSend;
+        synchronized (_batch) {
+            toSend = new ArrayList<>(_batch);
+        }
+        SentBatch result = send(toSend);
+        // Only remove the assets from the batch once they have been sent, so they are not lost if sending fails
+        // (any assets added while sending come after them, so are retained)
+        synchronized (_batch) {
+            _batch.subList(0, toSend.size()).clear();
+        }
+        trackResponse(result.response, result.revised);
+        return result.response;
+    }
+
+    /**
+     * Send a batch of assets to be saved, without tracking the results.
+     *
+     * @param batch of assets to send
+     * @return the response from sending the batch, and the (revised) assets that were actually sent
+     * @throws AtlanException on any problems sending the batch
+     */
+    private SentBatch send(List<Asset> batch) throws AtlanException {
         AsyncCreationResponse response = null;
         List<Asset> revised = null;
-        if (!_batch.isEmpty()) {
+        if (!batch.isEmpty()) {
             boolean fuzzyMatch = false;
             if (tableViewAgnostic) {
                 Set<String> typesInBatch =
-                        _batch.stream().map(Asset::getTypeName).collect(Collectors.toSet());
+                        batch.stream().map(Asset::getTypeName).collect(Collectors.toSet());
                 typesInBatch.retainAll(TABLE_LEVEL_ASSETS);
                 fuzzyMatch = !typesInBatch.isEmpty();
             }
             if (updateOnly || creationHandling != AssetCreationHandling.FULL || fuzzyMatch) {
                 Map<AssetIdentity, String> found = new HashMap<>();
                 List<String> qualifiedNames =
-                        _batch.stream().map(Asset::getQualifiedName).collect(Collectors.toList());
+                        batch.stream().map(Asset::getQualifiedName).collect(Collectors.toList());
                 FluentSearch.FluentSearchBuilder<?, ?> builder;
                 if (caseInsensitive) {
                     builder = client.assets.select(true).minSomes(1);
@@ -534,7 +875,7 @@ public class AssetBatch implements AtlanCloseable {
                             }
                         });
                 revised = new ArrayList<>();
-                for (Asset asset : _batch) {
+                for (Asset asset : batch) {
                     AssetIdentity assetId =
                             new AssetIdentity(asset.getTypeName(), asset.getQualifiedName(), caseInsensitive);
                     // If found, with a type match, go ahead and update it
@@ -583,7 +924,7 @@ public class AssetBatch implements AtlanCloseable {
                 }
             } else {
                 // Otherwise create it (full)
-                revised = new ArrayList<>(_batch);
+                revised = new ArrayList<>(batch);
             }
             if (!revised.isEmpty()) {
                 try {
@@ -597,16 +938,25 @@ public class AssetBatch implements AtlanCloseable {
                     }
                 } catch (AtlanException e) {
                     if (captureFailures) {
-                        track(failures, _batch, e);
+                        track(failures, batch, e);
                     } else {
                         throw e;
                     }
                 }
             }
-            _batch.clear();
         }
-        trackResponse(response, revised);
-        return response;
+        return new SentBatch(response, revised);
+    }
+
+    /** Results of sending a single batch, which are yet to be tracked. */
+    private static final class SentBatch {
+        private final AsyncCreationResponse response;
+        private final List<Asset> revised;
+
+        private SentBatch(AsyncCreationResponse response, List<Asset> revised) {
+            this.response = response;
+            this.revised = revised;
+        }
     }
 
     private void addFuzzyMatched(Asset asset, String typeName, String actualQN, List<Asset> revised)
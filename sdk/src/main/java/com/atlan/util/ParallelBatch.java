@@ -5,7 +5,9 @@ package com.atlan.util;
 import com.atlan.AtlanClient;
 import com.atlan.cache.OffHeapAssetCache;
 import com.atlan.cache.OffHeapFailureCache;
+import com.atlan.exception.ApiException;
 import com.atlan.exception.AtlanException;
+import com.atlan.exception.ErrorCode;
 import com.atlan.model.assets.Asset;
 import com.atlan.model.core.AssetMutationResponse;
 import com.atlan.model.core.AtlanCloseable;
@@ -13,12 +15,20 @@ import com.atlan.model.enums.AssetCreationHandling;
 import com.atlan.model.enums.AtlanTagHandling;
 import com.atlan.model.enums.CustomMetadataHandling;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Utility class for managing bulk updates across multiple parallel-running batches.
+ * <p>
+ * By default, each thread that adds assets gets its own batch. When created with a {@code concurrency}
+ * greater than zero, there are instead at most that many batches, shared by however many threads add
+ * assets: each add borrows an idle batch (waiting for one if they are all in use) and returns it once
+ * done. This bounds the number of concurrent API calls, independently of both the number of CPU cores and
+ * the number of (possibly short-lived) threads adding assets.
  */
 public class ParallelBatch implements AtlanCloseable {
 
@@ -54,6 +64,12 @@ public class ParallelBatch implements AtlanCloseable {
     /** Whether tables and views should be treated interchangeably (an asset in the batch marked as a table will attempt to match a view if not found as a table, and vice versa). */
     private final boolean tableViewAgnostic;
 
+    /** Maximum number of batches to process concurrently, shared across threads (0 for a batch per thread). */
+    private final int concurrency;
+
+    /** Batches that are not currently in use by any thread, when limiting concurrency. */
+    private final BlockingQueue<AssetBatch> idleBatches = new LinkedBlockingQueue<>();
+
     private final ConcurrentHashMap<Long, AssetBatch> batchMap = new ConcurrentHashMap<>();
     private final Map<String, String> resolvedGuids = new ConcurrentHashMap<>();
     private final Map<AssetBatch.AssetIdentity, String> resolvedQualifiedNames = new ConcurrentHashMap<>();
@@ -244,6 +260,47 @@ public class ParallelBatch implements AtlanCloseable {
             boolean caseSensitive,
             AssetCreationHandling creationHandling,
             boolean tableViewAgnostic) {
+        this(
+                client,
+                maxSize,
+                atlanTagHandling,
+                customMetadataHandling,
+                captureFailures,
+                updateOnly,
+                track,
+                caseSensitive,
+                creationHandling,
+                tableViewAgnostic,
+                0);
+    }
+
+    /**
+     * Create a new batch of assets to be bulk-saved, in parallel (across threads).
+     *
+     * @param client connectivity to Atlan
+     * @param maxSize maximum size of each batch that should be processed (per API call)
+     * @param atlanTagHandling how to handle Atlan tags (ignore them, append them (leaving any pre-existing), replace them (wiping out any pre-existing), or remove them)
+     * @param customMetadataHandling how to handle custom metadata (ignore it, replace it (wiping out anything pre-existing), or merge it)
+     * @param captureFailures when true, any failed batches will be captured and retained rather than exceptions being raised (for large amounts of processing this could cause memory issues!)
+     * @param updateOnly when true, only attempt to update existing assets and do not create any assets (note: this will incur a performance penalty)
+     * @param track when false, details about each created and updated asset will no longer be tracked (only an overall count of each) -- useful if you intend to send close to (or more than) 1 million assets through a batch
+     * @param caseSensitive (only applies when updateOnly is true) attempt to match assets case-sensitively (true) or case-insensitively (false)
+     * @param creationHandling if assets are to be created, how they should be created (as full assets or only partial assets)
+     * @param tableViewAgnostic if true, tables and views will be treated interchangeably (an asset in the batch marked as a table will attempt to match a view if not found as a table, and vice versa)
+     * @param concurrency maximum number of batches to process concurrently, shared by all threads adding assets (0 to instead use a separate batch for each thread)
+     */
+    public ParallelBatch(
+            AtlanClient client,
+            int maxSize,
+            AtlanTagHandling atlanTagHandling,
+            CustomMetadataHandling customMetadataHandling,
+            boolean captureFailures,
+            boolean updateOnly,
+            boolean track,
+            boolean caseSensitive,
+            AssetCreationHandling creationHandling,
+            boolean tableViewAgnostic,
+            int concurrency) {
         this.client = client;
         this.maxSize = maxSize;
         this.atlanTagHandling = atlanTagHandling;
@@ -254,6 +311,7 @@ public class ParallelBatch implements AtlanCloseable {
         this.updateOnly = updateOnly;
         this.caseSensitive = caseSensitive;
         this.tableViewAgnostic = tableViewAgnostic;
+        this.concurrency = Math.max(concurrency, 0);
     }
 
     /**
@@ -264,24 +322,61 @@ public class ParallelBatch implements AtlanCloseable {
      * @throws AtlanException on any problems adding the asset to or processing the batch
      */
     public AssetMutationResponse add(Asset single) throws AtlanException {
+        if (concurrency > 0) {
+            AssetBatch batch = borrowBatch();
+            try {
+                return batch.add(single);
+            } finally {
+                idleBatches.add(batch);
+            }
+        }
         long id = Thread.currentThread().getId();
         // Note: these are thread-specific operations, so not explicitly locked or synchronized
-        AssetBatch batch = batchMap.computeIfAbsent(
-                id,
-                k -> new AssetBatch(
-                        client,
-                        maxSize,
-                        atlanTagHandling,
-                        customMetadataHandling,
-                        captureFailures,
-                        updateOnly,
-                        track,
-                        !caseSensitive,
-                        creationHandling,
-                        tableViewAgnostic));
+        AssetBatch batch = batchMap.computeIfAbsent(id, k -> newBatch());
         return batch.add(single);
     }
 
+    /**
+     * Borrow a batch that is not in use by any other thread, creating one if fewer than the concurrency
+     * limit exist so far, or otherwise waiting for one to be returned.
+     *
+     * @return a batch for the exclusive use of the calling thread, until it is returned
+     * @throws AtlanException if interrupted while waiting for a batch
+     */
+    private AssetBatch borrowBatch() throws AtlanException {
+        AssetBatch batch = idleBatches.poll();
+        if (batch == null) {
+            synchronized (batchMap) {
+                if (batchMap.size() < concurrency) {
+                    batch = newBatch();
+                    batchMap.put((long) batchMap.size(), batch);
+                    return batch;
+                }
+            }
+            try {
+                batch = idleBatches.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ApiException(ErrorCode.BATCH_SUBMISSION_INTERRUPTED, e);
+            }
+        }
+        return batch;
+    }
+
+    private AssetBatch newBatch() {
+        return new AssetBatch(
+                client,
+                maxSize,
+                atlanTagHandling,
+                customMetadataHandling,
+                captureFailures,
+                updateOnly,
+                track,
+                !caseSensitive,
+                creationHandling,
+                tableViewAgnostic);
+    }
+
     /**
      * Flush any remaining assets in the parallel batches.
      *
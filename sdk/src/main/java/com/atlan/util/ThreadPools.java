@@ -0,0 +1,83 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.util;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Utilities for creating the thread pools used to run blocking I/O (API calls) concurrently.
+ * Unlike the common fork-join pool, whose parallelism is tied to the number of CPU cores, these pools
+ * are sized by an explicit concurrency limit -- since the threads spend nearly all of their time
+ * waiting on the network, rather than using CPU.
+ */
+public final class ThreadPools {
+
+    /** How long an idle thread is kept around before being released. */
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private ThreadPools() {}
+
+    /**
+     * Create a pool that runs at most the specified number of tasks concurrently, queueing any others.
+     * Threads are only created as they are needed, and released again when idle.
+     *
+     * @param name prefix for the names of the pool's threads
+     * @param concurrency maximum number of tasks to run concurrently
+     * @return the pool
+     */
+    public static ThreadPoolExecutor fixed(String name, int concurrency) {
+        return create(name, concurrency, new LinkedBlockingQueue<>(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Create a pool that runs at most the specified number of tasks concurrently, with the provided
+     * queue and handling for tasks that cannot be queued.
+     * Threads are only created as they are needed, and released again when idle.
+     *
+     * @param name prefix for the names of the pool's threads
+     * @param concurrency maximum number of tasks to run concurrently
+     * @param queue in which to hold tasks awaiting a thread
+     * @param rejectionHandler for any task that cannot be accepted by the queue
+     * @return the pool
+     */
+    public static ThreadPoolExecutor create(
+            String name,
+            int concurrency,
+            BlockingQueue<Runnable> queue,
+            RejectedExecutionHandler rejectionHandler) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1, but was: " + concurrency);
+        }
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                concurrency,
+                concurrency,
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                queue,
+                daemonThreads(name),
+                rejectionHandler);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Create a factory for uniquely-named daemon threads, so that they never prevent the JVM from exiting.
+     *
+     * @param name prefix for the names of the threads
+     * @return the thread factory
+     */
+    public static ThreadFactory daemonThreads(String name) {
+        AtomicInteger count = new AtomicInteger(0);
+        return r -> {
+            Thread t = new Thread(r, name + "-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,101 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.cache;
+
+import static org.testng.Assert.*;
+
+import com.atlan.mock.MockAtlanTenant;
+import com.atlan.mock.MockTenant;
+import com.atlan.model.assets.Asset;
+import com.atlan.model.assets.Table;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the size tracking and iteration of off-heap caches.
+ */
+public class OffHeapAssetCacheTest {
+
+    @BeforeClass
+    void init() throws InterruptedException {
+        MockAtlanTenant.initializeClient();
+    }
+
+    private static Asset table(int idx) {
+        return Table._internal()
+                .guid("guid-" + idx)
+                .qualifiedName("default/off-heap-test/t" + idx)
+                .name("t" + idx)
+                .build();
+    }
+
+    @Test
+    void sizeTracksPutsOverwritesAndRemoves() {
+        try (OffHeapAssetCache cache = new OffHeapAssetCache(MockTenant.client, "size-test")) {
+            assertTrue(cache.isEmpty());
+            cache.add(table(1));
+            cache.add(table(2));
+            cache.add(table(1));
+            assertEquals(cache.size(), 2);
+            cache.remove("guid-1");
+            cache.remove("guid-missing");
+            assertEquals(cache.size(), 1);
+            assertTrue(cache.isNotEmpty());
+            assertTrue(cache.estimateSize() >= 0);
+        }
+    }
+
+    @Test
+    void sizeTracksBulkAdds() {
+        try (OffHeapAssetCache cache = new OffHeapAssetCache(MockTenant.client, "bulk-size-test");
+                OffHeapAssetCache other = new OffHeapAssetCache(MockTenant.client, "bulk-size-other")) {
+            cache.add(table(1));
+            cache.add(table(2));
+            other.add(table(2));
+            other.add(table(3));
+            other.add(table(4));
+            cache.extendedWith(other, false);
+            assertEquals(cache.size(), 4);
+            assertEquals(cache.size(), cache.entrySet().count());
+        }
+    }
+
+    @Test
+    void keysStreamWithoutValues() {
+        try (OffHeapAssetCache cache = new OffHeapAssetCache(MockTenant.client, "keys-test")) {
+            for (int i = 0; i < 10; i++) {
+                cache.add(table(i));
+            }
+            try (Stream<String> keys = cache.keys()) {
+                assertEquals(keys.collect(Collectors.toSet()).size(), 10);
+            }
+            try (Stream<Map.Entry<String, Asset>> entries = cache.entrySet()) {
+                Map.Entry<String, Asset> first = entries.findFirst().orElseThrow();
+                assertEquals(first.getValue().getGuid(), first.getKey());
+            }
+        }
+    }
+
+    @Test
+    void parallelKeysCoverEveryEntryOnce() {
+        try (OffHeapAssetCache cache = new OffHeapAssetCache(MockTenant.client, "parallel-keys-test")) {
+            for (int i = 0; i < 1000; i++) {
+                cache.add(table(i));
+            }
+            try (Stream<String> keys = cache.keys(true)) {
+                List<String> all = keys.collect(Collectors.toList());
+                assertEquals(all.size(), 1000);
+                Set<String> unique = Set.copyOf(all);
+                assertEquals(unique.size(), 1000);
+            }
+            try (Stream<Map.Entry<String, Asset>> entries = cache.entrySet(true)) {
+                assertEquals(entries.filter(e -> e.getKey().equals(e.getValue().getGuid())).count(), 1000);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.cache;
+
+import static org.testng.Assert.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the tuning options of off-heap caches.
+ */
+public class OffHeapCacheOptionsTest {
+
+    /** Minimal cache of strings, to exercise the storage directly. */
+    private static final class StringCache extends AbstractOffHeapCache<String, String> {
+        StringCache(String name, OffHeapCacheOptions tuning) {
+            super(name, tuning);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected byte[] serializeKey(String key) {
+            return key.getBytes(StandardCharsets.UTF_8);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected String deserializeKey(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected byte[] serializeValue(String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected String deserializeValue(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    @DataProvider
+    Object[][] tunings() {
+        return new Object[][] {
+            {OffHeapCacheOptions.builder().build()},
+            {OffHeapCacheOptions.builder().writeAheadLog(true).build()},
+            {OffHeapCacheOptions.builder().bloomFilterBitsPerKey(0).build()},
+            {OffHeapCacheOptions.builder().compression(OffHeapCacheOptions.Compression.NONE).build()},
+            {OffHeapCacheOptions.builder().compression(OffHeapCacheOptions.Compression.ZSTD).build()},
+            {OffHeapCacheOptions.builder().writeBufferSize(64L * 1024).build()},
+        };
+    }
+
+    @Test(dataProvider = "tunings")
+    void storesAndRetrievesWithTuning(OffHeapCacheOptions tuning) {
+        try (StringCache cache = new StringCache("tuning-test", tuning)) {
+            for (int i = 0; i < 1000; i++) {
+                cache.put("key-" + i, "value-" + i);
+            }
+            cache.remove("key-0");
+            assertEquals(cache.size(), 999);
+            assertEquals(cache.get("key-999"), "value-999");
+            assertTrue(cache.containsKey("key-1"));
+            assertFalse(cache.containsKey("key-0"));
+            assertFalse(cache.containsKey("key-missing"));
+        }
+    }
+
+    @Test
+    void writeAheadLogOnlyWhenEnabled() throws IOException {
+        try (StringCache noLog = new StringCache("no-wal-test", OffHeapCacheOptions.getDefault());
+                StringCache withLog = new StringCache(
+                        "wal-test",
+                        OffHeapCacheOptions.getDefault().toBuilder()
+                                .writeAheadLog(true)
+                                .build())) {
+            for (int i = 0; i < 100; i++) {
+                noLog.put("key-" + i, "value-" + i);
+                withLog.put("key-" + i, "value-" + i);
+            }
+            assertEquals(getLogSize(noLog.getBackingStore()), 0);
+            assertTrue(getLogSize(withLog.getBackingStore()) > 0);
+        }
+    }
+
+    @Test
+    void defaultCanBeReplacedAndReset() {
+        OffHeapCacheOptions original = OffHeapCacheOptions.getDefault();
+        try {
+            OffHeapCacheOptions tuned = OffHeapCacheOptions.builder()
+                    .compression(OffHeapCacheOptions.Compression.ZSTD)
+                    .build();
+            OffHeapCacheOptions.setDefault(tuned);
+            assertSame(OffHeapCacheOptions.getDefault(), tuned);
+            OffHeapCacheOptions.setDefault(null);
+            assertEquals(OffHeapCacheOptions.getDefault(), OffHeapCacheOptions.builder().build());
+            assertFalse(OffHeapCacheOptions.getDefault().isWriteAheadLog());
+            assertEquals(OffHeapCacheOptions.getDefault().getCompression(), OffHeapCacheOptions.Compression.LZ4);
+        } finally {
+            OffHeapCacheOptions.setDefault(original);
+        }
+    }
+
+    private static long getLogSize(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(f -> f.toString().endsWith(".log"))
+                    .mapToLong(f -> f.toFile().length())
+                    .sum();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.cache;
+
+import static org.testng.Assert.*;
+
+import com.atlan.exception.AtlanException;
+import com.atlan.mock.MockAtlanTenant;
+import com.atlan.mock.MockTenant;
+import com.atlan.model.assets.Asset;
+import com.atlan.model.assets.Table;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the persistent (across runs) index of asset identities.
+ */
+public class PersistentIdentityIndexTest {
+
+    @BeforeClass
+    void init() throws InterruptedException {
+        MockAtlanTenant.initializeClient();
+    }
+
+    @Test
+    void entriesSurviveReopening() throws IOException {
+        Path directory = Files.createTempDirectory("persistent_index_test_");
+        try (PersistentIdentityIndex index = new PersistentIdentityIndex("test", directory)) {
+            index.put("default/a", new PersistentIdentityIndex.Entry("guid-a", 123L));
+            index.put("default/b", new PersistentIdentityIndex.Entry("guid-b", 456L));
+            index.remove("default/b");
+        }
+        try (PersistentIdentityIndex index = new PersistentIdentityIndex("test", directory)) {
+            assertEquals(index.get("default/a"), new PersistentIdentityIndex.Entry("guid-a", 123L));
+            assertEquals(index.getGuid("default/a"), "guid-a");
+            assertNull(index.getGuid("default/b"));
+            assertEquals(index.getLastSync(), 0L);
+        }
+    }
+
+    @Test
+    void refreshTracksChangesAndLastSync() throws AtlanException, IOException {
+        Path directory = Files.createTempDirectory("persistent_index_test_");
+        try (PersistentIdentityIndex index = new PersistentIdentityIndex("test", directory)) {
+            index.put("default/persistent-index-test/t2", new PersistentIdentityIndex.Entry("index-guid-2", 1L));
+            long processed = index.refresh(
+                    Table.select(MockTenant.client, true)
+                            .where(Asset.QUALIFIED_NAME.startsWith("default/persistent-index-test")),
+                    Asset::getQualifiedName);
+            assertEquals(processed, 2);
+            assertEquals(index.getGuid("default/persistent-index-test/t1"), "index-guid-1");
+            // Archived assets are removed from the index
+            assertNull(index.getGuid("default/persistent-index-test/t2"));
+            assertEquals(index.getLastSync(), 1700000005000L);
+        }
+        try (PersistentIdentityIndex index = new PersistentIdentityIndex("test", directory)) {
+            assertEquals(index.getLastSync(), 1700000005000L);
+        }
+    }
+
+    @Test
+    void refreshRescansOverlapWindow() throws AtlanException, IOException {
+        Path directory = Files.createTempDirectory("persistent_index_test_");
+        try (PersistentIdentityIndex index = new PersistentIdentityIndex("test", directory)) {
+            index.refresh(
+                    Table.select(MockTenant.client, true)
+                            .where(Asset.QUALIFIED_NAME.startsWith("default/persistent-index-test")),
+                    Asset::getQualifiedName);
+            assertEquals(index.getLastSync(), 1700000005000L);
+            // An asset only indexed after the previous refresh, with an update time before the last sync
+            long processed = index.refresh(
+                    Table.select(MockTenant.client, true)
+                            .where(Asset.QUALIFIED_NAME.startsWith("default/persistent-index-test")),
+                    Asset::getQualifiedName);
+            assertEquals(processed, 2);
+            assertEquals(index.getGuid("default/persistent-index-test/t1"), "index-guid-1");
+            assertEquals(index.getGuid("default/persistent-index-test/t3"), "index-guid-3");
+            // The last sync never moves backwards
+            assertEquals(index.getLastSync(), 1700000005000L);
+        }
+    }
+}
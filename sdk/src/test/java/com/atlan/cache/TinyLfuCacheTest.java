@@ -0,0 +1,102 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.cache;
+
+import static org.testng.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the bounded, in-heap W-TinyLFU cache.
+ */
+public class TinyLfuCacheTest {
+
+    @Test
+    void boundedWithEvictionsSpilled() {
+        Map<Integer, String> spilled = new HashMap<>();
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>(100, spilled::put);
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, "v" + i);
+        }
+        assertTrue(cache.size() <= 100);
+        assertEquals(cache.getEvictions(), 1000 - cache.size());
+        assertEquals(spilled.size(), 1000 - cache.size());
+        // Every entry is either still in the cache or was spilled, never lost
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(cache.containsKey(i) || spilled.containsKey(i));
+        }
+    }
+
+    @Test
+    void frequentEntriesAreRetained() {
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>(100, null);
+        for (int i = 0; i < 50; i++) {
+            cache.put(i, "hot" + i);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                assertEquals(cache.get(i), "hot" + i);
+            }
+        }
+        // A scan of many entries that are only used once should not flush out the frequently-used entries
+        for (int i = 1000; i < 1500; i++) {
+            cache.put(i, "cold" + i);
+        }
+        for (int i = 0; i < 50; i++) {
+            assertEquals(cache.get(i), "hot" + i);
+        }
+        assertTrue(cache.getHits() >= 300);
+        assertNull(cache.get(-1));
+        assertEquals(cache.getMisses(), 1);
+    }
+
+    @Test
+    void removeAndClear() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(10, null);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        assertEquals(cache.remove("a"), "1");
+        assertFalse(cache.containsKey("a"));
+        cache.clear();
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    void evictionListenerRunsOutsideLock() throws Exception {
+        CountDownLatch evicting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<>(2, (k, v) -> {
+            evicting.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < 10; i++) {
+                    cache.put(i, "v" + i);
+                }
+            });
+            assertTrue(evicting.await(5, TimeUnit.SECONDS));
+            // While the listener is still busy with an evicted entry, other threads can still use the cache
+            Future<Integer> reader = executor.submit(() -> cache.size());
+            assertTrue(reader.get(5, TimeUnit.SECONDS) > 0);
+            release.countDown();
+            writer.get(5, TimeUnit.SECONDS);
+            assertEquals(cache.getEvictions(), 10 - cache.size());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
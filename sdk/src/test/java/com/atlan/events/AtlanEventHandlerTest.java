@@ -0,0 +1,93 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.events;
+
+import static org.testng.Assert.*;
+
+import com.atlan.AtlanClient;
+import com.atlan.exception.AtlanException;
+import com.atlan.mock.MockAtlanTenant;
+import com.atlan.mock.MockTenant;
+import com.atlan.model.assets.Asset;
+import com.atlan.model.assets.Table;
+import com.atlan.model.events.AtlanEvent;
+import com.atlan.model.events.AtlanTagAddPayload;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the batched processing of events through an {@link AtlanEventHandler}.
+ */
+public class AtlanEventHandlerTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AtlanEventHandlerTest.class);
+
+    /** Handler that (re-)sets the description on every asset, tracking the assets whose changes it calculated. */
+    private static final class DescribingHandler implements AtlanEventHandler {
+        private final List<String> calculated = new ArrayList<>();
+
+        @Override
+        public AtlanClient getClient() {
+            return MockTenant.client;
+        }
+
+        @Override
+        public Collection<Asset> calculateChanges(Asset asset, Logger log) throws AtlanException {
+            calculated.add(asset.getGuid());
+            return List.of(asset.trimToRequired().description("Described.").build());
+        }
+    }
+
+    @BeforeClass
+    void init() throws InterruptedException {
+        MockAtlanTenant.initializeClient();
+    }
+
+    private static AtlanEvent event(int idx) {
+        return AtlanEvent.builder()
+                .payload(AtlanTagAddPayload.builder()
+                        .asset(Table._internal()
+                                .guid("event-batch-guid-" + idx)
+                                .qualifiedName("default/event-batch-test/t" + idx)
+                                .build())
+                        .build())
+                .build();
+    }
+
+    @Test
+    void currentStatesAreRetrievedTogether() throws AtlanException {
+        Map<String, Asset> current = new DescribingHandler()
+                .getCurrentStates(
+                        MockTenant.client,
+                        List.of(
+                                event(1).getPayload().getAsset(),
+                                event(2).getPayload().getAsset(),
+                                event(3).getPayload().getAsset()),
+                        log);
+        assertEquals(current.keySet(), Set.of("event-batch-guid-1", "event-batch-guid-2"));
+        assertEquals(current.get("event-batch-guid-1").getName(), "t1");
+    }
+
+    @Test
+    void eventsAreDeduplicatedAndSavedTogether() throws AtlanException {
+        DescribingHandler handler = new DescribingHandler();
+        // Asset 3 no longer exists, and asset 1 appears in multiple events
+        int changed = handler.processEvents(List.of(event(1), event(2), event(1), event(3)), log);
+        assertEquals(changed, 2);
+        assertEquals(handler.calculated, List.of("event-batch-guid-1", "event-batch-guid-2"));
+    }
+
+    @Test
+    void invalidEventsAreSkipped() throws AtlanException {
+        DescribingHandler handler = new DescribingHandler();
+        assertEquals(handler.processEvents(List.of(AtlanEvent.builder().build()), log), 0);
+        assertTrue(handler.calculated.isEmpty());
+    }
+}
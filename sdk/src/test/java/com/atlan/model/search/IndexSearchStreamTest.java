@@ -0,0 +1,77 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.model.search;
+
+import static org.testng.Assert.*;
+
+import com.atlan.exception.AtlanException;
+import com.atlan.mock.MockAtlanTenant;
+import com.atlan.mock.MockTenant;
+import com.atlan.model.assets.Asset;
+import com.atlan.model.assets.Column;
+import com.atlan.model.assets.Table;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the incremental deserialization of search results by {@link IndexSearchStream},
+ * and the concurrent retrieval of pages of search results.
+ */
+public class IndexSearchStreamTest {
+
+    @BeforeClass
+    void init() throws InterruptedException {
+        MockAtlanTenant.initializeClient();
+    }
+
+    private static FluentSearch search() {
+        return FluentSearch.builder(MockTenant.client)
+                .where(Asset.QUALIFIED_NAME.startsWith("default/incremental-stream-test"))
+                .pageSize(2)
+                .incremental(true)
+                .build();
+    }
+
+    @Test
+    void streamAcrossPages() throws AtlanException {
+        List<Asset> results;
+        try (Stream<Asset> stream = search().stream()) {
+            results = stream.collect(Collectors.toList());
+        }
+        assertEquals(results.size(), 3);
+        assertEquals(
+                results.stream().map(Asset::getGuid).collect(Collectors.toList()),
+                List.of("guid-1", "guid-2", "guid-3"));
+        assertTrue(results.get(0) instanceof Table);
+        assertTrue(results.get(1) instanceof Column);
+        assertEquals(results.get(2).getQualifiedName(), "default/incremental-stream-test/t2");
+    }
+
+    @Test
+    void streamPagesConcurrently() throws AtlanException {
+        List<Asset> results;
+        try (Stream<Asset> stream = FluentSearch.builder(MockTenant.client)
+                .where(Asset.QUALIFIED_NAME.startsWith("default/concurrent-page-test"))
+                .pageSize(2)
+                .build()
+                .prefetchingStream(3)) {
+            results = stream.collect(Collectors.toList());
+        }
+        // Pages are retrieved concurrently, but results must still be in their original order
+        assertEquals(
+                results.stream().map(Asset::getGuid).collect(Collectors.toList()),
+                List.of("guid-1", "guid-2", "guid-3", "guid-4", "guid-5"));
+    }
+
+    @Test
+    void closeBeforeFullyConsumed() throws AtlanException {
+        IndexSearchStream iterator = new IndexSearchStream(MockTenant.client, search().toRequest(), null);
+        assertTrue(iterator.hasNext());
+        assertEquals(iterator.next().getGuid(), "guid-1");
+        iterator.close();
+        assertFalse(iterator.hasNext());
+    }
+}
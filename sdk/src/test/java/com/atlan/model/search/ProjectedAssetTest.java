@@ -0,0 +1,104 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.model.search;
+
+import static org.testng.Assert.*;
+
+import com.atlan.exception.AtlanException;
+import com.atlan.mock.MockAtlanTenant;
+import com.atlan.mock.MockTenant;
+import com.atlan.model.assets.Asset;
+import com.atlan.model.assets.Column;
+import com.atlan.model.assets.Schema;
+import com.atlan.model.assets.Table;
+import com.atlan.model.enums.CertificateStatus;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the compact views of search results read by {@link ProjectedSearchStream}.
+ */
+public class ProjectedAssetTest {
+
+    @BeforeClass
+    void init() throws InterruptedException {
+        MockAtlanTenant.initializeClient();
+    }
+
+    private static List<ProjectedAsset> search() throws AtlanException {
+        try (Stream<ProjectedAsset> stream = FluentSearch.builder(MockTenant.client)
+                .where(Asset.QUALIFIED_NAME.startsWith("default/projected-search-test"))
+                .pageSize(5)
+                .includeOnResults(Asset.DESCRIPTION)
+                .includeOnResults(Asset.CERTIFICATE_STATUS)
+                .includeOnResults(Asset.OWNER_USERS)
+                .includeOnResults(Asset.UPDATE_TIME)
+                .includeOnResults(Table.COLUMN_COUNT)
+                .includeOnResults(Table.IS_PARTITIONED)
+                .includeOnResults(Table.SCHEMA)
+                .streamProjected()) {
+            return stream.collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    void typedAccessors() throws AtlanException {
+        List<ProjectedAsset> results = search();
+        assertEquals(results.size(), 2);
+        ProjectedAsset table = results.get(0);
+        assertEquals(table.getTypeName(), "Table");
+        assertEquals(table.getGuid(), "guid-1");
+        assertEquals(table.getQualifiedName(), "default/projected-search-test/t1");
+        assertEquals(table.getName(), "t1");
+        assertEquals(table.getString(Asset.DESCRIPTION), "Some table.");
+        assertEquals(table.getLong(Table.COLUMN_COUNT), Long.valueOf(12));
+        assertEquals(table.getLong(Asset.UPDATE_TIME), Long.valueOf(1700000000000L));
+        assertEquals(table.getBoolean(Table.IS_PARTITIONED), Boolean.TRUE);
+        assertEquals(table.getStrings(Asset.OWNER_USERS), List.of("jdoe", "jsmith"));
+        assertEquals(table.getValue(Asset.CERTIFICATE_STATUS, CertificateStatus.class), CertificateStatus.VERIFIED);
+        Asset schema = table.getValue(Table.SCHEMA, Asset.class);
+        assertTrue(schema instanceof Schema);
+        assertEquals(schema.getGuid(), "guid-schema");
+    }
+
+    @Test
+    void missingValues() throws AtlanException {
+        ProjectedAsset column = search().get(1);
+        assertEquals(column.getTypeName(), "Column");
+        assertNull(column.getString(Asset.DESCRIPTION));
+        assertNull(column.getLong(Table.COLUMN_COUNT));
+        assertNull(column.getStrings(Asset.OWNER_USERS));
+        assertTrue(column.isIncluded(Asset.DESCRIPTION));
+        assertFalse(column.isIncluded(Asset.USER_DESCRIPTION));
+        assertThrows(IllegalArgumentException.class, () -> column.getString(Asset.USER_DESCRIPTION));
+    }
+
+    @Test
+    void sharedProjection() throws AtlanException {
+        List<ProjectedAsset> results = search();
+        assertSame(results.get(0).getProjection(), results.get(1).getProjection());
+        // GUID, qualifiedName and name are always held, along with each of the requested fields
+        assertEquals(results.get(0).getProjection().size(), 10);
+    }
+
+    @Test
+    void inflateToBuilder() throws AtlanException {
+        List<ProjectedAsset> results = search();
+        Asset table = results.get(0).toAsset();
+        assertTrue(table instanceof Table);
+        assertEquals(table.getGuid(), "guid-1");
+        assertEquals(table.getQualifiedName(), "default/projected-search-test/t1");
+        assertEquals(table.getDescription(), "Some table.");
+        assertEquals(table.getCertificateStatus(), CertificateStatus.VERIFIED);
+        assertEquals(table.getUpdateTime(), Long.valueOf(1700000000000L));
+        assertEquals(((Table) table).getColumnCount(), Long.valueOf(12));
+        assertEquals(((Table) table).getSchema().getGuid(), "guid-schema");
+        Asset changed = results.get(1).toBuilder().description("Now described.").build();
+        assertTrue(changed instanceof Column);
+        assertEquals(changed.getQualifiedName(), "default/projected-search-test/t1/c1");
+        assertEquals(changed.getDescription(), "Now described.");
+    }
+}
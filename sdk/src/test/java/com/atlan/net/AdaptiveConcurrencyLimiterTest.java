@@ -0,0 +1,119 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.net;
+
+import static org.testng.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the {@link AdaptiveConcurrencyLimiter} and the staggered resumption of the {@link GlobalRateLimiter}.
+ */
+public class AdaptiveConcurrencyLimiterTest {
+
+    private final AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.getInstance();
+
+    @AfterMethod
+    void reset() {
+        limiter.configure(
+                AdaptiveConcurrencyLimiter.DEFAULT_INITIAL_LIMIT, 1, AdaptiveConcurrencyLimiter.DEFAULT_MAX_LIMIT);
+    }
+
+    @Test
+    void throttlingHalvesLimitOnce() throws InterruptedException {
+        limiter.configure(8, 1, 16);
+        limiter.acquire();
+        limiter.acquire();
+        assertEquals(limiter.getInFlight(), 2);
+        limiter.release(null, 10, true);
+        // A burst of throttling must only reduce the limit once
+        limiter.release(null, 10, true);
+        assertEquals(limiter.getInFlight(), 0);
+        assertEquals(limiter.getLimit(), 4);
+    }
+
+    @Test
+    void healthyLatencyGrowsLimit() throws InterruptedException {
+        limiter.configure(2, 1, 4);
+        for (int i = 0; i < 2 * AdaptiveConcurrencyLimiter.WARMUP_SAMPLES; i++) {
+            limiter.acquire();
+            limiter.release(20L, 25, false);
+        }
+        assertEquals(limiter.getLimit(), 4);
+    }
+
+    @Test
+    void risingLatencyShrinksLimit() throws InterruptedException {
+        limiter.configure(16, 2, 16);
+        for (int i = 0; i < AdaptiveConcurrencyLimiter.WARMUP_SAMPLES; i++) {
+            limiter.acquire();
+            limiter.release(10L, 15, false);
+        }
+        for (int i = 0; i < 60; i++) {
+            limiter.acquire();
+            // Upstream latency (not elapsed) is used when available
+            limiter.release(100L, 15, false);
+        }
+        assertEquals(limiter.getLimit(), 2);
+    }
+
+    @Test
+    void mixedLatencyDoesNotCollapseLimit() throws InterruptedException {
+        limiter.configure(16, 1, 128);
+        int lowest = Integer.MAX_VALUE;
+        for (int i = 0; i < 3 * AdaptiveConcurrencyLimiter.BASELINE_WINDOW; i++) {
+            limiter.acquire();
+            // Cheap and expensive requests interleaved, at a steady overall latency
+            limiter.release(i % 2 == 0 ? 10L : 200L, 15, false);
+            lowest = Math.min(lowest, limiter.getLimit());
+        }
+        assertTrue(lowest >= 16, "Limit should never drop below its starting point, but reached: " + lowest);
+        assertTrue(limiter.getLimit() > 16, "Limit should grow under steady latency, but was: " + limiter.getLimit());
+    }
+
+    @Test
+    void failuresDoNotAdaptLimit() throws InterruptedException {
+        limiter.configure(8, 1, 16);
+        for (int i = 0; i < 2 * AdaptiveConcurrencyLimiter.WARMUP_SAMPLES; i++) {
+            limiter.acquire();
+            limiter.release();
+        }
+        assertEquals(limiter.getInFlight(), 0);
+        assertEquals(limiter.getLimit(), 8);
+    }
+
+    @Test
+    void rateLimitResumesStaggered() throws InterruptedException {
+        GlobalRateLimiter rateLimiter = GlobalRateLimiter.getInstance();
+        List<Long> resumed = Collections.synchronizedList(new ArrayList<>());
+        long start = System.currentTimeMillis();
+        rateLimiter.setRateLimit(100);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread t = new Thread(() -> {
+                try {
+                    rateLimiter.waitIfRateLimited();
+                    resumed.add(System.currentTimeMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertEquals(resumed.size(), 4);
+        long first = Collections.min(resumed);
+        long last = Collections.max(resumed);
+        assertTrue(first - start >= 100, "No thread should resume before the rate limit has passed.");
+        assertTrue(
+                last - first >= 2 * GlobalRateLimiter.STAGGER_MILLIS,
+                "Threads should be released in a staggered way, not all at once.");
+    }
+}
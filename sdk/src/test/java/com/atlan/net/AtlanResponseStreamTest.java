@@ -0,0 +1,97 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.net;
+
+import static org.testng.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the decompression of responses by {@link AtlanResponseStream}.
+ */
+public class AtlanResponseStreamTest {
+
+    private static final String JSON = "{\"approximateCount\":1,\"entities\":[{\"typeName\":\"Table\",\"guid\":\"abc\"}]}";
+
+    private static HttpHeaders encoded(String encoding) {
+        return HttpHeaders.of(Map.of("Content-Encoding", List.of(encoding)));
+    }
+
+    @Test
+    void testGzipResponseDecompressed() throws IOException {
+        HttpContent compressed = HttpContent.buildJSONEncodedContent(JSON).gzip();
+        assertEquals(compressed.contentEncoding(), "gzip");
+        AtlanResponseStream stream = new AtlanResponseStream(
+                200, encoded("gzip"), new ByteArrayInputStream(compressed.byteArrayContent()));
+        assertEquals(stream.unstream().body(), JSON);
+    }
+
+    @Test
+    void testDeflateResponseDecompressed() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(baos)) {
+            deflate.write(JSON.getBytes(ApiResource.CHARSET));
+        }
+        AtlanResponseStream stream =
+                new AtlanResponseStream(200, encoded("deflate"), new ByteArrayInputStream(baos.toByteArray()));
+        assertEquals(stream.unstream().body(), JSON);
+    }
+
+    @Test
+    void testEmptyEncodedResponse() throws IOException {
+        AtlanResponseStream stream =
+                new AtlanResponseStream(401, encoded("gzip"), new ByteArrayInputStream(new byte[0]));
+        assertEquals(stream.unstream().body(), "");
+    }
+
+    @Test
+    void testUnencodedResponseUntouched() throws IOException {
+        AtlanResponseStream stream = new AtlanResponseStream(
+                200, HttpHeaders.of(Map.of()), new ByteArrayInputStream(JSON.getBytes(ApiResource.CHARSET)));
+        assertEquals(stream.unstream().body(), JSON);
+    }
+
+    @Test
+    void testDefaultStreamingBuffersPlainText() throws Exception {
+        AtlanResponseGetter getter = (AtlanResponseGetter) Proxy.newProxyInstance(
+                AtlanResponseGetter.class.getClassLoader(),
+                new Class<?>[] {AtlanResponseGetter.class},
+                (proxy, method, args) -> {
+                    if (method.isDefault()) {
+                        return InvocationHandler.invokeDefault(proxy, method, args);
+                    } else if (method.getName().equals("requestPlainText")) {
+                        return JSON;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        AtlanResponseStream stream = getter.requestStreaming(
+                null,
+                ApiResource.RequestMethod.POST,
+                "https://tenant.atlan.com/api/meta/search/indexsearch",
+                "{}",
+                null,
+                "id");
+        assertEquals(stream.code(), 200);
+        assertEquals(stream.unstream().body(), JSON);
+    }
+
+    @Test
+    void testGzipRequestContent() throws IOException {
+        HttpContent plain = HttpContent.buildJSONEncodedContent(JSON);
+        HttpContent compressed = plain.gzip();
+        assertEquals(compressed.contentType(), plain.contentType());
+        assertSame(compressed.gzip(), compressed);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed.byteArrayContent()))) {
+            assertEquals(new String(gzip.readAllBytes(), ApiResource.CHARSET), JSON);
+        }
+    }
+}
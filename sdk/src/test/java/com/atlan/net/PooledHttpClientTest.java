@@ -0,0 +1,61 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.net;
+
+import static org.testng.Assert.*;
+
+import com.atlan.exception.AtlanException;
+import com.atlan.mock.MockAtlanTenant;
+import com.atlan.mock.MockTenant;
+import java.io.IOException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for {@link PooledHttpClient}.
+ */
+public class PooledHttpClientTest {
+
+    @BeforeClass
+    void init() throws InterruptedException {
+        MockAtlanTenant.initializeClient();
+    }
+
+    private static AtlanRequest buildRequest() throws AtlanException {
+        return new AtlanRequest(
+                MockTenant.client,
+                ApiResource.RequestMethod.GET,
+                MockTenant.client.getBaseUrl() + "/api/meta/test/oauth-401-no-body",
+                (String) null,
+                null,
+                "test-request-id");
+    }
+
+    /**
+     * A 401 response with no body must be returned with its code intact (rather than as an exception),
+     * so that the retry logic can trigger a token refresh -- same as for the {@link HttpURLConnectionClient}.
+     */
+    @Test
+    void testOAuth401WithNoBodyReturnsResponseCode() throws AtlanException, IOException {
+        PooledHttpClient httpClient = new PooledHttpClient(2);
+        AtlanResponseStream response = httpClient.requestStream(buildRequest());
+        assertNotNull(response, "Response stream must not be null for a 401 with no body");
+        assertEquals(response.code(), 401, "Response code must be 401 so retry logic can trigger OAuth refresh");
+        response.body().close();
+    }
+
+    @Test
+    void testInFlightPermitReleasedOnceBodyConsumed() throws AtlanException, IOException {
+        PooledHttpClient httpClient = new PooledHttpClient(1);
+        AtlanResponseStream first = httpClient.requestStream(buildRequest());
+        assertEquals(httpClient.getNumInFlight(), 1);
+        first.body().close();
+        // Closing more than once must not release more permits than were acquired
+        first.body().close();
+        assertEquals(httpClient.getNumInFlight(), 0);
+        // With only a single permit, a second request can only succeed if the first was released
+        AtlanResponse second = httpClient.request(buildRequest());
+        assertEquals(second.code(), 401);
+        assertEquals(httpClient.getNumInFlight(), 0);
+    }
+}
@@ -0,0 +1,56 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.net;
+
+import static org.testng.Assert.*;
+
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the per-endpoint {@link RequestMetricsRegistry} and its {@link LatencyHistogram}s.
+ */
+public class RequestMetricsRegistryTest {
+
+    @Test
+    void pathTemplates() {
+        assertEquals(RequestMetricsRegistry.toPathTemplate("/api/meta/entity/bulk"), "/api/meta/entity/bulk");
+        assertEquals(
+                RequestMetricsRegistry.toPathTemplate("/api/meta/entity/guid/b4113341-251b-4adc-81fb-2420501c30e6"),
+                "/api/meta/entity/guid/{guid}");
+        assertEquals(
+                RequestMetricsRegistry.toPathTemplate(
+                        "/api/meta/entity/uniqueAttribute/type/Table/default%2Fsnowflake%2F1234"),
+                "/api/meta/entity/uniqueAttribute/type/Table/{id}");
+        assertEquals(RequestMetricsRegistry.toPathTemplate("/api/service/requests/12345"), "/api/service/requests/{id}");
+        assertEquals(RequestMetricsRegistry.toPathTemplate(""), "/");
+    }
+
+    @Test
+    void histogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(histogram.getPercentile(0.5), 0);
+        for (int i = 0; i < 90; i++) {
+            histogram.record(8);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(700);
+        }
+        assertEquals(histogram.getCount(), 100);
+        assertEquals(histogram.getSum(), 90 * 8 + 10 * 700);
+        assertEquals(histogram.getMax(), 700);
+        assertEquals(histogram.getPercentile(0.5), 10);
+        assertEquals(histogram.getPercentile(0.95), 700);
+        histogram.reset();
+        assertEquals(histogram.getCount(), 0);
+        assertEquals(histogram.getMax(), 0);
+    }
+
+    @Test
+    void endpointCounters() {
+        EndpointMetrics endpoint = new EndpointMetrics(ApiResource.RequestMethod.POST, "/api/meta/entity/bulk");
+        endpoint.recordRetries(2);
+        assertEquals(endpoint.getRetries(), 2);
+        assertEquals(endpoint.getRequests(), 0);
+        assertTrue(endpoint.toString().startsWith("POST /api/meta/entity/bulk: 0 requests (2 retries"));
+    }
+}
@@ -0,0 +1,80 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.serde;
+
+import static org.testng.Assert.*;
+
+import com.atlan.mock.MockAtlanTenant;
+import com.atlan.mock.MockTenant;
+import com.atlan.model.assets.Asset;
+import com.atlan.model.assets.IndistinctAsset;
+import com.atlan.model.assets.Table;
+import com.atlan.model.enums.CertificateStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the pre-bound deserialization of assets through the {@link AssetDeserializerRegistry}.
+ */
+public class AssetDeserializerRegistryTest {
+
+    private static final String TABLE = "{\"typeName\":\"Table\",\"guid\":\"guid-1\",\"status\":\"ACTIVE\","
+            + "\"attributes\":{\"qualifiedName\":\"default/snowflake/123/DB/SCHEMA/TABLE\",\"name\":\"TABLE\","
+            + "\"certificateStatus\":\"VERIFIED\",\"columnCount\":12,\"rowCount\":3456789,\"isPartitioned\":false,"
+            + "\"ownerUsers\":[\"jdoe\",\"asmith\"],\"description\":\"\",\"userDescription\":null,"
+            + "\"atlanSchema\":{\"typeName\":\"Schema\",\"guid\":\"guid-2\",\"uniqueAttributes\":"
+            + "{\"qualifiedName\":\"default/snowflake/123/DB/SCHEMA\"}}},"
+            + "\"relationshipAttributes\":{\"columns\":[{\"typeName\":\"Column\",\"guid\":\"guid-3\","
+            + "\"relationshipGuid\":\"rel-1\",\"relationshipType\":\"table_columns\",\"displayText\":\"COL\"}]}}";
+
+    @BeforeClass
+    void init() throws InterruptedException {
+        MockAtlanTenant.initializeClient();
+    }
+
+    @Test
+    void registryResolvesKnownTypes() {
+        AssetTypeDeserializer table = AssetDeserializerRegistry.get(Table.TYPE_NAME);
+        assertNotNull(table);
+        assertEquals(table.getAssetClass(), Table.class);
+        assertSame(AssetDeserializerRegistry.get(Table.TYPE_NAME), table);
+        AssetTypeDeserializer indistinct = AssetDeserializerRegistry.get(null);
+        assertNotNull(indistinct);
+        assertEquals(indistinct.getAssetClass(), IndistinctAsset.class);
+    }
+
+    @Test
+    void registryFallsBackForUnknownTypes() {
+        assertNull(AssetDeserializerRegistry.get("SomeTypeThatDoesNotExist"));
+    }
+
+    @Test
+    void bindingsOnlyForKnownAttributes() {
+        AssetTypeDeserializer table = AssetDeserializerRegistry.get(Table.TYPE_NAME);
+        assertNotNull(table);
+        assertEquals(table.getBinding("columnCount").getFieldName(), "columnCount");
+        assertNull(table.getBinding("abc123.def456"));
+    }
+
+    @Test
+    void preBoundMatchesReflection() throws IOException {
+        JsonNode root = Serde.allInclusiveMapper.readTree(TABLE);
+        AssetDeserializer deserializer = new AssetDeserializer(MockTenant.client);
+        Asset reflected = deserializer.deserialize(root, Long.MAX_VALUE, null);
+        Asset bound = deserializer.deserialize(root, Long.MAX_VALUE);
+        assertTrue(bound instanceof Table);
+        assertEquals(bound, reflected);
+        assertEquals(bound.getNullFields(), reflected.getNullFields());
+        Table table = (Table) bound;
+        assertEquals(table.getCertificateStatus(), CertificateStatus.VERIFIED);
+        assertEquals(table.getColumnCount().longValue(), 12L);
+        assertEquals(table.getRowCount().longValue(), 3456789L);
+        assertFalse(table.getIsPartitioned());
+        assertEquals(table.getOwnerUsers().size(), 2);
+        assertEquals(table.getSchema().getGuid(), "guid-2");
+        assertEquals(table.getColumns().size(), 1);
+        assertTrue(table.getNullFields().contains("description"));
+    }
+}
@@ -0,0 +1,100 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.serde;
+
+import static org.testng.Assert.*;
+
+import com.atlan.mock.MockAtlanTenant;
+import com.atlan.mock.MockTenant;
+import com.atlan.model.assets.Asset;
+import com.atlan.model.assets.Column;
+import com.atlan.model.assets.CustomEntity;
+import com.atlan.model.assets.Readme;
+import com.atlan.model.assets.Schema;
+import com.atlan.model.assets.Table;
+import com.atlan.model.core.AtlanTag;
+import com.atlan.model.enums.AtlanStatus;
+import com.atlan.model.enums.CertificateStatus;
+import com.atlan.model.relations.Reference;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Golden-output tests for the {@link AssetSerializer}, verifying its output is byte-for-byte identical to that of
+ * the original reflection-based serialization ({@link ReflectiveAssetSerializer}).
+ */
+public class AssetSerializerTest {
+
+    private ObjectMapper mapper;
+
+    @BeforeClass
+    void init() throws InterruptedException {
+        MockAtlanTenant.initializeClient();
+        mapper = Serde.createMapper(MockTenant.client);
+    }
+
+    @DataProvider(name = "assets")
+    Object[][] assets() {
+        return new Object[][] {
+            {Table.creator("TABLE", "default/snowflake/1234567890/DB/SCHEMA").build()},
+            {
+                Table._internal()
+                        .guid("guid")
+                        .qualifiedName("default/snowflake/1234567890/DB/SCHEMA/TABLE")
+                        .name("TABLE")
+                        .status(AtlanStatus.ACTIVE)
+                        .createTime(123456789L)
+                        .certificateStatus(CertificateStatus.VERIFIED)
+                        .columnCount(12L)
+                        .isPartitioned(false)
+                        .ownerUsers(List.of("jdoe", "asmith"))
+                        .schema(Schema.refByGuid("schema-guid"))
+                        .column(Column.refByGuid("col-1", Reference.SaveSemantic.APPEND))
+                        .column(Column.refByGuid("col-2", Reference.SaveSemantic.REMOVE))
+                        .column(Column.refByGuid("col-3"))
+                        .atlanTag(AtlanTag.of("String0"))
+                        .atlanTag(AtlanTag.of("String1", Reference.SaveSemantic.APPEND))
+                        .removeDescription()
+                        .nullField("ownerGroups")
+                        .build()
+            },
+            {
+                Readme._internal()
+                        .qualifiedName("guid/readme")
+                        .name("README")
+                        .description("<h1>Some content</h1>")
+                        .build()
+            },
+            {
+                CustomEntity._internal()
+                        .qualifiedName("default/custom/1234567890/entity")
+                        .name("entity")
+                        .iconUrl("https://example.com/icon.png")
+                        .build()
+            },
+        };
+    }
+
+    @Test(dataProvider = "assets")
+    void matchesReflectiveSerialization(Asset asset) throws IOException {
+        String expected = serialize(new ReflectiveAssetSerializer(MockTenant.client), asset);
+        String actual = serialize(new AssetSerializer(MockTenant.client), asset);
+        assertEquals(actual, expected);
+        assertEquals(actual, asset.toJson(MockTenant.client));
+    }
+
+    private String serialize(JsonSerializer<Asset> serializer, Asset asset) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator gen = mapper.getFactory().createGenerator(writer)) {
+            serializer.serialize(asset, gen, mapper.getSerializerProviderInstance());
+        }
+        return writer.toString();
+    }
+}
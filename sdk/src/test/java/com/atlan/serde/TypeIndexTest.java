@@ -0,0 +1,65 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.serde;
+
+import static org.testng.Assert.*;
+
+import com.atlan.model.assets.GlossaryTerm;
+import com.atlan.model.assets.Table;
+import com.atlan.model.relations.GlossaryAntonym;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the index of asset types, and the registry built from it.
+ */
+public class TypeIndexTest {
+
+    /** Provider of an extra asset type, registered for these tests through the service loader. */
+    public static class TestTypeProvider implements AssetTypeProvider {
+        /** {@inheritDoc} */
+        @Override
+        public Map<String, String> getAssetClassNames() {
+            return Map.of("ExternalTable", Table.class.getName());
+        }
+    }
+
+    @Test
+    void scanIndexesWithoutInheritedTypes() {
+        TypeIndex index = TypeIndex.scan("com.atlan.model.assets", "com.atlan.model.relations");
+        assertEquals(index.getAssetClassNames().get(Table.TYPE_NAME), Table.class.getName());
+        assertEquals(index.getAssetClassNames().get(GlossaryTerm.TYPE_NAME), GlossaryTerm.class.getName());
+        assertEquals(
+                index.getRelationshipAttributesClassNames().get(GlossaryAntonym.TYPE_NAME),
+                GlossaryAntonym.class.getName());
+        // Nested subclasses inherit their type from the asset, so must not replace it in the index
+        assertFalse(index.getAssetClassNames().containsValue(GlossaryAntonym.Antonym.class.getName()));
+    }
+
+    @Test
+    void indexRoundTrips() throws IOException {
+        TypeIndex index = TypeIndex.scan("com.atlan.model.relations");
+        StringWriter writer = new StringWriter();
+        index.write(writer);
+        TypeIndex read = TypeIndex.read(new ByteArrayInputStream(writer.toString().getBytes(StandardCharsets.UTF_8)));
+        assertEquals(read.getAssetClassNames(), index.getAssetClassNames());
+        assertEquals(read.getRelationshipAttributesClassNames(), index.getRelationshipAttributesClassNames());
+    }
+
+    @Test
+    void registryResolvesClassesLazily() throws ClassNotFoundException {
+        assertEquals(Serde.getAssetClassForType(Table.TYPE_NAME), Table.class);
+        assertEquals(Serde.getBuilderClassForType(Table.TYPE_NAME).getEnclosingClass(), Table.class);
+        assertEquals(Serde.getRelationshipAttributesClassForType(GlossaryAntonym.TYPE_NAME), GlossaryAntonym.class);
+        assertThrows(ClassNotFoundException.class, () -> Serde.getAssetClassForType("NotAType"));
+    }
+
+    @Test
+    void registryIncludesProvidedTypes() throws ClassNotFoundException {
+        assertEquals(Serde.getAssetClassForType("ExternalTable"), Table.class);
+    }
+}
@@ -0,0 +1,125 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.util;
+
+import static org.testng.Assert.*;
+
+import com.atlan.exception.AtlanException;
+import com.atlan.mock.MockAtlanTenant;
+import com.atlan.mock.MockTenant;
+import com.atlan.model.assets.Asset;
+import com.atlan.model.assets.Table;
+import com.atlan.model.core.AssetMutationResponse;
+import com.atlan.model.enums.AssetCreationHandling;
+import com.atlan.model.enums.AtlanTagHandling;
+import com.atlan.model.enums.CustomMetadataHandling;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the pipelined mode of {@link AssetBatch}.
+ */
+public class AssetBatchTest {
+
+    @BeforeClass
+    void init() throws InterruptedException {
+        MockAtlanTenant.initializeClient();
+    }
+
+    private static AssetBatch pipelined(int pipelineDepth) {
+        return new AssetBatch(
+                MockTenant.client,
+                2,
+                AtlanTagHandling.IGNORE,
+                CustomMetadataHandling.IGNORE,
+                false,
+                false,
+                true,
+                false,
+                AssetCreationHandling.FULL,
+                false,
+                pipelineDepth);
+    }
+
+    private static Asset table(String connection, int idx) {
+        return Table._internal()
+                .guid("-" + idx)
+                .qualifiedName("default/" + connection + "/t" + idx)
+                .name("t" + idx)
+                .build();
+    }
+
+    @Test
+    void pipelinedBatchesAreTrackedOnFlush() throws AtlanException {
+        try (AssetBatch batch = pipelined(2)) {
+            for (int i = 1; i <= 4; i++) {
+                // Full batches are sent in the background, so nothing is returned when adding
+                assertNull(batch.add(table("pipelined-batch-test", i)));
+            }
+            assertNull(batch.flush());
+            assertEquals(batch.getNumCreated().get(), 4);
+            assertEquals(batch.getCreated().size(), 4);
+            assertEquals(
+                    batch.getResolvedGuids(),
+                    Map.of("-1", "guid-1", "-2", "guid-2", "-3", "guid-3", "-4", "guid-4"));
+        }
+    }
+
+    @Test
+    void flushAsyncIsABarrier() throws AtlanException, InterruptedException, ExecutionException {
+        try (AssetBatch batch = pipelined(1)) {
+            batch.add(table("pipelined-batch-test", 1));
+            batch.add(table("pipelined-batch-test", 2));
+            batch.add(table("pipelined-batch-test", 3));
+            CompletableFuture<AssetMutationResponse> barrier = batch.flushAsync();
+            AssetMutationResponse response = barrier.get();
+            // The barrier's response is for the leftover asset, but everything submitted
+            // before the barrier must also have been tracked once it completes
+            assertNotNull(response);
+            assertEquals(response.getGuidAssignments().get("-3"), "guid-3");
+            assertEquals(batch.getResolvedGuids().get("-1"), "guid-1");
+            assertEquals(batch.getResolvedGuids().get("-2"), "guid-2");
+            assertEquals(batch.getResolvedGuids().get("-3"), "guid-3");
+        }
+    }
+
+    @Test
+    void pipelinedFailuresAreRaisedOnce() throws AtlanException {
+        try (AssetBatch batch = pipelined(2)) {
+            // Depending on timing, the failure is raised either by the add that fills the batch or the flush
+            assertThrows(AtlanException.class, () -> {
+                batch.add(table("pipelined-batch-failure", 1));
+                batch.add(table("pipelined-batch-failure", 2));
+                batch.flush();
+            });
+            assertNull(batch.flush());
+            assertTrue(batch.getResolvedGuids().isEmpty());
+        }
+    }
+
+    @Test
+    void synchronousFailureRetainsAssets() {
+        try (AssetBatch batch = pipelined(0)) {
+            assertThrows(AtlanException.class, () -> {
+                batch.add(table("pipelined-batch-failure", 1));
+                batch.flush();
+            });
+            // The asset that failed to send is still in the batch, so sending it again fails again
+            assertThrows(AtlanException.class, batch::flush);
+        }
+    }
+
+    @Test
+    void synchronousBatchIsUnchanged() throws AtlanException {
+        try (AssetBatch batch = pipelined(0)) {
+            assertNull(batch.add(table("pipelined-batch-test", 1)));
+            AssetMutationResponse response = batch.add(table("pipelined-batch-test", 2));
+            assertNotNull(response);
+            assertEquals(batch.getResolvedGuids().size(), 2);
+            assertNull(batch.flush());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/* SPDX-License-Identifier: Apache-2.0
+   Copyright 2026 Atlan Pte. Ltd. */
+package com.atlan.util;
+
+import static org.testng.Assert.*;
+
+import com.atlan.exception.AtlanException;
+import com.atlan.mock.MockAtlanTenant;
+import com.atlan.mock.MockTenant;
+import com.atlan.model.assets.Table;
+import com.atlan.model.enums.AssetCreationHandling;
+import com.atlan.model.enums.AtlanTagHandling;
+import com.atlan.model.enums.CustomMetadataHandling;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the concurrency-limited mode of {@link ParallelBatch}.
+ */
+public class ParallelBatchTest {
+
+    /** Delay on each (mocked) save, see entity-bulk-parallel-batch.json. */
+    private static final long SAVE_DELAY = 1000;
+
+    @BeforeClass
+    void init() throws InterruptedException {
+        MockAtlanTenant.initializeClient();
+    }
+
+    @Test
+    void batchesAreSentConcurrentlyUpToTheLimit() throws AtlanException, InterruptedException, ExecutionException {
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+        try (ParallelBatch batch = new ParallelBatch(
+                MockTenant.client,
+                1,
+                AtlanTagHandling.IGNORE,
+                CustomMetadataHandling.IGNORE,
+                false,
+                false,
+                true,
+                false,
+                AssetCreationHandling.FULL,
+                false,
+                2)) {
+            long start = System.currentTimeMillis();
+            List<Future<?>> adds = new ArrayList<>();
+            for (int i = 1; i <= 4; i++) {
+                int idx = i;
+                // With a batch size of 1, every add sends its batch (and waits for the response)
+                adds.add(threads.submit(() -> batch.add(Table._internal()
+                        .guid("-" + idx)
+                        .qualifiedName("default/parallel-batch-test/t" + idx)
+                        .name("t" + idx)
+                        .build())));
+            }
+            for (Future<?> add : adds) {
+                add.get();
+            }
+            long elapsed = System.currentTimeMillis() - start;
+            batch.flush();
+            assertEquals(batch.getNumCreated(), 4);
+            // At most 2 batches are in flight at a time, so the 4 saves need at least 2 rounds...
+            assertTrue(elapsed >= 2 * SAVE_DELAY, "Took only " + elapsed + "ms");
+            // ... but more than one batch is in flight at a time, so they need fewer than 4 rounds
+            assertTrue(elapsed < 4 * SAVE_DELAY, "Took " + elapsed + "ms");
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+}
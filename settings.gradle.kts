@@ -3,6 +3,7 @@ rootProject.name = "atlan-java"
 include("sdk")
 include("integration-tests")
 include("mocks")
+include("benchmarks")
 include("package-toolkit:config")
 include("package-toolkit:runtime")
 include("package-toolkit:testing")